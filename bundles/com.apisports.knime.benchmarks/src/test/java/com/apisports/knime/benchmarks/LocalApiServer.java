@@ -0,0 +1,459 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks;
+
+import com.apisports.knime.core.ratelimit.ServerQuota;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the API-Sports API that replays recorded responses.
+ *
+ * Each endpoint serves one recorded response envelope. The elements of its "response"
+ * array are repeated to fill a page, with the ID of the endpoint's main entity renumbered
+ * so rows stay distinct, and the "paging" object reports the configured number of pages.
+ * A query by that ID, e.g. {@code /odds?fixture=123}, returns elements with the requested ID.
+ * Queries by {@code id} or {@code ids}, e.g. {@code /fixtures?ids=1-2-3}, return one element
+ * per requested ID on a single page, like the real API. The fixture sub-documents
+ * ({@code /fixtures/events}, {@code /lineups}, {@code /statistics} and {@code /players}) are
+ * served as embedded in the full fixture recording.
+ * Latency, server errors and 429 responses can be injected, and the rate limit headers
+ * of the real API are sent when a quota is configured.
+ *
+ * Point an {@link com.apisports.knime.core.client.ApiSportsHttpClient} at
+ * {@link #getBaseUrl()} to run it against the stand-in.
+ */
+public class LocalApiServer implements AutoCloseable {
+
+    /** Recordings shipped with this fragment, by endpoint path. */
+    private static final Map<String, String> DEFAULT_RECORDINGS = Map.of(
+        "/fixtures", "/recordings/fixtures.json",
+        "/players", "/recordings/players.json",
+        "/odds", "/recordings/odds.json",
+        "/teams", "/recordings/teams.json",
+        "/leagues", "/recordings/leagues.json");
+
+    /** Field holding the renumbered entity of each endpoint's elements. */
+    private static final Map<String, String> ID_FIELDS = Map.of(
+        "/fixtures", "fixture",
+        "/players", "player",
+        "/odds", "fixture",
+        "/teams", "team",
+        "/leagues", "league");
+
+    /** Recording whose embedded sub-documents are served by the fixture detail endpoints. */
+    private static final String FIXTURE_DETAILS_RECORDING = "/recordings/fixture-full.json";
+    private static final String[] FIXTURE_DETAILS = {"events", "lineups", "statistics", "players"};
+
+    private static final String PAGE_PARAM = "page";
+    private static final String ID_PARAM = "id";
+    private static final String IDS_PARAM = "ids";
+
+    /**
+     * Behaviour of the stand-in. Setters return this for chaining.
+     */
+    public static final class Options {
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private double errorRate;
+        private double rateLimitRate;
+        private int elementsPerPage = 20;
+        private final Map<String, Integer> elementsByEndpoint = new HashMap<>();
+        private final Map<String, Integer> pagesByEndpoint = new HashMap<>();
+        private int requestsPerMinute;
+        private int requestsPerDay;
+        private int threads = 32;
+        private long seed = 42;
+
+        /** Fixed delay before each response. */
+        public Options latency(Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /** Upper bound of a random delay added to the latency. */
+        public Options jitter(Duration jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /** Fraction of requests answered with HTTP 500, see also {@link LocalApiServer#setFailureRates}. */
+        public Options errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /** Fraction of requests answered with HTTP 429. */
+        public Options rateLimitRate(double rateLimitRate) {
+            this.rateLimitRate = rateLimitRate;
+            return this;
+        }
+
+        /** Elements per page for endpoints without their own setting. */
+        public Options elementsPerPage(int elementsPerPage) {
+            this.elementsPerPage = elementsPerPage;
+            return this;
+        }
+
+        /** Elements per page of one endpoint. */
+        public Options elementsPerPage(String endpoint, int elements) {
+            elementsByEndpoint.put(endpoint, elements);
+            return this;
+        }
+
+        /** Number of pages reported for an endpoint; endpoints default to one page. */
+        public Options pages(String endpoint, int pages) {
+            pagesByEndpoint.put(endpoint, pages);
+            return this;
+        }
+
+        /**
+         * Quota reported in the rate limit headers; 0 sends no headers. Remaining counts are
+         * tracked per fixed minute and per server lifetime.
+         */
+        public Options quota(int requestsPerMinute, int requestsPerDay) {
+            this.requestsPerMinute = requestsPerMinute;
+            this.requestsPerDay = requestsPerDay;
+            return this;
+        }
+
+        /** Number of threads serving requests. */
+        public Options threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /** Seed of the random source for jitter and injected failures. */
+        public Options seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, ObjectNode> recordings = new ConcurrentHashMap<>();
+    /** Endpoints whose recorded elements are served once, as recorded. */
+    private final Set<String> servedAsRecorded = ConcurrentHashMap.newKeySet();
+    private final Options options;
+    private final Random random;
+    private volatile double errorRate;
+    private volatile double rateLimitRate;
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong errorsInjected = new AtomicLong();
+    private final AtomicLong rateLimitsInjected = new AtomicLong();
+    private final AtomicLong minuteWindow = new AtomicLong();
+    private final AtomicLong minuteCount = new AtomicLong();
+
+    private LocalApiServer(Options options) throws IOException {
+        this.options = options;
+        this.random = new Random(options.seed);
+        this.errorRate = options.errorRate;
+        this.rateLimitRate = options.rateLimitRate;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newFixedThreadPool(options.threads, r -> {
+            Thread thread = new Thread(r, "local-api-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Start a stand-in serving the recordings shipped with this fragment.
+     */
+    public static LocalApiServer start(Options options) throws IOException {
+        LocalApiServer apiServer = new LocalApiServer(options);
+        for (Map.Entry<String, String> recording : DEFAULT_RECORDINGS.entrySet()) {
+            apiServer.record(recording.getKey(), readRecording(recording.getValue()));
+        }
+        apiServer.recordFixtureDetails(readRecording(FIXTURE_DETAILS_RECORDING));
+        apiServer.server.start();
+        return apiServer;
+    }
+
+    private static String readRecording(String resource) throws IOException {
+        try (InputStream in = LocalApiServer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Recording not found: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Serve the sub-documents embedded in the first fixture of a /fixtures envelope from the
+     * fixture detail endpoints.
+     */
+    private void recordFixtureDetails(String envelope) throws IOException {
+        JsonNode fixtureItem = mapper.readTree(envelope).path("response").path(0);
+        for (String detail : FIXTURE_DETAILS) {
+            JsonNode elements = fixtureItem.path(detail);
+            if (!elements.isArray()) {
+                throw new IOException("Fixture recording has no " + detail);
+            }
+            ObjectNode detailEnvelope = mapper.createObjectNode();
+            detailEnvelope.put("get", "fixtures/" + detail);
+            detailEnvelope.putArray("errors");
+            detailEnvelope.set("response", elements);
+            String endpoint = "/fixtures/" + detail;
+            recordings.put(endpoint, detailEnvelope);
+            servedAsRecorded.add(endpoint);
+        }
+    }
+
+    /**
+     * Serve a recorded response envelope for an endpoint, replacing any previous recording.
+     */
+    public void record(String endpoint, String envelope) throws IOException {
+        JsonNode node = mapper.readTree(envelope);
+        if (!(node instanceof ObjectNode) || !node.path("response").isArray()) {
+            throw new IOException("Recording for " + endpoint + " is not a response envelope");
+        }
+        recordings.put(endpoint, (ObjectNode) node);
+    }
+
+    /**
+     * Get the base URL to configure the client with.
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /** Number of requests answered, including injected failures. */
+    public long getServedCount() {
+        return served.get();
+    }
+
+    public long getErrorsInjected() {
+        return errorsInjected.get();
+    }
+
+    public long getRateLimitsInjected() {
+        return rateLimitsInjected.get();
+    }
+
+    /**
+     * Change the fractions of requests answered with HTTP 500 and 429 while the stand-in runs,
+     * e.g. to let a run stopped by injected failures be resumed against the same base URL.
+     */
+    public void setFailureRates(double errorRate, double rateLimitRate) {
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            served.incrementAndGet();
+            delay();
+
+            if (options.requestsPerMinute > 0) {
+                addQuotaHeaders(exchange);
+            }
+            double rateLimitRate = this.rateLimitRate;
+            double roll = random.nextDouble();
+            if (roll < rateLimitRate) {
+                rateLimitsInjected.incrementAndGet();
+                exchange.getResponseHeaders().set(ServerQuota.MINUTE_REMAINING_HEADER, "0");
+                send(exchange, 429, "{\"message\":\"Too many requests\"}");
+                return;
+            }
+            if (roll < rateLimitRate + errorRate) {
+                errorsInjected.incrementAndGet();
+                send(exchange, 500, "{\"message\":\"Internal server error\"}");
+                return;
+            }
+
+            String endpoint = exchange.getRequestURI().getPath();
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            ObjectNode recording = recordings.get(endpoint);
+            if (recording == null) {
+                // The API answers unknown endpoints with 200 and an error in the envelope
+                send(exchange, 200, "{\"errors\":{\"endpoint\":\"This endpoint do not exist.\"},\"response\":[]}");
+                return;
+            }
+            send(exchange, 200, mapper.writeValueAsString(page(endpoint, recording, params)));
+        }
+    }
+
+    private ObjectNode page(String endpoint, ObjectNode recording, Map<String, String> params) {
+        ArrayNode recorded = (ArrayNode) recording.get("response");
+        String idField = ID_FIELDS.get(endpoint);
+        int[] requestedIds = idField != null ? parseIds(params) : null;
+        boolean single = requestedIds != null || servedAsRecorded.contains(endpoint);
+
+        int totalPages = single ? 1 : options.pagesByEndpoint.getOrDefault(endpoint, 1);
+        int page = parsePage(params.get(PAGE_PARAM));
+        int elements;
+        if (page > totalPages) {
+            elements = 0;
+        } else if (requestedIds != null) {
+            elements = requestedIds.length;
+        } else if (single) {
+            elements = recorded.size();
+        } else {
+            elements = options.elementsByEndpoint.getOrDefault(endpoint, options.elementsPerPage);
+        }
+
+        Map<String, String> query = new TreeMap<>(params);
+        query.remove(PAGE_PARAM);
+        // Entities are numbered per query, so different queries return different IDs
+        int idBase = Math.floorMod(query.hashCode(), 10_000) * 10_000 + (page - 1) * elements;
+        String requestedId = idField != null ? params.get(idField) : null;
+
+        ArrayNode response = mapper.createArrayNode();
+        for (int i = 0; i < elements && !recorded.isEmpty(); i++) {
+            ObjectNode element = (ObjectNode) recorded.get(i % recorded.size()).deepCopy();
+            if (idField != null && element.get(idField) instanceof ObjectNode) {
+                ObjectNode entity = (ObjectNode) element.get(idField);
+                if (requestedIds != null) {
+                    entity.put("id", requestedIds[i]);
+                } else if (requestedId != null) {
+                    entity.put("id", Integer.parseInt(requestedId));
+                } else {
+                    entity.put("id", idBase + i + 1);
+                }
+            }
+            response.add(element);
+        }
+
+        ObjectNode envelope = recording.deepCopy();
+        envelope.set("parameters", mapper.valueToTree(params));
+        envelope.put("results", response.size());
+        ObjectNode paging = envelope.putObject("paging");
+        paging.put("current", page);
+        paging.put("total", totalPages);
+        envelope.set("response", response);
+        return envelope;
+    }
+
+    private void delay() {
+        long millis = options.latency.toMillis();
+        if (!options.jitter.isZero()) {
+            millis += (long) (random.nextDouble() * options.jitter.toMillis());
+        }
+        if (millis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void addQuotaHeaders(HttpExchange exchange) {
+        long minute = System.currentTimeMillis() / 60_000;
+        if (minuteWindow.getAndSet(minute) != minute) {
+            minuteCount.set(0);
+        }
+        long usedThisMinute = minuteCount.incrementAndGet();
+        long usedToday = served.get();
+        exchange.getResponseHeaders().set(ServerQuota.MINUTE_LIMIT_HEADER,
+            String.valueOf(options.requestsPerMinute));
+        exchange.getResponseHeaders().set(ServerQuota.MINUTE_REMAINING_HEADER,
+            String.valueOf(Math.max(0, options.requestsPerMinute - usedThisMinute)));
+        if (options.requestsPerDay > 0) {
+            exchange.getResponseHeaders().set(ServerQuota.DAY_LIMIT_HEADER,
+                String.valueOf(options.requestsPerDay));
+            exchange.getResponseHeaders().set(ServerQuota.DAY_REMAINING_HEADER,
+                String.valueOf(Math.max(0, options.requestsPerDay - usedToday)));
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new TreeMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * IDs requested by an {@code id} or a dash-separated {@code ids} parameter, or null if the
+     * query has neither.
+     */
+    private static int[] parseIds(Map<String, String> params) {
+        String ids = params.containsKey(IDS_PARAM) ? params.get(IDS_PARAM) : params.get(ID_PARAM);
+        if (ids == null) {
+            return null;
+        }
+        try {
+            return Arrays.stream(ids.split("-")).mapToInt(Integer::parseInt).toArray();
+        } catch (NumberFormatException e) {
+            return new int[0];
+        }
+    }
+
+    private static int parsePage(String value) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks;
+
+import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.port.ApiSportsConnectionPortObject;
+import com.apisports.knime.port.ApiSportsConnectionPortObjectSpec;
+import com.apisports.knime.port.ReferenceDAO;
+import com.apisports.knime.port.ReferenceDataPortObject;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Runs node models outside a workflow, the way the streaming executor runs them: the
+ * connection and reference data are passed as port objects, an IDs table is streamed row by
+ * row and the output rows are counted as they are pushed.
+ */
+public final class NodeTestHarness {
+
+    private static final String API_KEY_HASH = "benchmark";
+
+    private NodeTestHarness() {
+    }
+
+    /**
+     * Create an execution context that is not part of a workflow.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ExecutionContext createExecutionContext() {
+        NodeFactory factory = new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, NotInWorkflowDataRepository.newInstance());
+    }
+
+    /**
+     * Connection port of an API-Sports Connector using the given client.
+     */
+    public static PortObjectInput connection(ApiSportsHttpClient client) {
+        return new PortObjectInput(new ApiSportsConnectionPortObject(
+            new ApiSportsConnectionPortObjectSpec(client.getSport(), API_KEY_HASH), client));
+    }
+
+    /**
+     * Reference data port of an empty reference database, created at the given path.
+     */
+    public static PortObjectInput emptyReferenceData(Path dbFile) throws SQLException {
+        new ReferenceDAO(dbFile.toString()).close();
+        return new PortObjectInput(new ReferenceDataPortObject(dbFile.toString()));
+    }
+
+    /**
+     * Delete a reference database and its write-ahead log.
+     */
+    public static void deleteDatabase(Path dbFile) throws IOException {
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Paths.get(dbFile + "-wal"));
+        Files.deleteIfExists(Paths.get(dbFile + "-shm"));
+    }
+
+    /**
+     * Streamed table of one int column holding the given IDs, e.g. the Fixture_ID column of
+     * a Fixtures node output.
+     */
+    public static RowInput idTable(String column, int firstId, int count) {
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator(column, IntCell.TYPE).createSpec());
+        Deque<DataRow> rows = new ArrayDeque<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new DefaultRow(new RowKey("Row" + i), new IntCell(firstId + i)));
+        }
+        return new RowInput() {
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return spec;
+            }
+
+            @Override
+            public DataRow poll() {
+                return rows.poll();
+            }
+
+            @Override
+            public void close() {
+                rows.clear();
+            }
+        };
+    }
+
+    /**
+     * Run a node model's streamable operator to completion, as a single partition.
+     */
+    public static void runStreamed(NodeModel model, PortInput[] inputs, PortOutput[] outputs,
+                                   ExecutionContext exec) throws Exception {
+        PortObjectSpec[] inSpecs = new PortObjectSpec[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] instanceof PortObjectInput) {
+                PortObject portObject = ((PortObjectInput) inputs[i]).getPortObject();
+                inSpecs[i] = portObject != null ? portObject.getSpec() : null;
+            } else if (inputs[i] instanceof RowInput) {
+                inSpecs[i] = ((RowInput) inputs[i]).getDataTableSpec();
+            }
+        }
+        model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs).runFinal(inputs, outputs, exec);
+    }
+
+    /**
+     * Row output that counts the rows pushed, optionally handing each to a consumer.
+     */
+    public static final class CountingRowOutput extends RowOutput {
+        private final Consumer<DataRow> consumer;
+        private long rows;
+        private boolean closed;
+
+        public CountingRowOutput() {
+            this(row -> { });
+        }
+
+        public CountingRowOutput(Consumer<DataRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void push(DataRow row) {
+            if (closed) {
+                throw new IllegalStateException("Row pushed after the output was closed");
+            }
+            consumer.accept(row);
+            rows++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        public long getRowCount() {
+            return rows;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks;
+
+import com.apisports.knime.core.cache.CacheManager;
+import com.apisports.knime.core.cache.DeflateCodec;
+import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.model.Sport;
+import com.apisports.knime.core.ratelimit.RateLimiterManager;
+import com.apisports.knime.football.client.FootballDescriptors;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput harness for the node tests of this fragment: starts a {@link LocalApiServer},
+ * creates clients pointed at it and measures requests per second, rows per second and peak
+ * heap of a scenario.
+ *
+ * The scenarios live next to the node models they exercise and run them end to end through
+ * {@link NodeTestHarness}. They are left out of a plain build and run in the benchmarks
+ * profile, {@code mvn verify -Pbenchmarks}, with small defaults; larger runs are configured
+ * with system properties, e.g.
+ * {@code mvn verify -Pbenchmarks -Dbenchmark.argLine="-Dbenchmark.requests=2000 -Dbenchmark.latency-ms=50"}:
+ * <ul>
+ *   <li>{@code benchmark.requests}: queries per scenario (default 40)</li>
+ *   <li>{@code benchmark.concurrency}: max concurrent requests of the client (default 8)</li>
+ *   <li>{@code benchmark.pages}: pages per paged query (default 3)</li>
+ *   <li>{@code benchmark.elements}: elements per page (default 20)</li>
+ *   <li>{@code benchmark.leagues}: leagues served by /leagues (default 50)</li>
+ *   <li>{@code benchmark.latency-ms}, {@code benchmark.jitter-ms}: server latency per request (default 5, 5)</li>
+ *   <li>{@code benchmark.error-rate}, {@code benchmark.rate-limit-rate}: fractions of requests answered
+ *       with HTTP 500 and 429 (default 0, or the scenario's own failure rates)</li>
+ *   <li>{@code benchmark.quota-per-minute}, {@code benchmark.quota-per-day}: quota reported in the
+ *       rate limit headers (default 0, no headers)</li>
+ * </ul>
+ */
+public final class ThroughputBenchmark implements AutoCloseable {
+
+    private static final String PROPERTY_PREFIX = "benchmark.";
+    private static final String API_KEY = "benchmark";
+    public static final int SEASON = 2024;
+
+    private final LocalApiServer server;
+
+    /**
+     * Result of one scenario; failures are the server errors and 429 responses injected.
+     */
+    public record Result(String scenario, long requests, long rows, long failures, long millis,
+                         long peakHeapBytes) {
+
+        public double requestsPerSecond() {
+            return millis == 0 ? 0 : requests * 1000.0 / millis;
+        }
+
+        public double rowsPerSecond() {
+            return millis == 0 ? 0 : rows * 1000.0 / millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %6d requests %8d rows %4d failures %7d ms %9.1f requests/s %10.1f rows/s %7.1f heap MB",
+                scenario, requests, rows, failures, millis, requestsPerSecond(), rowsPerSecond(),
+                peakHeapBytes / (1024.0 * 1024.0));
+        }
+    }
+
+    /**
+     * Body of a scenario: run the node models with a connection to the client and return the
+     * rows they output.
+     */
+    @FunctionalInterface
+    public interface Scenario {
+        long run(ApiSportsHttpClient client) throws Exception;
+    }
+
+    private ThroughputBenchmark(LocalApiServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Start a local API stand-in with the configured latency, page sizes, page counts,
+     * failure rates and quota.
+     */
+    public static ThroughputBenchmark start() throws IOException {
+        return start(0, 0);
+    }
+
+    /**
+     * Start a local API stand-in like {@link #start()}, injecting failures at the given rates
+     * unless the failure rate properties are set.
+     */
+    public static ThroughputBenchmark start(double errorRate, double rateLimitRate) throws IOException {
+        FootballDescriptors.ensureLoaded();
+        LocalApiServer.Options options = new LocalApiServer.Options()
+            .latency(Duration.ofMillis(intOption("latency-ms", 5)))
+            .jitter(Duration.ofMillis(intOption("jitter-ms", 5)))
+            .errorRate(doubleOption("error-rate", errorRate))
+            .rateLimitRate(doubleOption("rate-limit-rate", rateLimitRate))
+            .quota(intOption("quota-per-minute", 0), intOption("quota-per-day", 0))
+            .elementsPerPage(elements())
+            .elementsPerPage("/leagues", leagues())
+            .pages("/players", pages())
+            .pages("/odds", pages());
+        return new ThroughputBenchmark(LocalApiServer.start(options));
+    }
+
+    /** Queries per scenario. */
+    public static int requests() {
+        return intOption("requests", 40);
+    }
+
+    /** Pages of each paged query. */
+    public static int pages() {
+        return intOption("pages", 3);
+    }
+
+    /** Elements per page. */
+    public static int elements() {
+        return intOption("elements", 20);
+    }
+
+    /** Leagues served by /leagues. */
+    public static int leagues() {
+        return intOption("leagues", 50);
+    }
+
+    public LocalApiServer getServer() {
+        return server;
+    }
+
+    /**
+     * Run a scenario with a fresh client and memory-only cache, so nothing is served from
+     * cache, and print its result.
+     */
+    public Result measure(String scenario, Scenario body) throws Exception {
+        ApiSportsHttpClient client = new ApiSportsHttpClient(API_KEY, Sport.FOOTBALL,
+            new RateLimiterManager(6_000_000, 100_000_000),
+            new CacheManager(CacheManager.DEFAULT_L1_MAX_BYTES, Duration.ofHours(1),
+                DeflateCodec.withApiSportsDictionary(), null),
+            intOption("concurrency", ApiSportsHttpClient.DEFAULT_MAX_CONCURRENT_REQUESTS),
+            server.getBaseUrl());
+
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+
+        long servedBefore = server.getServedCount();
+        long failuresBefore = server.getErrorsInjected() + server.getRateLimitsInjected();
+        long start = System.nanoTime();
+        long rows = body.run(client);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long failures = server.getErrorsInjected() + server.getRateLimitsInjected() - failuresBefore;
+
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+        Result result = new Result(scenario, server.getServedCount() - servedBefore, rows, failures,
+            millis, peakHeap);
+        System.out.println(result);
+        return result;
+    }
+
+    @Override
+    public void close() {
+        server.close();
+    }
+
+    private static int intOption(String name, int defaultValue) {
+        return Integer.getInteger(PROPERTY_PREFIX + name, defaultValue);
+    }
+
+    private static double doubleOption(String name, double defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quota reported by the server: a used up minute or day holds requests for the rest of its
+ * period, not just for one emission interval.
+ */
+class RateLimiterManagerTest {
+
+    private static final String API_KEY = "key";
+    private static final int REQUESTS_PER_MINUTE = 100;
+    private static final int REQUESTS_PER_DAY = 10000;
+    private static final Duration MAX_WAIT = Duration.ofMinutes(2);
+
+    /** Emission interval of the per-minute limit, the wait of a bucket that is merely empty. */
+    private static final long MINUTE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1) / REQUESTS_PER_MINUTE;
+
+    private final RateLimiterManager limiter = new RateLimiterManager(REQUESTS_PER_MINUTE, REQUESTS_PER_DAY);
+
+    @Test
+    void exhaustedMinuteHoldsForTheMinute() {
+        limiter.update(API_KEY, new ServerQuota(REQUESTS_PER_MINUTE, 0, REQUESTS_PER_DAY, 5000));
+
+        long waitNanos = limiter.reserve(API_KEY, MAX_WAIT);
+        assertTrue(waitNanos > 50 * MINUTE_INTERVAL_NANOS && waitNanos > TimeUnit.SECONDS.toNanos(59),
+            "An exhausted minute must hold requests for the rest of the minute");
+        assertTrue(limiter.getRetryAfterSeconds(API_KEY) >= 59);
+    }
+
+    @Test
+    void bareRateLimitResponseHoldsForTheMinute() {
+        ServerQuota quota = new ServerQuota(ServerQuota.UNKNOWN, ServerQuota.UNKNOWN,
+            ServerQuota.UNKNOWN, ServerQuota.UNKNOWN);
+        limiter.update(API_KEY, quota.withMinuteExhausted());
+
+        assertTrue(limiter.reserve(API_KEY, MAX_WAIT) > TimeUnit.SECONDS.toNanos(59));
+        assertFalse(limiter.tryAcquire(API_KEY));
+    }
+
+    @Test
+    void exhaustedDayGivesUpInsteadOfWaiting() throws InterruptedException {
+        limiter.update(API_KEY, new ServerQuota(REQUESTS_PER_MINUTE, 50, REQUESTS_PER_DAY, 0));
+
+        assertEquals(-1L, limiter.reserve(API_KEY, MAX_WAIT));
+        assertFalse(limiter.acquire(API_KEY, MAX_WAIT));
+        assertTrue(limiter.getRetryAfterSeconds(API_KEY) > TimeUnit.HOURS.toSeconds(23),
+            "An exhausted day must hold requests for the rest of the day");
+    }
+
+    @Test
+    void laterResponseDoesNotShortenHold() {
+        limiter.update(API_KEY, new ServerQuota(REQUESTS_PER_MINUTE, 0, REQUESTS_PER_DAY, 5000));
+        // Answered before the minute was used up, but read after
+        limiter.update(API_KEY, new ServerQuota(REQUESTS_PER_MINUTE, 40, REQUESTS_PER_DAY, 5000));
+
+        assertTrue(limiter.reserve(API_KEY, MAX_WAIT) > TimeUnit.SECONDS.toNanos(59));
+    }
+
+    @Test
+    void remainingBudgetIsNotHeld() {
+        limiter.update(API_KEY, new ServerQuota(REQUESTS_PER_MINUTE, 1, REQUESTS_PER_DAY, 5000));
+
+        assertTrue(limiter.tryAcquire(API_KEY));
+        long waitNanos = limiter.reserve(API_KEY, MAX_WAIT);
+        assertTrue(waitNanos > 0 && waitNanos <= MINUTE_INTERVAL_NANOS,
+            "Once the last request is taken the next one waits one interval, until the server reports it");
+    }
+
+    @Test
+    void resetReleasesHold() {
+        limiter.update(API_KEY, new ServerQuota(REQUESTS_PER_MINUTE, 0, REQUESTS_PER_DAY, 0));
+        limiter.reset(API_KEY);
+
+        assertTrue(limiter.tryAcquire(API_KEY));
+    }
+}
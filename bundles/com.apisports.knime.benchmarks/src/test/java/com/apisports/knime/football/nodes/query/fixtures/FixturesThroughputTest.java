@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query.fixtures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.apisports.knime.benchmarks.NodeTestHarness;
+import com.apisports.knime.benchmarks.NodeTestHarness.CountingRowOutput;
+import com.apisports.knime.benchmarks.ThroughputBenchmark;
+import com.apisports.knime.core.client.ApiSportsHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.IntValue;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Throughput of the Fixtures node reading a streamed Fixture_ID table: batched /fixtures?ids=
+ * queries, and single-fixture queries with every kind of additional data, both through the
+ * node's ordered fetch window.
+ */
+class FixturesThroughputTest {
+
+    /** Requests per fixture with all additional data: the fixture, events, lineups, and statistics and players per team. */
+    private static final int REQUESTS_PER_DETAILED_FIXTURE = 7;
+
+    private Path dbFile;
+
+    @BeforeEach
+    void createReferenceData() throws Exception {
+        dbFile = Files.createTempFile("fixtures-throughput", ".db");
+        Files.delete(dbFile);
+    }
+
+    @AfterEach
+    void deleteReferenceData() throws Exception {
+        NodeTestHarness.deleteDatabase(dbFile);
+    }
+
+    @Test
+    void batchesFixtureIds() throws Exception {
+        int fixtures = ThroughputBenchmark.requests() * FixturesNodeModel.MAX_IDS_PER_REQUEST;
+        FixturesNodeModel model = newModel();
+
+        try (ThroughputBenchmark benchmark = ThroughputBenchmark.start()) {
+            List<Integer> fixtureIds = new ArrayList<>();
+            ThroughputBenchmark.Result result = benchmark.measure("fixtures", client ->
+                run(model, client, fixtures, fixtureIds));
+
+            assertEquals(0, result.failures());
+            assertEquals(ThroughputBenchmark.requests(), result.requests());
+            assertEquals(fixtures, result.rows());
+            assertInputOrder(fixtureIds, fixtures);
+        }
+    }
+
+    @Test
+    void fetchesAdditionalDataPerFixture() throws Exception {
+        int fixtures = Math.max(1, ThroughputBenchmark.requests() / REQUESTS_PER_DETAILED_FIXTURE);
+        FixturesNodeModel model = newModel();
+        NodeSettings settings = new NodeSettings("model");
+        model.saveSettingsTo(settings);
+        settings.addBoolean(FixturesNodeModel.CFGKEY_BATCH_FIXTURE_IDS, false);
+        settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_EVENTS, true);
+        settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_LINEUPS, true);
+        settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_STATISTICS, true);
+        settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_PLAYER_STATS, true);
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+
+        try (ThroughputBenchmark benchmark = ThroughputBenchmark.start()) {
+            List<Integer> fixtureIds = new ArrayList<>();
+            ThroughputBenchmark.Result result = benchmark.measure("details", client ->
+                run(model, client, fixtures, fixtureIds));
+
+            assertEquals(0, result.failures());
+            assertEquals((long) fixtures * REQUESTS_PER_DETAILED_FIXTURE, result.requests());
+            assertEquals(fixtures, result.rows());
+            assertInputOrder(fixtureIds, fixtures);
+        }
+    }
+
+    private static FixturesNodeModel newModel() {
+        return new FixturesNodeModel(FixturesNodeFactory.createPortsConfigurationBuilder().build());
+    }
+
+    /**
+     * Stream fixture IDs 1 to the given count through the node and collect the Fixture_ID of
+     * each output row.
+     */
+    private long run(FixturesNodeModel model, ApiSportsHttpClient client,
+                     int fixtures, List<Integer> fixtureIds) throws Exception {
+        int idColumn = model.getOutputSpec().findColumnIndex("Fixture_ID");
+        int columns = model.getOutputSpec().getNumColumns();
+        CountingRowOutput output = new CountingRowOutput(row -> {
+            assertEquals(columns, row.getNumCells());
+            fixtureIds.add(fixtureId(row, idColumn));
+        });
+        ExecutionContext exec = NodeTestHarness.createExecutionContext();
+        NodeTestHarness.runStreamed(model,
+            new PortInput[]{
+                NodeTestHarness.connection(client),
+                NodeTestHarness.emptyReferenceData(dbFile),
+                NodeTestHarness.idTable("Fixture_ID", 1, fixtures)},
+            new PortOutput[]{output}, exec);
+        assertTrue(output.isClosed());
+        return output.getRowCount();
+    }
+
+    private static int fixtureId(DataRow row, int idColumn) {
+        return ((IntValue) row.getCell(idColumn)).getIntValue();
+    }
+
+    private static void assertInputOrder(List<Integer> fixtureIds, int fixtures) {
+        for (int i = 0; i < fixtures; i++) {
+            assertEquals(i + 1, (int) fixtureIds.get(i));
+        }
+    }
+}
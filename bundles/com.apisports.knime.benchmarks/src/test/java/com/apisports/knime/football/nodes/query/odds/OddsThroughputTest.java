@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query.odds;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.apisports.knime.benchmarks.NodeTestHarness;
+import com.apisports.knime.benchmarks.NodeTestHarness.CountingRowOutput;
+import com.apisports.knime.benchmarks.ThroughputBenchmark;
+import com.apisports.knime.core.client.ApiSportsHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.IntValue;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Throughput of the Odds node reading a streamed Fixture_ID table: every page of the /odds
+ * query of each fixture through the response pager, with completed fixtures recorded in the
+ * node's checkpoint.
+ */
+class OddsThroughputTest {
+
+    /** Failure rates of the interrupted run, unless set with the failure rate properties. */
+    private static final double ERROR_RATE = 0.05;
+    private static final double RATE_LIMIT_RATE = 0.05;
+
+    private Path dbFile;
+    private Path internals;
+
+    @BeforeEach
+    void createFiles() throws Exception {
+        dbFile = Files.createTempFile("odds-throughput", ".db");
+        Files.delete(dbFile);
+        internals = Files.createTempDirectory("odds-internals");
+    }
+
+    @AfterEach
+    void deleteFiles() throws Exception {
+        NodeTestHarness.deleteDatabase(dbFile);
+        try (var files = Files.list(internals)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(internals);
+    }
+
+    @Test
+    void collectsOddsOfEachFixture() throws Exception {
+        int pages = ThroughputBenchmark.pages();
+        int fixtures = Math.max(1, ThroughputBenchmark.requests() / pages);
+        OddsNodeModel model = new OddsNodeModel();
+
+        try (ThroughputBenchmark benchmark = ThroughputBenchmark.start()) {
+            List<Integer> fixtureIds = new ArrayList<>();
+            ThroughputBenchmark.Result result = benchmark.measure("odds", client ->
+                run(model, client, fixtures, fixtureIds));
+
+            assertEquals(0, result.failures());
+            assertEquals((long) fixtures * pages, result.requests());
+            Map<Integer, Integer> rowsByFixture = rowsByFixture(fixtureIds);
+            assertEquals(fixtures, rowsByFixture.size());
+            int rowsPerFixture = rowsByFixture.get(1);
+            assertTrue(rowsPerFixture >= pages * ThroughputBenchmark.elements(),
+                "Each odds item has at least one value");
+            for (int rows : rowsByFixture.values()) {
+                assertEquals(rowsPerFixture, rows);
+            }
+        }
+    }
+
+    /**
+     * A run with injected server errors and 429 responses stops at the first rate limit it
+     * runs into; its completed fixtures are saved with the node's internals and replayed by
+     * the next run, which only queries the rest.
+     */
+    @Test
+    void resumesAfterInjectedFailures() throws Exception {
+        int pages = ThroughputBenchmark.pages();
+        int fixtures = Math.max(1, ThroughputBenchmark.requests() / pages);
+
+        try (ThroughputBenchmark benchmark = ThroughputBenchmark.start(ERROR_RATE, RATE_LIMIT_RATE)) {
+            OddsNodeModel interrupted = new OddsNodeModel();
+            List<Integer> firstIds = new ArrayList<>();
+            ThroughputBenchmark.Result first = benchmark.measure("odds-failing", client ->
+                run(interrupted, client, fixtures, firstIds));
+            assertTrue(first.failures() > 0, "No failures were injected");
+            // As when the workflow is saved and opened again
+            interrupted.saveInternals(internals.toFile(), new ExecutionMonitor());
+            interrupted.onDispose();
+
+            benchmark.getServer().setFailureRates(0, 0);
+            OddsNodeModel resumed = new OddsNodeModel();
+            resumed.loadInternals(internals.toFile(), new ExecutionMonitor());
+            List<Integer> fixtureIds = new ArrayList<>();
+            ThroughputBenchmark.Result second = benchmark.measure("odds-resumed", client ->
+                run(resumed, client, fixtures, fixtureIds));
+
+            assertEquals(0, second.failures());
+            assertEquals(0, second.requests() % pages);
+            Map<Integer, Integer> rowsByFixture = rowsByFixture(fixtureIds);
+            assertEquals(fixtures, rowsByFixture.size());
+            int rowsPerFixture = rowsByFixture.get(1);
+            for (int rows : rowsByFixture.values()) {
+                assertEquals(rowsPerFixture, rows);
+            }
+
+            // The interrupted run only output whole fixtures, which a stopped run leaves in the
+            // checkpoint; a run that completed despite failed fixtures leaves nothing to resume
+            Map<Integer, Integer> firstRowsByFixture = rowsByFixture(firstIds);
+            for (int rows : firstRowsByFixture.values()) {
+                assertEquals(rowsPerFixture, rows);
+            }
+            long resumedFixtures = fixtures - second.requests() / pages;
+            assertTrue(resumedFixtures == 0 || resumedFixtures == firstRowsByFixture.size(),
+                resumedFixtures + " fixtures resumed, " + firstRowsByFixture.size()
+                    + " completed by the interrupted run");
+        }
+    }
+
+    /**
+     * Stream fixture IDs 1 to the given count through the node and collect the Fixture_ID of
+     * each output row.
+     */
+    private long run(OddsNodeModel model, ApiSportsHttpClient client, int fixtures,
+                     List<Integer> fixtureIds) throws Exception {
+        CountingRowOutput output = new CountingRowOutput(row ->
+            fixtureIds.add(((IntValue) row.getCell(0)).getIntValue()));
+        ExecutionContext exec = NodeTestHarness.createExecutionContext();
+        NodeTestHarness.runStreamed(model,
+            new PortInput[]{
+                NodeTestHarness.connection(client),
+                NodeTestHarness.emptyReferenceData(dbFile),
+                NodeTestHarness.idTable("Fixture_ID", 1, fixtures)},
+            new PortOutput[]{output}, exec);
+        assertTrue(output.isClosed());
+        return output.getRowCount();
+    }
+
+    /**
+     * Count the rows of each fixture, checking that the fixtures are in input order.
+     */
+    private static Map<Integer, Integer> rowsByFixture(List<Integer> fixtureIds) {
+        Map<Integer, Integer> rowsByFixture = new TreeMap<>();
+        int previous = 0;
+        for (int fixtureId : fixtureIds) {
+            assertTrue(fixtureId >= previous, "Fixture " + fixtureId + " out of order");
+            previous = fixtureId;
+            rowsByFixture.merge(fixtureId, 1, Integer::sum);
+        }
+        return rowsByFixture;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query.players;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.apisports.knime.benchmarks.NodeTestHarness;
+import com.apisports.knime.benchmarks.NodeTestHarness.CountingRowOutput;
+import com.apisports.knime.benchmarks.ThroughputBenchmark;
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Throughput of the Players node querying the players of one team after another: every page
+ * of each /players query through the response pager, parsed into player rows.
+ */
+class PlayersThroughputTest {
+
+    /**
+     * Players node configured in its dialog to query the players of a team.
+     */
+    private static final class TeamPlayersNodeModel extends PlayersNodeModel {
+        void selectTeam(int teamId, int season) throws InvalidSettingsException {
+            NodeSettings settings = new NodeSettings("model");
+            saveSettingsTo(settings);
+            settings.addString(CFGKEY_QUERY_TYPE, QUERY_BY_TEAM);
+            settings.addIntArray(CFGKEY_TEAM_IDS, teamId);
+            settings.addInt(CFGKEY_SEASON, season);
+            validateSettings(settings);
+            loadValidatedSettingsFrom(settings);
+        }
+    }
+
+    @Test
+    void parsesEveryPage() throws Exception {
+        TeamPlayersNodeModel model = new TeamPlayersNodeModel();
+        int columns = model.getOutputSpec().getNumColumns();
+        int pages = ThroughputBenchmark.pages();
+        int teams = Math.max(1, ThroughputBenchmark.requests() / pages);
+        Path dbFile = Files.createTempFile("players-throughput", ".db");
+        Files.delete(dbFile);
+
+        try (ThroughputBenchmark benchmark = ThroughputBenchmark.start()) {
+            PortObjectInput referenceData = NodeTestHarness.emptyReferenceData(dbFile);
+            ExecutionContext exec = NodeTestHarness.createExecutionContext();
+            ThroughputBenchmark.Result result = benchmark.measure("players", client -> {
+                long rows = 0;
+                for (int teamId = 1; teamId <= teams; teamId++) {
+                    model.selectTeam(teamId, ThroughputBenchmark.SEASON);
+                    CountingRowOutput output = new CountingRowOutput(row -> assertEquals(columns, row.getNumCells()));
+                    NodeTestHarness.runStreamed(model,
+                        new PortInput[]{NodeTestHarness.connection(client), referenceData, null},
+                        new PortOutput[]{output}, exec);
+                    assertTrue(output.isClosed());
+                    rows += output.getRowCount();
+                }
+                return rows;
+            });
+
+            assertEquals(0, result.failures());
+            assertEquals((long) teams * pages, result.requests());
+            assertEquals((long) teams * pages * ThroughputBenchmark.elements(), result.rows());
+        } finally {
+            NodeTestHarness.deleteDatabase(dbFile);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.referencedata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.apisports.knime.benchmarks.NodeTestHarness;
+import com.apisports.knime.benchmarks.ThroughputBenchmark;
+import com.apisports.knime.port.ReferenceDAO;
+import com.apisports.knime.port.ReferenceDataPortObject;
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.NodeSettings;
+import org.knime.core.node.port.PortObject;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Throughput of the Reference Data Loader node: /leagues with embedded seasons, /teams per
+ * league through the ordered fetch window, then one bulk load into a fresh database.
+ */
+class ReferenceDataThroughputTest {
+
+    @Test
+    void loadsLeaguesAndTeams() throws Exception {
+        Path dbFile = Files.createTempFile("reference-throughput", ".db");
+        Files.delete(dbFile);
+        int leagues = ThroughputBenchmark.leagues();
+
+        ReferenceDataLoaderNodeModel model = new ReferenceDataLoaderNodeModel();
+        NodeSettings settings = new NodeSettings("model");
+        model.saveSettingsTo(settings);
+        settings.addString(ReferenceDataLoaderNodeModel.CFGKEY_DB_PATH, dbFile.toString());
+        settings.addStringArray(ReferenceDataLoaderNodeModel.CFGKEY_SELECTED_SEASONS,
+            String.valueOf(ThroughputBenchmark.SEASON));
+        model.validateSettings(settings);
+        model.loadValidatedSettingsFrom(settings);
+        ExecutionContext exec = NodeTestHarness.createExecutionContext();
+
+        try (ThroughputBenchmark benchmark = ThroughputBenchmark.start()) {
+            PortObject[] outputs = new PortObject[1];
+            ThroughputBenchmark.Result result = benchmark.measure("reference", client -> {
+                outputs[0] = model.execute(
+                    new PortObject[]{NodeTestHarness.connection(client).getPortObject()}, exec)[0];
+                try (ReferenceDAO dao = new ReferenceDAO(dbFile.toString())) {
+                    return dao.getAllLeagues().size() + dao.getAllSeasons().size() + dao.getAllTeams().size();
+                }
+            });
+
+            assertEquals(0, result.failures());
+            assertEquals(1 + leagues, result.requests());
+            assertEquals(dbFile.toString(), ((ReferenceDataPortObject) outputs[0]).getDbPath());
+            try (ReferenceDAO dao = new ReferenceDAO(dbFile.toString())) {
+                assertEquals(leagues, dao.getAllLeagues().size());
+                // Only the selected season of each league is stored
+                assertEquals(leagues, dao.getAllSeasons().size());
+                assertFalse(dao.getAllTeams().isEmpty());
+                assertEquals(ThroughputBenchmark.SEASON, dao.getTeamsSeason());
+            }
+        } finally {
+            NodeTestHarness.deleteDatabase(dbFile);
+        }
+    }
+}
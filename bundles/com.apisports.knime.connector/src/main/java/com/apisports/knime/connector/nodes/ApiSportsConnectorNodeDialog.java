@@ -16,10 +16,13 @@
 
 package com.apisports.knime.connector.nodes;
 
+import com.apisports.knime.core.client.ApiSportsHttpClient;
 import com.apisports.knime.core.model.Sport;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
 import org.knime.core.node.defaultnodesettings.DialogComponentString;
 import org.knime.core.node.defaultnodesettings.DialogComponentStringSelection;
+import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 
 import java.util.Arrays;
@@ -42,5 +45,16 @@ public class ApiSportsConnectorNodeDialog extends DefaultNodeSettingsPane {
             new SettingsModelString(ApiSportsConnectorNodeModel.CFGKEY_SPORT, Sport.FOOTBALL.getDisplayName()),
             "Sport:",
             Arrays.stream(Sport.values()).map(Sport::getDisplayName).toArray(String[]::new)));
+
+        addDialogComponent(new DialogComponentNumber(
+            new SettingsModelInteger(ApiSportsConnectorNodeModel.CFGKEY_MAX_CONCURRENT_REQUESTS,
+                ApiSportsHttpClient.DEFAULT_MAX_CONCURRENT_REQUESTS),
+            "Max Concurrent Requests:", 1));
+
+        addDialogComponent(new DialogComponentString(
+            new SettingsModelString(ApiSportsConnectorNodeModel.CFGKEY_BASE_URL, ""),
+            "API Base URL (optional, blank for the API-Sports host):",
+            false,
+            50));
     }
 }
@@ -17,12 +17,14 @@
 package com.apisports.knime.connector.nodes;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.license.LicenseManager;
 import com.apisports.knime.core.model.Sport;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ApiSportsConnectionPortObjectSpec;
 import org.knime.core.node.*;
 import com.apisports.knime.core.ratelimit.RateLimiterManager;
 import com.apisports.knime.core.cache.CacheManager;
+import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
@@ -30,6 +32,8 @@ import org.knime.core.node.port.PortType;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
 
 /**
  * NodeModel for the API-Sports Connector node.
@@ -39,9 +43,15 @@ public class ApiSportsConnectorNodeModel extends NodeModel {
 
     static final String CFGKEY_API_KEY = "apiKey";
     static final String CFGKEY_SPORT = "sport";
+    static final String CFGKEY_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+    static final String CFGKEY_BASE_URL = "baseUrl";
 
     private final SettingsModelString m_apiKey = new SettingsModelString(CFGKEY_API_KEY, "");
     private final SettingsModelString m_sport = new SettingsModelString(CFGKEY_SPORT, Sport.FOOTBALL.getDisplayName());
+    private final SettingsModelInteger m_maxConcurrentRequests = new SettingsModelInteger(
+        CFGKEY_MAX_CONCURRENT_REQUESTS, ApiSportsHttpClient.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    // Blank uses the sport's API host; set to point the connection at a local stand-in of the API
+    private final SettingsModelString m_baseUrl = new SettingsModelString(CFGKEY_BASE_URL, "");
 
     protected ApiSportsConnectorNodeModel() {
         super(new PortType[0], new PortType[]{
@@ -60,7 +70,11 @@ public class ApiSportsConnectorNodeModel extends NodeModel {
 
         RateLimiterManager rateLimiter = new RateLimiterManager();
         CacheManager cacheManager = new CacheManager();
-        ApiSportsHttpClient client = new ApiSportsHttpClient(apiKey, sport, rateLimiter, cacheManager);
+        ApiSportsHttpClient client = new ApiSportsHttpClient(apiKey, sport, rateLimiter, cacheManager,
+            m_maxConcurrentRequests.getIntValue(), m_baseUrl.getStringValue());
+        LicenseManager license = new LicenseManager();
+        license.validate(apiKey, sport);
+        client.setLicenseManager(license);
         String apiKeyHash = Integer.toHexString(apiKey.hashCode());
         ApiSportsConnectionPortObjectSpec spec = new ApiSportsConnectionPortObjectSpec(sport, apiKeyHash);
         ApiSportsConnectionPortObject portObject = new ApiSportsConnectionPortObject(spec, client);
@@ -77,6 +91,11 @@ public class ApiSportsConnectorNodeModel extends NodeModel {
 
         Sport sport = Sport.from(m_sport.getStringValue());
 
+        if (m_maxConcurrentRequests.getIntValue() < 1) {
+            throw new InvalidSettingsException("Max concurrent requests must be at least 1");
+        }
+        validateBaseUrl(m_baseUrl.getStringValue());
+
         String apiKeyHash = Integer.toHexString(apiKey.hashCode());
         return new PortObjectSpec[]{
             new ApiSportsConnectionPortObjectSpec(sport, apiKeyHash)
@@ -87,18 +106,52 @@ public class ApiSportsConnectorNodeModel extends NodeModel {
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_apiKey.saveSettingsTo(settings);
         m_sport.saveSettingsTo(settings);
+        m_maxConcurrentRequests.saveSettingsTo(settings);
+        m_baseUrl.saveSettingsTo(settings);
     }
 
     @Override
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_apiKey.loadSettingsFrom(settings);
         m_sport.loadSettingsFrom(settings);
+        // Backward compatibility: older workflows don't have this setting
+        if (settings.containsKey(CFGKEY_MAX_CONCURRENT_REQUESTS)) {
+            m_maxConcurrentRequests.loadSettingsFrom(settings);
+        }
+        if (settings.containsKey(CFGKEY_BASE_URL)) {
+            m_baseUrl.loadSettingsFrom(settings);
+        }
     }
 
     @Override
     protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_apiKey.validateSettings(settings);
         m_sport.validateSettings(settings);
+        if (settings.containsKey(CFGKEY_MAX_CONCURRENT_REQUESTS)) {
+            m_maxConcurrentRequests.validateSettings(settings);
+        }
+        if (settings.containsKey(CFGKEY_BASE_URL)) {
+            m_baseUrl.validateSettings(settings);
+            validateBaseUrl(settings.getString(CFGKEY_BASE_URL));
+        }
+    }
+
+    /**
+     * Check that a configured base URL is an absolute http(s) URL. Blank is allowed.
+     */
+    private static void validateBaseUrl(String baseUrl) throws InvalidSettingsException {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return;
+        }
+        try {
+            URI uri = new URI(baseUrl.trim());
+            if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())
+                    || uri.getHost() == null) {
+                throw new InvalidSettingsException("API base URL must be an absolute http(s) URL: " + baseUrl);
+            }
+        } catch (URISyntaxException e) {
+            throw new InvalidSettingsException("Invalid API base URL: " + baseUrl, e);
+        }
     }
 
     @Override
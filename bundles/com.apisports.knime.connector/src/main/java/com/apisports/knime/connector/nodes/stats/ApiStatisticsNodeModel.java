@@ -17,6 +17,7 @@
 package com.apisports.knime.connector.nodes.stats;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.EndpointStats;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import org.knime.core.data.*;
 import org.knime.core.data.def.*;
@@ -30,14 +31,15 @@ import java.io.IOException;
 
 /**
  * NodeModel for the API Statistics node.
- * Displays API usage statistics from the connection.
+ * Displays API usage statistics from the connection: a summary table, and a table of
+ * request metrics per endpoint.
  */
 public class ApiStatisticsNodeModel extends NodeModel {
 
     protected ApiStatisticsNodeModel() {
         super(
             new PortType[]{ApiSportsConnectionPortObject.TYPE},
-            new PortType[]{BufferedDataTable.TYPE}
+            new PortType[]{BufferedDataTable.TYPE, BufferedDataTable.TYPE}
         );
     }
 
@@ -47,7 +49,8 @@ public class ApiStatisticsNodeModel extends NodeModel {
         ApiSportsHttpClient client = connectionPort.getClient();
 
         BufferedDataTable statsTable = createStatisticsTable(exec, client);
-        return new PortObject[]{statsTable};
+        BufferedDataTable endpointTable = createEndpointTable(exec, client);
+        return new PortObject[]{statsTable, endpointTable};
     }
 
     private BufferedDataTable createStatisticsTable(ExecutionContext exec, ApiSportsHttpClient client) {
@@ -68,6 +71,13 @@ public class ApiStatisticsNodeModel extends NodeModel {
         };
         container.addRowToTable(new DefaultRow(new RowKey("Cache_Hits"), cells));
 
+        // Coalesced Requests row
+        cells = new DataCell[]{
+            new StringCell("Coalesced Requests"),
+            new IntCell(client.getCoalescedRequestCount())
+        };
+        container.addRowToTable(new DefaultRow(new RowKey("Coalesced_Requests"), cells));
+
         // Total Requests row
         cells = new DataCell[]{
             new StringCell("Total Requests"),
@@ -86,9 +96,65 @@ public class ApiStatisticsNodeModel extends NodeModel {
         );
     }
 
+    private BufferedDataTable createEndpointTable(ExecutionContext exec, ApiSportsHttpClient client) {
+        BufferedDataContainer container = exec.createDataContainer(createEndpointTableSpec());
+
+        // One row per endpoint, followed by the totals
+        for (EndpointStats stats : client.getEndpointStats()) {
+            container.addRowToTable(new DefaultRow(new RowKey(stats.endpoint()), createEndpointCells(stats)));
+        }
+        EndpointStats total = client.getTotalStats();
+        container.addRowToTable(new DefaultRow(new RowKey("Total"), createEndpointCells(total)));
+
+        container.close();
+        return container.getTable();
+    }
+
+    private DataCell[] createEndpointCells(EndpointStats stats) {
+        return new DataCell[]{
+            new StringCell(stats.endpoint()),
+            new LongCell(stats.apiCalls()),
+            new LongCell(stats.memoryHits()),
+            new LongCell(stats.diskHits()),
+            new LongCell(stats.cacheMisses()),
+            new LongCell(stats.coalesced()),
+            new LongCell(stats.successes()),
+            new LongCell(stats.rateLimited()),
+            new LongCell(stats.errors()),
+            new LongCell(stats.retries()),
+            new LongCell(stats.responseBytes()),
+            new DoubleCell(stats.latencyP50Millis()),
+            new DoubleCell(stats.latencyP95Millis()),
+            new DoubleCell(stats.latencyP99Millis()),
+            new DoubleCell(stats.latencyMaxMillis()),
+            new DoubleCell(stats.rateLimitWaitMillis())
+        };
+    }
+
+    private DataTableSpec createEndpointTableSpec() {
+        return new DataTableSpec(
+            new DataColumnSpecCreator("Endpoint", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("API Calls", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Memory Cache Hits", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Disk Cache Hits", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Cache Misses", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Coalesced Requests", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Successes", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Rate Limited", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Errors", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Retries", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Response Bytes", LongCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Latency P50 (ms)", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Latency P95 (ms)", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Latency P99 (ms)", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Latency Max (ms)", DoubleCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("Rate Limit Wait (ms)", DoubleCell.TYPE).createSpec()
+        );
+    }
+
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
-        return new PortObjectSpec[]{createStatisticsTableSpec()};
+        return new PortObjectSpec[]{createStatisticsTableSpec(), createEndpointTableSpec()};
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes cached values for storage in memory and on disk.
+ *
+ * Every stored value is prefixed with the {@link #id()} of the codec that wrote it, so values
+ * written with a different codec are recognized and treated as cache misses.
+ */
+public interface CacheCodec {
+
+    /** Codec that stores values unchanged. Also used for values too small to be worth compressing. */
+    CacheCodec IDENTITY = new CacheCodec() {
+        @Override
+        public byte id() {
+            return 0;
+        }
+
+        @Override
+        public byte[] encode(byte[] raw) {
+            return raw;
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer encoded) {
+            byte[] raw = new byte[encoded.remaining()];
+            encoded.get(raw);
+            return raw;
+        }
+    };
+
+    /**
+     * Identifier written in front of every value encoded by this codec.
+     */
+    byte id();
+
+    /**
+     * Encode a raw value.
+     */
+    byte[] encode(byte[] raw);
+
+    /**
+     * Decode a value previously produced by {@link #encode(byte[])}.
+     *
+     * @throws IOException if the value is corrupt or cannot be decoded with this codec's settings
+     */
+    byte[] decode(ByteBuffer encoded) throws IOException;
+}
@@ -20,8 +20,10 @@ import java.time.Instant;
 
 /**
  * Represents a cached entry with TTL (Time To Live).
+ * The value is held in encoded form (codec id followed by the codec's payload) and is only
+ * decoded when it is read.
  */
-public record CacheEntry(String key, String value, Instant expiresAt) {
+public record CacheEntry(CacheKey key, byte[] encodedValue, Instant expiresAt) {
     
     /**
      * Check if this cache entry has expired.
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Cache key with a precomputed 128-bit digest (SHA-256 prefix of the key's UTF-8 bytes).
+ *
+ * The digest is computed once when the key is created and serves as the hash code in the
+ * memory cache and as the index key of the disk cache, so a key is hashed once per request
+ * however many lookups it goes through.
+ */
+public final class CacheKey {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final String key;
+    private final long digestHigh;
+    private final long digestLow;
+
+    private CacheKey(String key, byte[] keyBytes) {
+        this.key = key;
+        ByteBuffer digest = ByteBuffer.wrap(SHA256.get().digest(keyBytes));
+        this.digestHigh = digest.getLong();
+        this.digestLow = digest.getLong();
+    }
+
+    public static CacheKey of(String key) {
+        return new CacheKey(key, key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Create a key from its UTF-8 bytes, e.g. as read back from the disk cache.
+     */
+    static CacheKey of(byte[] keyBytes) {
+        return new CacheKey(new String(keyBytes, StandardCharsets.UTF_8), keyBytes);
+    }
+
+    /**
+     * @return The upper 64 bits of the digest
+     */
+    public long getDigestHigh() {
+        return digestHigh;
+    }
+
+    /**
+     * @return The lower 64 bits of the digest
+     */
+    public long getDigestLow() {
+        return digestLow;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheKey)) {
+            return false;
+        }
+        CacheKey other = (CacheKey) obj;
+        return digestHigh == other.digestHigh && digestLow == other.digestLow && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) digestHigh;
+    }
+
+    /**
+     * @return The key string
+     */
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -16,46 +16,86 @@
 
 package com.apisports.knime.core.cache;
 
-import java.io.*;
-import java.nio.file.Files;
+import org.knime.core.node.NodeLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Two-level cache manager with L1 (in-memory) and L2 (disk) caching.
- * Uses LRU eviction for memory cache and TTL-based expiration.
+ * The disk cache is a log-structured store shared by all managers in the JVM.
+ * The memory cache uses segmented LRU eviction bounded by approximate size in bytes;
+ * entries expire after a TTL that can be set per entry. Values are stored compressed by a
+ * pluggable {@link CacheCodec} in both tiers and decompressed when read; hot L1 entries keep
+ * their decompressed value, and small values are stored uncompressed.
  */
 public class CacheManager {
     
-    private static final int DEFAULT_L1_SIZE = 1000;
+    /** Default memory bound for the L1 cache: 64 MB. */
+    public static final long DEFAULT_L1_MAX_BYTES = 64L * 1024 * 1024;
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CacheManager.class);
     private static final Duration DEFAULT_TTL = Duration.ofHours(1);
     private static final String CACHE_DIR = System.getProperty("user.home") + "/.apisports/cache";
+    /** Values below this size are stored uncompressed; compression would not pay for itself. */
+    private static final int MIN_COMPRESSED_SIZE = 512;
     
-    private final Map<String, CacheEntry> l1Cache;
+    private final SegmentedLruCache l1Cache;
     private final Duration ttl;
-    private final Path cacheDirectory;
-    private final int maxL1Size;
+    private final DiskCacheStore diskStore;
+    private final long maxL1Bytes;
+    private final CacheCodec codec;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
 
     public CacheManager() {
-        this(DEFAULT_L1_SIZE, DEFAULT_TTL);
+        this(DEFAULT_L1_MAX_BYTES, DEFAULT_TTL);
+    }
+
+    /**
+     * @param maxL1Bytes approximate memory bound for the L1 cache in bytes
+     * @param ttl default time to live for entries stored without an explicit TTL
+     */
+    public CacheManager(long maxL1Bytes, Duration ttl) {
+        this(maxL1Bytes, ttl, DeflateCodec.withApiSportsDictionary());
+    }
+
+    /**
+     * @param maxL1Bytes approximate memory bound for the L1 cache in bytes
+     * @param ttl default time to live for entries stored without an explicit TTL
+     * @param codec codec used to encode values in memory and on disk
+     */
+    public CacheManager(long maxL1Bytes, Duration ttl, CacheCodec codec) {
+        this(maxL1Bytes, ttl, codec, Paths.get(CACHE_DIR));
     }
 
-    public CacheManager(int maxL1Size, Duration ttl) {
-        this.maxL1Size = maxL1Size;
+    /**
+     * @param maxL1Bytes approximate memory bound for the L1 cache in bytes
+     * @param ttl default time to live for entries stored without an explicit TTL
+     * @param codec codec used to encode values in memory and on disk
+     * @param diskCacheDir directory of the L2 cache, or null to cache in memory only
+     */
+    public CacheManager(long maxL1Bytes, Duration ttl, CacheCodec codec, Path diskCacheDir) {
+        this.maxL1Bytes = maxL1Bytes;
         this.ttl = ttl;
-        this.l1Cache = new ConcurrentHashMap<>();
-        this.cacheDirectory = Paths.get(CACHE_DIR);
-        
-        try {
-            Files.createDirectories(cacheDirectory);
-        } catch (IOException e) {
-            // Log warning but continue - disk cache will be unavailable
-            System.err.println("Warning: Could not create cache directory: " + e.getMessage());
+        this.codec = codec;
+        this.l1Cache = new SegmentedLruCache(maxL1Bytes);
+
+        DiskCacheStore store = null;
+        if (diskCacheDir != null) {
+            try {
+                store = DiskCacheStore.open(diskCacheDir);
+            } catch (IOException e) {
+                // Continue without the disk cache
+                LOGGER.warn("Could not open disk cache: " + e.getMessage(), e);
+            }
         }
+        this.diskStore = store;
     }
 
     /**
@@ -66,100 +106,203 @@ public class CacheManager {
      * @return The cached value, or null if not found or expired
      */
     public String get(String key) {
+        return get(CacheKey.of(key));
+    }
+
+    /**
+     * Get a cached value by key.
+     * Checks L1 (memory) first, then L2 (disk).
+     *
+     * @param key The cache key
+     * @return The cached value, or null if not found or expired
+     */
+    public String get(CacheKey key) {
+        Hit hit = lookup(key);
+        return hit != null ? hit.value() : null;
+    }
+
+    /**
+     * A value found in the cache.
+     *
+     * @param value The cached value
+     * @param fromDisk Whether the value was read from L2 (disk) rather than L1 (memory)
+     */
+    public record Hit(String value, boolean fromDisk) {
+    }
+
+    /**
+     * Look up a cached value by key, reporting which level it was found in.
+     * Checks L1 (memory) first, then L2 (disk).
+     *
+     * @param key The cache key
+     * @return The hit, or null if not found or expired
+     */
+    public Hit lookup(CacheKey key) {
         // Check L1 cache
-        CacheEntry entry = l1Cache.get(key);
-        if (entry != null) {
-            if (entry.isExpired()) {
-                l1Cache.remove(key);
-                return null;
+        SegmentedLruCache.Lookup cached = l1Cache.get(key);
+        String value = cached != null ? cached.decoded() : null;
+        if (cached != null && value == null) {
+            byte[] encoded = cached.entry().encodedValue();
+            value = decode(encoded);
+            if (value != null && cached.isProtected() && encoded[0] != CacheCodec.IDENTITY.id()) {
+                // Reused entry: keep it decompressed for the next hits
+                l1Cache.attachDecoded(cached.entry(), value);
             }
-            return entry.value();
+        }
+        if (value != null) {
+            hitCount.increment();
+            return new Hit(value, false);
         }
 
         // Check L2 cache (disk)
-        return readFromDisk(key);
+        value = readFromDisk(key);
+        if (value != null) {
+            hitCount.increment();
+            return new Hit(value, true);
+        }
+        missCount.increment();
+        return null;
     }
 
     /**
-     * Put a value into the cache.
+     * Put a value into the cache with the default TTL.
      * Stores in both L1 (memory) and L2 (disk).
      * 
      * @param key The cache key
      * @param value The value to cache
      */
     public void put(String key, String value) {
-        Instant expiresAt = Instant.now().plus(ttl);
-        CacheEntry entry = new CacheEntry(key, value, expiresAt);
+        put(CacheKey.of(key), value, ttl);
+    }
+
+    /**
+     * Put a value into the cache with the default TTL.
+     * Stores in both L1 (memory) and L2 (disk).
+     *
+     * @param key The cache key
+     * @param value The value to cache
+     */
+    public void put(CacheKey key, String value) {
+        put(key, value, ttl);
+    }
+
+    /**
+     * Put a value into the cache with its own TTL.
+     * Stores in both L1 (memory) and L2 (disk).
+     * 
+     * @param key The cache key
+     * @param value The value to cache
+     * @param entryTtl How long the entry stays valid
+     */
+    public void put(String key, String value, Duration entryTtl) {
+        put(CacheKey.of(key), value, entryTtl);
+    }
+
+    /**
+     * Put a value into the cache with its own TTL.
+     * Stores in both L1 (memory) and L2 (disk).
+     *
+     * @param key The cache key
+     * @param value The value to cache
+     * @param entryTtl How long the entry stays valid
+     */
+    public void put(CacheKey key, String value, Duration entryTtl) {
+        Instant expiresAt = Instant.now().plus(entryTtl);
+        CacheEntry entry = new CacheEntry(key, encode(value), expiresAt);
         
-        // Add to L1 cache with size limit
-        if (l1Cache.size() >= maxL1Size) {
-            // Simple eviction: remove oldest entry
-            String oldestKey = l1Cache.keySet().stream().findFirst().orElse(null);
-            if (oldestKey != null) {
-                l1Cache.remove(oldestKey);
-            }
-        }
-        l1Cache.put(key, entry);
+        // Add to L1 cache; evicts least recently used entries beyond the size bound
+        l1Cache.put(entry);
         
         // Write to L2 cache
         writeToDisk(key, entry);
     }
 
+    /**
+     * Get a snapshot of the cache statistics.
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), l1Cache.evictionCount(),
+                              l1Cache.size(), l1Cache.weight(), maxL1Bytes);
+    }
+
     /**
      * Clear all cached data from memory and disk.
      */
     public void clear() {
         l1Cache.clear();
-        try {
-            Files.walk(cacheDirectory)
-                .filter(Files::isRegularFile)
-                .forEach(path -> {
-                    try {
-                        Files.delete(path);
-                    } catch (IOException e) {
-                        // Ignore individual file deletion errors
-                    }
-                });
-        } catch (IOException e) {
-            // Ignore errors during cache clearing
+        if (diskStore != null) {
+            diskStore.clear();
         }
     }
 
-    private String readFromDisk(String key) {
-        Path filePath = getCacheFilePath(key);
-        if (!Files.exists(filePath)) {
+    private String readFromDisk(CacheKey key) {
+        if (diskStore == null) {
             return null;
         }
 
-        try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(filePath))) {
-            CacheEntry entry = (CacheEntry) ois.readObject();
-            if (entry.isExpired()) {
-                Files.delete(filePath);
-                return null;
-            }
-            
-            // Promote to L1 cache
-            l1Cache.put(key, entry);
-            return entry.value();
-        } catch (IOException | ClassNotFoundException e) {
-            // Cache read failed, return null
+        DiskCacheStore.StoredValue stored = diskStore.get(key);
+        if (stored == null) {
             return null;
         }
+
+        // The still-encoded bytes go to the L1 cache
+        byte[] encoded = stored.value();
+        String value = decode(encoded);
+        if (value == null) {
+            diskStore.remove(key);
+            return null;
+        }
+
+        // Promote to L1 cache
+        l1Cache.put(new CacheEntry(key, encoded, Instant.ofEpochMilli(stored.expiresAtMillis())));
+        return value;
     }
 
-    private void writeToDisk(String key, CacheEntry entry) {
-        Path filePath = getCacheFilePath(key);
-        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(filePath))) {
-            oos.writeObject(entry);
+    private void writeToDisk(CacheKey key, CacheEntry entry) {
+        if (diskStore == null) {
+            return;
+        }
+
+        try {
+            diskStore.put(key, entry.encodedValue(), entry.expiresAt().toEpochMilli());
         } catch (IOException e) {
             // Disk cache write failed, but L1 cache still works
-            System.err.println("Warning: Could not write to disk cache: " + e.getMessage());
+            LOGGER.warn("Could not write to disk cache: " + e.getMessage());
         }
     }
 
-    private Path getCacheFilePath(String key) {
-        // Hash the key to create a valid filename
-        String filename = String.valueOf(Math.abs(key.hashCode())) + ".cache";
-        return cacheDirectory.resolve(filename);
+    /**
+     * Encode a value as codec id followed by the codec's payload. Small values are stored as-is.
+     */
+    private byte[] encode(String value) {
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        CacheCodec effective = raw.length < MIN_COMPRESSED_SIZE ? CacheCodec.IDENTITY : codec;
+        byte[] payload = effective.encode(raw);
+        byte[] encoded = new byte[payload.length + 1];
+        encoded[0] = effective.id();
+        System.arraycopy(payload, 0, encoded, 1, payload.length);
+        return encoded;
+    }
+
+    /**
+     * Decode a stored value, or return null if it was written by another codec or is corrupt.
+     */
+    private String decode(byte[] encoded) {
+        if (encoded.length == 0) {
+            return null;
+        }
+        if (encoded[0] == CacheCodec.IDENTITY.id()) {
+            return new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+        }
+        ByteBuffer payload = ByteBuffer.wrap(encoded, 1, encoded.length - 1);
+        if (encoded[0] != codec.id()) {
+            return null;
+        }
+
+        try {
+            return new String(codec.decode(payload), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.cache;
+
+/**
+ * Point-in-time snapshot of cache statistics.
+ *
+ * @param hitCount lookups answered from memory or disk
+ * @param missCount lookups that found no live entry
+ * @param evictionCount entries evicted from memory to stay within the size bound
+ * @param l1EntryCount entries currently held in memory
+ * @param l1WeightBytes approximate size of the entries held in memory
+ * @param l1MaxWeightBytes configured memory bound
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount,
+                         int l1EntryCount, long l1WeightBytes, long l1MaxWeightBytes) {
+
+    /**
+     * Fraction of lookups that were hits, or 0 if there were no lookups.
+     */
+    public double hitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
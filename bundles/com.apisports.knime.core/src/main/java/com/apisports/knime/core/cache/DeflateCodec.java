@@ -0,0 +1,254 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate (zlib) codec, optionally with a preset dictionary.
+ *
+ * A preset dictionary primes the compressor with text that recurs in every response - the
+ * API-Sports envelope and common field names - which matters most for the many small and
+ * medium responses where plain Deflate has little history to work with. The zlib stream
+ * records the dictionary's checksum, so a value written with a different dictionary fails to
+ * decode instead of producing garbage. Plain and dictionary values have their own codec id,
+ * so switching between the two turns old values into cache misses rather than decode errors.
+ *
+ * Encoded layout: raw length (int), zlib stream.
+ */
+public final class DeflateCodec implements CacheCodec {
+
+    /** Maximum useful dictionary size; Deflate only looks back 32 KB. */
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    /** Codec id of values compressed without a dictionary. */
+    static final byte PLAIN_ID = 1;
+    /** Codec id of values compressed with a preset dictionary. */
+    static final byte DICTIONARY_ID = 2;
+
+    /**
+     * Built-in dictionary of text shared by API-Sports v3 responses. Deflate favours matches
+     * close to the data, so the most common fragments come last.
+     */
+    static final String API_SPORTS_DICTIONARY =
+        "\"birth\":{\"date\":\"\",\"place\":\"\",\"country\":\"\"},\"nationality\":\"\",\"height\":\"\",\"weight\":\""
+        + "\"injured\":false,\"photo\":\"https://media.api-sports.io/football/players/.png\""
+        + "\"bookmakers\":[{\"id\":,\"name\":\"\",\"bets\":[{\"id\":,\"name\":\"Match Winner\",\"values\":"
+        + "[{\"value\":\"Home\",\"odd\":\"\"},{\"value\":\"Draw\",\"odd\":\"\"},{\"value\":\"Away\",\"odd\":\"\"}]}]}]"
+        + "\"games\":{\"appearences\":,\"lineups\":,\"minutes\":,\"number\":null,\"position\":\"\",\"rating\":\""
+        + "\"captain\":false},\"substitutes\":{\"in\":,\"out\":,\"bench\":},\"shots\":{\"total\":,\"on\":},"
+        + "\"goals\":{\"total\":,\"conceded\":,\"assists\":,\"saves\":null},\"passes\":{\"total\":,\"key\":,"
+        + "\"accuracy\":},\"tackles\":{\"total\":,\"blocks\":,\"interceptions\":},\"duels\":{\"total\":,\"won\":},"
+        + "\"dribbles\":{\"attempts\":,\"success\":,\"past\":null},\"fouls\":{\"drawn\":,\"committed\":},"
+        + "\"cards\":{\"yellow\":,\"yellowred\":,\"red\":},\"penalty\":{\"won\":null,\"commited\":null,"
+        + "\"scored\":,\"missed\":,\"saved\":null}"
+        + "{\"time\":{\"elapsed\":,\"extra\":null},\"team\":{\"id\":,\"name\":\"\",\"logo\":\"\"},"
+        + "\"player\":{\"id\":,\"name\":\"\"},\"assist\":{\"id\":null,\"name\":null},\"type\":\"Goal\","
+        + "\"detail\":\"Normal Goal\",\"comments\":null}\"type\":\"Card\",\"detail\":\"Yellow Card\""
+        + "\"type\":\"subst\",\"detail\":\"Substitution 1\"{\"type\":\"Shots on Goal\",\"value\":},"
+        + "{\"type\":\"Ball Possession\",\"value\":\"%\"},{\"type\":\"Total passes\",\"value\":},"
+        + "\"formation\":\"4-3-3\",\"startXI\":[{\"player\":{\"id\":,\"name\":\"\",\"number\":,\"pos\":\"G\","
+        + "\"grid\":\"1:1\"}}],\"substitutes\":[\"coach\":{\"id\":,\"name\":\"\",\"photo\":\"\"}"
+        + "\"league\":{\"id\":,\"name\":\"\",\"country\":\"\",\"logo\":\"https://media.api-sports.io/football/"
+        + "leagues/.png\",\"flag\":\"https://media.api-sports.io/flags/.svg\",\"season\":,\"round\":"
+        + "\"Regular Season - \"},\"teams\":{\"home\":{\"id\":,\"name\":\"\",\"logo\":\"https://media.api-sports"
+        + ".io/football/teams/.png\",\"winner\":null},\"away\":{\"id\":,\"name\":\"\",\"logo\":\"https://media."
+        + "api-sports.io/football/teams/.png\",\"winner\":null}},\"goals\":{\"home\":,\"away\":},\"score\":"
+        + "{\"halftime\":{\"home\":,\"away\":},\"fulltime\":{\"home\":,\"away\":},\"extratime\":{\"home\":null,"
+        + "\"away\":null},\"penalty\":{\"home\":null,\"away\":null}}"
+        + "{\"fixture\":{\"id\":,\"referee\":\"\",\"timezone\":\"UTC\",\"date\":\"T:00:00+00:00\",\"timestamp\":,"
+        + "\"periods\":{\"first\":,\"second\":},\"venue\":{\"id\":,\"name\":\"\",\"city\":\"\"},\"status\":"
+        + "{\"long\":\"Match Finished\",\"short\":\"FT\",\"elapsed\":90}},"
+        + "{\"get\":\"\",\"parameters\":{\"league\":\"\",\"season\":\"\"},\"errors\":[],\"results\":,"
+        + "\"paging\":{\"current\":1,\"total\":1},\"response\":[";
+
+    private static final int TRAINING_GRAM_LENGTH = 32;
+    private static final int TRAINING_STEP = 4;
+    private static final int MAX_TRAINING_CANDIDATES = 4096;
+
+    private final int level;
+    private final byte[] dictionary;
+
+    private DeflateCodec(int level, byte[] dictionary) {
+        this.level = level;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Plain Deflate at the default compression level.
+     */
+    public static DeflateCodec create() {
+        return new DeflateCodec(Deflater.DEFAULT_COMPRESSION, null);
+    }
+
+    /**
+     * Deflate primed with the built-in API-Sports dictionary.
+     */
+    public static DeflateCodec withApiSportsDictionary() {
+        return withDictionary(API_SPORTS_DICTIONARY.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deflate primed with a custom dictionary, e.g. one produced by {@link #trainDictionary}.
+     * Only the last {@link #MAX_DICTIONARY_SIZE} bytes are used.
+     */
+    public static DeflateCodec withDictionary(byte[] dictionary) {
+        byte[] effective = dictionary.length <= MAX_DICTIONARY_SIZE ? dictionary.clone()
+            : Arrays.copyOfRange(dictionary, dictionary.length - MAX_DICTIONARY_SIZE, dictionary.length);
+        return new DeflateCodec(Deflater.DEFAULT_COMPRESSION, effective);
+    }
+
+    /**
+     * Build a dictionary from sample responses by collecting the byte sequences that recur
+     * most often across them. The most frequent sequences are placed at the end.
+     *
+     * @param samples representative responses, e.g. recent cached payloads
+     * @param maxSize maximum dictionary size (capped at {@link #MAX_DICTIONARY_SIZE})
+     */
+    public static byte[] trainDictionary(Collection<String> samples, int maxSize) {
+        int limit = Math.min(maxSize, MAX_DICTIONARY_SIZE);
+        Map<String, Integer> counts = new HashMap<>();
+        for (String sample : samples) {
+            for (int i = 0; i + TRAINING_GRAM_LENGTH <= sample.length(); i += TRAINING_STEP) {
+                counts.merge(sample.substring(i, i + TRAINING_GRAM_LENGTH), 1, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > 1) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        if (candidates.size() > MAX_TRAINING_CANDIDATES) {
+            candidates = candidates.subList(0, MAX_TRAINING_CANDIDATES);
+        }
+
+        // Most frequent first while selecting; reversed below so they end up closest to the data
+        List<String> selected = new ArrayList<>();
+        StringBuilder seen = new StringBuilder();
+        int size = 0;
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            String gram = candidate.getKey();
+            int gramSize = gram.getBytes(StandardCharsets.UTF_8).length;
+            if (size + gramSize > limit) {
+                break;
+            }
+            if (seen.indexOf(gram) >= 0) {
+                continue;
+            }
+            selected.add(gram);
+            seen.append(gram);
+            size += gramSize;
+        }
+        Collections.reverse(selected);
+        return String.join("", selected).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte id() {
+        return dictionary == null ? PLAIN_ID : DICTIONARY_ID;
+    }
+
+    @Override
+    public byte[] encode(byte[] raw) {
+        Deflater deflater = new Deflater(level);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            out.write(raw.length >>> 24);
+            out.write(raw.length >>> 16);
+            out.write(raw.length >>> 8);
+            out.write(raw.length);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer encoded) throws IOException {
+        ByteBuffer input = encoded.duplicate();
+        if (input.remaining() < 4) {
+            throw new IOException("Truncated cache value");
+        }
+        int rawLength = input.getInt();
+        if (rawLength < 0) {
+            throw new IOException("Corrupt cache value length: " + rawLength);
+        }
+
+        byte[] raw = new byte[rawLength];
+        if (rawLength == 0) {
+            return raw;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            int offset = 0;
+            while (!inflater.finished()) {
+                int n = inflater.inflate(raw, offset, raw.length - offset);
+                offset += n;
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (dictionary == null) {
+                            throw new IOException("Cache value requires a compression dictionary");
+                        }
+                        try {
+                            inflater.setDictionary(dictionary);
+                        } catch (IllegalArgumentException e) {
+                            throw new IOException("Cache value was written with a different dictionary", e);
+                        }
+                    } else if (inflater.needsInput() || offset == raw.length) {
+                        break;
+                    }
+                }
+            }
+            if (!inflater.finished() || offset != rawLength) {
+                throw new IOException("Truncated cache value");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt cache value: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,694 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.cache;
+
+import org.knime.core.node.NodeLogger;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Log-structured disk cache (L2).
+ *
+ * Values are appended to fixed-size, memory-mapped segment files. An in-memory index maps a
+ * 128-bit SHA-256 prefix of the full key to the record's location, and every read verifies the
+ * stored key, so hash collisions can never return another key's payload. Reads copy the value
+ * out of the mapped segment, so no view of a segment outlives the read.
+ *
+ * The index is rebuilt by scanning the segments when the store is opened. A background task
+ * drops expired entries from the index and rewrites segments that are mostly dead. Segments
+ * that are no longer used are unmapped right away and their files deleted. The number of open
+ * files is bounded by the number of segments, not the number of cached responses.
+ *
+ * Several processes, e.g. two KNIME instances, can share a directory. Each process holds the
+ * lock of one writer slot and only appends to, compacts and deletes the segments of its slot;
+ * it reads the segments of the other slots but never writes them. Segments of slots that no
+ * process holds are taken over when the store is opened. If all slots are taken, the store
+ * is read-only. A process continues the last segment of its slot, so restarting does not add
+ * segments; a torn record from a crash ends the scan of its segment and is written over.
+ *
+ * One store is shared per directory within the JVM (see {@link #open(Path)}).
+ *
+ * Record layout: magic (int), key length (int), value length (int), expiry in epoch millis
+ * (long), CRC32 of key and value bytes (int), key bytes (UTF-8), value bytes.
+ */
+final class DiskCacheStore {
+
+    static final int DEFAULT_SEGMENT_SIZE = 32 * 1024 * 1024;
+    /** Number of processes that can write to a directory at the same time. */
+    static final int WRITER_SLOTS = 4;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DiskCacheStore.class);
+    private static final int RECORD_MAGIC = 0xCAC4E501;
+    private static final int HEADER_SIZE = 24;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String LOCK_PREFIX = "writer-";
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final String LEGACY_SUFFIX = ".cache";
+    private static final long COMPACTION_INTERVAL_MINUTES = 5;
+    /** Sealed segments with less live data than this fraction are rewritten. */
+    private static final double COMPACTION_LIVE_RATIO = 0.5;
+    /** Unmaps a mapped buffer; null if the JVM does not allow it, the GC unmaps it then. */
+    private static final Consumer<ByteBuffer> UNMAPPER = findUnmapper();
+
+    private static final Map<Path, DiskCacheStore> OPEN_STORES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final int segmentSize;
+    /** Writer slot of this process, or -1 if all slots are taken and the store is read-only */
+    private final int slot;
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+    private final Map<KeyHash, Location> index = new ConcurrentHashMap<>();
+    private final Map<Path, Segment> segments = new ConcurrentHashMap<>();
+    /** Files of retired segments that could not be deleted yet; retried on compaction */
+    private final List<Path> pendingDeletes = new ArrayList<>();
+    private final Object writeLock = new Object();
+    private final ScheduledExecutorService compactor;
+
+    // Written under writeLock; read by the compactor without it. Null until the first write.
+    private volatile Segment activeSegment;
+    private int nextSegmentId;
+
+    /**
+     * 128-bit prefix of the SHA-256 digest of a cache key, see {@link CacheKey}.
+     */
+    private record KeyHash(long high, long low) {
+        static KeyHash of(CacheKey key) {
+            return new KeyHash(key.getDigestHigh(), key.getDigestLow());
+        }
+    }
+
+    /**
+     * Position of a record inside a segment.
+     */
+    private record Location(Segment segment, int offset, int keyLength, int valueLength, long expiresAtMillis) {
+        int recordLength() {
+            return HEADER_SIZE + keyLength + valueLength;
+        }
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis > expiresAtMillis;
+        }
+    }
+
+    /**
+     * A value read from disk.
+     */
+    record StoredValue(byte[] value, long expiresAtMillis) {
+    }
+
+    private static final class Segment {
+        final Path path;
+        final MappedByteBuffer buffer;
+        final int capacity;
+        /** Whether the segment belongs to this process' writer slot */
+        final boolean writable;
+        final AtomicLong liveBytes = new AtomicLong();
+        /** Held for reading while the buffer is read, and for writing to unmap it */
+        final ReadWriteLock mapping = new ReentrantReadWriteLock();
+        // Guarded by mapping
+        boolean unmapped;
+        volatile int writePosition;
+
+        Segment(Path path, MappedByteBuffer buffer, int capacity, boolean writable) {
+            this.path = path;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.writable = writable;
+        }
+
+        /**
+         * Copy bytes out of the segment. Must be called with the mapping's read lock or the
+         * store's write lock held.
+         */
+        byte[] read(int offset, int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(offset, bytes);
+            return bytes;
+        }
+    }
+
+    private DiskCacheStore(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+        FileChannel channel = null;
+        FileLock lock = null;
+        int taken = -1;
+        for (int candidate = 0; candidate < WRITER_SLOTS && lock == null; candidate++) {
+            channel = FileChannel.open(lockPath(candidate), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try {
+                lock = channel.tryLock();
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            if (lock == null) {
+                channel.close();
+                channel = null;
+            } else {
+                taken = candidate;
+            }
+        }
+        slot = taken;
+        lockChannel = channel;
+        fileLock = lock;
+        if (slot < 0) {
+            LOGGER.warn("All " + WRITER_SLOTS + " writer slots of the disk cache are in use by other processes, "
+                + "reading it without adding entries: " + directory);
+        }
+
+        if (slot >= 0) {
+            deleteLegacyFiles();
+        }
+        loadSegments();
+
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "apisports-cache-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(this::compactQuietly,
+            COMPACTION_INTERVAL_MINUTES, COMPACTION_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Open the store for a directory, or return the store already open for it in this JVM.
+     *
+     * @throws IOException if the directory cannot be used
+     */
+    static DiskCacheStore open(Path directory) throws IOException {
+        Path normalized = directory.toAbsolutePath().normalize();
+        synchronized (OPEN_STORES) {
+            DiskCacheStore store = OPEN_STORES.get(normalized);
+            if (store == null) {
+                store = new DiskCacheStore(normalized, DEFAULT_SEGMENT_SIZE);
+                OPEN_STORES.put(normalized, store);
+            }
+            return store;
+        }
+    }
+
+    /**
+     * Look up a live value.
+     *
+     * @return the stored value, or null if absent or expired
+     */
+    StoredValue get(CacheKey key) {
+        KeyHash hash = KeyHash.of(key);
+        while (true) {
+            Location location = index.get(hash);
+            if (location == null) {
+                return null;
+            }
+            if (location.isExpired(System.currentTimeMillis())) {
+                removeLocation(hash, location);
+                return null;
+            }
+
+            Segment segment = location.segment();
+            Lock lock = segment.mapping.readLock();
+            lock.lock();
+            try {
+                if (segment.unmapped) {
+                    // Moved or dropped by compaction since the index was read
+                    removeLocation(hash, location);
+                    continue;
+                }
+                // Verify the full key - the index is keyed by hash only
+                ByteBuffer storedKey = segment.buffer.slice(location.offset() + HEADER_SIZE, location.keyLength());
+                if (!storedKey.equals(ByteBuffer.wrap(key.toString().getBytes(StandardCharsets.UTF_8)))) {
+                    return null;
+                }
+                byte[] value = segment.read(location.offset() + HEADER_SIZE + location.keyLength(),
+                    location.valueLength());
+                return new StoredValue(value, location.expiresAtMillis());
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Append a value, replacing any previous value for the key. Does nothing if the store is
+     * read-only.
+     */
+    void put(CacheKey key, byte[] value, long expiresAtMillis) throws IOException {
+        if (slot < 0) {
+            return;
+        }
+        byte[] keyBytes = key.toString().getBytes(StandardCharsets.UTF_8);
+        KeyHash hash = KeyHash.of(key);
+        CRC32 crc = new CRC32();
+        crc.update(keyBytes);
+        crc.update(value);
+
+        synchronized (writeLock) {
+            Location location = append(keyBytes, value, expiresAtMillis, (int) crc.getValue());
+            Location previous = index.put(hash, location);
+            if (previous != null) {
+                previous.segment().liveBytes.addAndGet(-previous.recordLength());
+            }
+        }
+    }
+
+    /**
+     * Drop a key from the index. The record stays on disk until its segment is compacted.
+     */
+    void remove(CacheKey key) {
+        KeyHash hash = KeyHash.of(key);
+        Location location = index.get(hash);
+        if (location != null) {
+            removeLocation(hash, location);
+        }
+    }
+
+    /**
+     * Remove all entries. Deletes the segment files of this process; the segments of other
+     * processes are only dropped from the index.
+     */
+    void clear() {
+        synchronized (writeLock) {
+            index.clear();
+            for (Segment segment : new ArrayList<>(segments.values())) {
+                retire(segment);
+            }
+            activeSegment = null;
+        }
+    }
+
+    /**
+     * Number of live entries in the index.
+     */
+    int size() {
+        return index.size();
+    }
+
+    /**
+     * Drop expired entries, rewrite sealed segments whose live data has fallen below the
+     * compaction threshold, and unmap segments of other processes that hold no live entries.
+     */
+    void compact() throws IOException {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<KeyHash, Location> entry : index.entrySet()) {
+            if (entry.getValue().isExpired(now)) {
+                removeLocation(entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (Segment segment : segments.values()) {
+            if (segment == activeSegment) {
+                continue;
+            }
+            if (!segment.writable) {
+                if (segment.liveBytes.get() <= 0) {
+                    synchronized (writeLock) {
+                        retire(segment);
+                    }
+                }
+                continue;
+            }
+            long written = segment.writePosition;
+            if (written > 0 && segment.liveBytes.get() >= written * COMPACTION_LIVE_RATIO) {
+                continue;
+            }
+            rewriteSegment(segment);
+        }
+
+        synchronized (writeLock) {
+            pendingDeletes.removeIf(DiskCacheStore::tryDelete);
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            LOGGER.warn("Disk cache compaction failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copy the live records of a sealed segment to the active segment and retire it.
+     */
+    private void rewriteSegment(Segment segment) throws IOException {
+        for (Map.Entry<KeyHash, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            if (location.segment() != segment) {
+                continue;
+            }
+            synchronized (writeLock) {
+                // Skip entries replaced or removed since the index was read
+                if (index.get(entry.getKey()) != location) {
+                    continue;
+                }
+                byte[] keyBytes = segment.read(location.offset() + HEADER_SIZE, location.keyLength());
+                byte[] value = segment.read(location.offset() + HEADER_SIZE + location.keyLength(),
+                    location.valueLength());
+                int crc = segment.buffer.getInt(location.offset() + 20);
+
+                Location moved = append(keyBytes, value, location.expiresAtMillis(), crc);
+                index.put(entry.getKey(), moved);
+            }
+        }
+
+        synchronized (writeLock) {
+            retire(segment);
+        }
+    }
+
+    private void removeLocation(KeyHash hash, Location location) {
+        if (index.remove(hash, location)) {
+            location.segment().liveBytes.addAndGet(-location.recordLength());
+        }
+    }
+
+    /**
+     * Append one record to the active segment, starting a new segment when there is none or
+     * it is full. Must be called with the write lock held.
+     */
+    private Location append(byte[] keyBytes, byte[] value, long expiresAtMillis, int crc) throws IOException {
+        int recordLength = HEADER_SIZE + keyBytes.length + value.length;
+        if (activeSegment == null || activeSegment.writePosition + recordLength > activeSegment.capacity) {
+            // Oversized records get a segment of their own
+            activeSegment = createSegment(Math.max(segmentSize, recordLength));
+        }
+
+        Segment segment = activeSegment;
+        int offset = segment.writePosition;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.put(offset + HEADER_SIZE, keyBytes);
+        buffer.put(offset + HEADER_SIZE + keyBytes.length, value);
+        buffer.putInt(offset + 4, keyBytes.length);
+        buffer.putInt(offset + 8, value.length);
+        buffer.putLong(offset + 12, expiresAtMillis);
+        buffer.putInt(offset + 20, crc);
+        // Magic last, so a partially written record is never recognized on the next scan
+        buffer.putInt(offset, RECORD_MAGIC);
+
+        segment.writePosition = offset + recordLength;
+        segment.liveBytes.addAndGet(recordLength);
+        return new Location(segment, offset, keyBytes.length, value.length, expiresAtMillis);
+    }
+
+    private Segment createSegment(int capacity) throws IOException {
+        Path path = segmentPath(slot, nextSegmentId++);
+        Segment segment = mapSegment(path, capacity, true, true);
+        segments.put(path, segment);
+        return segment;
+    }
+
+    private static Segment mapSegment(Path path, int capacity, boolean writable, boolean create) throws IOException {
+        FileChannel channel;
+        if (create) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        } else if (writable) {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } else {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+        try (channel) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(
+                writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, capacity);
+            return new Segment(path, buffer, capacity, writable);
+        }
+    }
+
+    /**
+     * Remove a segment that no longer holds indexed entries and unmap it. The file of a segment
+     * of this process is deleted; should that fail, e.g. because another process still has it
+     * mapped, its first record is invalidated so that it scans as empty, and the delete is
+     * retried on compaction. Must be called with the write lock held.
+     */
+    private void retire(Segment segment) {
+        segments.remove(segment.path, segment);
+        Lock lock = segment.mapping.writeLock();
+        lock.lock();
+        try {
+            if (segment.unmapped) {
+                return;
+            }
+            if (segment.writable) {
+                segment.buffer.putInt(0, 0);
+            }
+            segment.unmapped = true;
+            if (UNMAPPER != null) {
+                UNMAPPER.accept(segment.buffer);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (segment.writable && !tryDelete(segment.path)) {
+            pendingDeletes.add(segment.path);
+        }
+    }
+
+    private static boolean tryDelete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Take over the segments of this process' slot and of slots no process holds, map the
+     * segments of all slots and rebuild the index from their records.
+     */
+    private void loadSegments() throws IOException {
+        Map<Integer, TreeMap<Integer, Path>> found = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                String[] parts = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())
+                    .split("-");
+                try {
+                    if (parts.length == 2) {
+                        found.computeIfAbsent(Integer.parseInt(parts[0]), s -> new TreeMap<>())
+                            .put(Integer.parseInt(parts[1]), path);
+                    }
+                } catch (NumberFormatException e) {
+                    // Not one of ours
+                }
+            }
+        }
+        if (slot >= 0) {
+            TreeMap<Integer, Path> own = found.computeIfAbsent(slot, s -> new TreeMap<>());
+            nextSegmentId = own.isEmpty() ? 0 : own.lastKey() + 1;
+            adoptFreeSlots(found, own);
+        }
+
+        long now = System.currentTimeMillis();
+        List<Segment> loaded = new ArrayList<>();
+        Segment lastOwn = null;
+        for (Map.Entry<Integer, TreeMap<Integer, Path>> slotSegments : found.entrySet()) {
+            boolean writable = slotSegments.getKey() == slot;
+            for (Path path : slotSegments.getValue().values()) {
+                long size;
+                try {
+                    size = Files.size(path);
+                } catch (NoSuchFileException e) {
+                    // Deleted by its owner since the directory was listed
+                    continue;
+                }
+                if (size == 0 || size > Integer.MAX_VALUE) {
+                    if (writable) {
+                        tryDelete(path);
+                    }
+                    continue;
+                }
+                Segment segment = mapSegment(path, (int) size, writable, false);
+                scanSegment(segment, now);
+                loaded.add(segment);
+                if (writable) {
+                    lastOwn = segment;
+                }
+            }
+        }
+
+        synchronized (writeLock) {
+            // Records in later segments may have superseded all records of earlier ones
+            for (Segment segment : loaded) {
+                if (segment.liveBytes.get() > 0 || segment == lastOwn) {
+                    segments.put(segment.path, segment);
+                } else {
+                    retire(segment);
+                }
+            }
+            // Continue the last segment of this process' slot, if there is room left
+            if (lastOwn != null && lastOwn.writePosition + HEADER_SIZE < lastOwn.capacity) {
+                activeSegment = lastOwn;
+            } else if (lastOwn != null && lastOwn.liveBytes.get() <= 0) {
+                retire(lastOwn);
+            }
+        }
+    }
+
+    /**
+     * Move the segments of slots that no process holds into this process' slot. Files that
+     * cannot be moved, e.g. because another process has them mapped on a platform that does
+     * not allow it, are left for a later open.
+     */
+    private void adoptFreeSlots(Map<Integer, TreeMap<Integer, Path>> found, TreeMap<Integer, Path> own)
+            throws IOException {
+        for (Iterator<Map.Entry<Integer, TreeMap<Integer, Path>>> it = found.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Integer, TreeMap<Integer, Path>> slotSegments = it.next();
+            int other = slotSegments.getKey();
+            if (other == slot) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(lockPath(other), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+                 FileLock lock = channel.tryLock()) {
+                if (lock == null) {
+                    // Held by a running process
+                    continue;
+                }
+                for (Path path : slotSegments.getValue().values()) {
+                    Path adopted = segmentPath(slot, nextSegmentId);
+                    try {
+                        Files.move(path, adopted);
+                        own.put(nextSegmentId++, adopted);
+                    } catch (IOException e) {
+                        // Left for a later open
+                    }
+                }
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Add the records of a segment to the index. Of two records for the same key, the later one
+     * wins within a segment and the one that expires last across segments, as segments of
+     * different processes have no order.
+     */
+    private void scanSegment(Segment segment, long nowMillis) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_SIZE <= segment.capacity && buffer.getInt(offset) == RECORD_MAGIC) {
+            int keyLength = buffer.getInt(offset + 4);
+            int valueLength = buffer.getInt(offset + 8);
+            long expiresAt = buffer.getLong(offset + 12);
+            int crc = buffer.getInt(offset + 20);
+            if (keyLength < 0 || valueLength < 0
+                    || (long) offset + HEADER_SIZE + keyLength + valueLength > segment.capacity) {
+                break;
+            }
+
+            byte[] keyBytes = segment.read(offset + HEADER_SIZE, keyLength);
+            CRC32 check = new CRC32();
+            check.update(keyBytes);
+            check.update(segment.buffer.slice(offset + HEADER_SIZE + keyLength, valueLength));
+            if ((int) check.getValue() != crc) {
+                break;  // Torn write - nothing after it in this segment is trustworthy
+            }
+
+            Location location = new Location(segment, offset, keyLength, valueLength, expiresAt);
+            offset += location.recordLength();
+            if (location.isExpired(nowMillis)) {
+                continue;
+            }
+            KeyHash hash = KeyHash.of(CacheKey.of(keyBytes));
+            Location previous = index.get(hash);
+            if (previous != null && previous.segment() != segment && previous.expiresAtMillis() > expiresAt) {
+                continue;
+            }
+            if (previous != null) {
+                previous.segment().liveBytes.addAndGet(-previous.recordLength());
+            }
+            index.put(hash, location);
+            segment.liveBytes.addAndGet(location.recordLength());
+        }
+        segment.writePosition = offset;
+    }
+
+    private Path lockPath(int writerSlot) {
+        return directory.resolve(LOCK_PREFIX + writerSlot + LOCK_SUFFIX);
+    }
+
+    private Path segmentPath(int writerSlot, int id) {
+        return directory.resolve(String.format("%s%d-%08d%s", SEGMENT_PREFIX, writerSlot, id, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Remove per-key files written by the previous cache format.
+     */
+    private void deleteLegacyFiles() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + LEGACY_SUFFIX)) {
+            for (Path path : stream) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Look up the JDK's internal way to unmap a buffer. There is no public API for it; without
+     * it, retired segments stay mapped until their buffers are garbage collected.
+     */
+    private static Consumer<ByteBuffer> findUnmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> {
+                try {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } catch (ReflectiveOperationException e) {
+                    // Unmapped when garbage collected
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Disk cache segments are unmapped by the garbage collector: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Memory cache with segmented LRU eviction, bounded by the approximate size of the cached
+ * entries in bytes.
+ *
+ * New entries enter a probation segment; an entry that is read again is promoted to the
+ * protected segment, which holds at most 80% of the capacity. Eviction removes the least
+ * recently used probation entry first, so one-off responses (e.g. a large season query that
+ * is never repeated) cannot push out frequently reused reference data.
+ *
+ * Protected entries can also hold their decoded value, see {@link #attachDecoded}, so hot
+ * entries are not decompressed on every hit. The decoded value counts towards the weight
+ * and is dropped when the entry is demoted to probation.
+ *
+ * Lookups read a concurrent map without locking. The LRU order of the segments is kept under
+ * a lock: reads are recorded in a read buffer striped by thread and replayed in batches, when
+ * a stripe fills up or before the next write. Like the buffers of Caffeine the read buffer is
+ * lossy, so under heavy contention some reads do not update the LRU order, which only makes
+ * eviction slightly less exact.
+ */
+final class SegmentedLruCache {
+
+    /** Approximate per-entry overhead (entry, map node, key object headers). */
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final long maxWeight;
+    private final long maxProtectedWeight;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // All live entries, read without the lock
+    private final ConcurrentHashMap<CacheKey, Node> data = new ConcurrentHashMap<>();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+
+    // Guarded by the lock; iteration order of both maps is least to most recently used
+    private final LinkedHashMap<CacheKey, Node> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<CacheKey, Node> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long probationWeight = 0;
+    private long protectedWeight = 0;
+
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Node {
+        final CacheEntry entry;
+        // Guarded by the lock
+        long weight;
+        // Written under the lock, read by lookups
+        volatile boolean isProtected;
+        // Written under the lock, read by lookups
+        volatile String decoded;
+
+        Node(CacheEntry entry, long weight) {
+            this.entry = entry;
+            this.weight = weight;
+        }
+
+        /**
+         * Drop the decoded value, returning the weight released.
+         */
+        long dropDecoded() {
+            if (decoded == null) {
+                return 0;
+            }
+            long released = decoded.length();
+            decoded = null;
+            weight -= released;
+            return released;
+        }
+    }
+
+    /**
+     * A live entry, with its decoded value if one is attached.
+     *
+     * @param entry The cached entry
+     * @param decoded The decoded value, or null if it has to be decoded from the entry
+     * @param isProtected Whether the entry is in the protected segment, i.e. was read before
+     */
+    record Lookup(CacheEntry entry, String decoded, boolean isProtected) {
+    }
+
+    SegmentedLruCache(long maxWeightBytes) {
+        if (maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("Maximum cache weight must be positive");
+        }
+        this.maxWeight = maxWeightBytes;
+        this.maxProtectedWeight = (long) (maxWeightBytes * PROTECTED_RATIO);
+    }
+
+    /**
+     * Approximate heap size of an entry. Keys are almost entirely Latin-1, which the JVM stores
+     * as one byte per character; values are counted in their encoded size.
+     */
+    static long weigh(CacheKey key, byte[] encodedValue) {
+        return ENTRY_OVERHEAD_BYTES + key.toString().length() + encodedValue.length;
+    }
+
+    /**
+     * Get a live entry, promoting it on a repeated access. Expired entries are removed.
+     */
+    Lookup get(CacheKey key) {
+        Node node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.entry.isExpired()) {
+            lock.lock();
+            try {
+                drainReadBuffer();
+                if (data.get(key) == node) {
+                    removeLocked(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+
+        if (!readBuffer.offer(node) && lock.tryLock()) {
+            // The stripe is full: replay it now unless another thread holds the lock
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return new Lookup(node.entry, node.decoded, node.isProtected);
+    }
+
+    /**
+     * Insert or replace an entry. Entries larger than the whole cache are not kept in memory.
+     */
+    void put(CacheEntry entry) {
+        long weight = weigh(entry.key(), entry.encodedValue());
+        lock.lock();
+        try {
+            drainReadBuffer();
+            removeLocked(entry.key());
+            if (weight > maxWeight) {
+                return;
+            }
+            Node node = new Node(entry, weight);
+            data.put(entry.key(), node);
+            probation.put(entry.key(), node);
+            probationWeight += weight;
+            evictIfNeeded(entry.key());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Keep the decoded value of a protected entry, so later hits need not decode it again.
+     * Nothing is kept if the entry has been replaced, removed or demoted in the meantime, or if
+     * another thread holds the lock: a lookup never waits for it, a later hit attaches instead.
+     */
+    void attachDecoded(CacheEntry entry, String decoded) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // Replay pending reads first, they may promote the entry
+            drainReadBuffer();
+            Node node = data.get(entry.key());
+            if (node == null || node.entry != entry || !node.isProtected || node.decoded != null) {
+                return;
+            }
+            node.decoded = decoded;
+            node.weight += decoded.length();
+            protectedWeight += decoded.length();
+            demoteOverflow(entry.key());
+            evictIfNeeded(entry.key());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(CacheKey key) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            removeLocked(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            probation.clear();
+            protectedSegment.clear();
+            probationWeight = 0;
+            protectedWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    long weight() {
+        lock.lock();
+        try {
+            return probationWeight + protectedWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replay the recorded reads: promote probation entries and refresh the LRU order of
+     * protected ones. Reads of entries that were replaced or removed since are skipped.
+     */
+    private void drainReadBuffer() {
+        readBuffer.drain(node -> {
+            CacheKey key = node.entry.key();
+            if (data.get(key) != node) {
+                return;
+            }
+            if (node.isProtected) {
+                protectedSegment.get(key);
+            } else {
+                probation.remove(key);
+                probationWeight -= node.weight;
+                promote(key, node);
+            }
+        });
+    }
+
+    private void promote(CacheKey key, Node node) {
+        node.isProtected = true;
+        protectedSegment.put(key, node);
+        protectedWeight += node.weight;
+        demoteOverflow(key);
+    }
+
+    /**
+     * Demote least recently used protected entries back to probation until the protected
+     * segment fits, keeping the given entry.
+     */
+    private void demoteOverflow(CacheKey key) {
+        Iterator<Map.Entry<CacheKey, Node>> it = protectedSegment.entrySet().iterator();
+        while (protectedWeight > maxProtectedWeight && it.hasNext()) {
+            Map.Entry<CacheKey, Node> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                break;
+            }
+            it.remove();
+            protectedWeight -= eldest.getValue().weight;
+            eldest.getValue().isProtected = false;
+            eldest.getValue().dropDecoded();
+            probation.put(eldest.getKey(), eldest.getValue());
+            probationWeight += eldest.getValue().weight;
+        }
+    }
+
+    /**
+     * Evict until the cache fits. The entry just inserted is kept so that it gets a chance to be
+     * promoted; it always fits on its own because oversized entries are rejected by put().
+     */
+    private void evictIfNeeded(CacheKey insertedKey) {
+        evictFrom(probation, true, insertedKey);
+        evictFrom(protectedSegment, false, insertedKey);
+    }
+
+    private void evictFrom(LinkedHashMap<CacheKey, Node> segment, boolean isProbation, CacheKey insertedKey) {
+        Iterator<Map.Entry<CacheKey, Node>> it = segment.entrySet().iterator();
+        while (probationWeight + protectedWeight > maxWeight && it.hasNext()) {
+            Map.Entry<CacheKey, Node> candidate = it.next();
+            if (candidate.getKey().equals(insertedKey)) {
+                continue;
+            }
+            Node eldest = candidate.getValue();
+            it.remove();
+            data.remove(candidate.getKey(), eldest);
+            if (isProbation) {
+                probationWeight -= eldest.weight;
+            } else {
+                protectedWeight -= eldest.weight;
+            }
+            evictions.increment();
+        }
+    }
+
+    private void removeLocked(CacheKey key) {
+        data.remove(key);
+        Node node = probation.remove(key);
+        if (node != null) {
+            probationWeight -= node.weight;
+        }
+        node = protectedSegment.remove(key);
+        if (node != null) {
+            protectedWeight -= node.weight;
+        }
+    }
+
+    /**
+     * Lossy buffer of reads, striped by thread so that concurrent readers rarely write to the
+     * same stripe. Each stripe is a ring that readers append to with a CAS; it is drained by
+     * the lock holder. Reads are dropped when their stripe is full or the CAS loses a race.
+     */
+    private static final class ReadBuffer {
+        private static final int STRIPE_SIZE = 32;
+        private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+        private final Stripe[] stripes;
+        private final int stripeMask;
+
+        private static final class Stripe {
+            final AtomicReferenceArray<Node> slots = new AtomicReferenceArray<>(STRIPE_SIZE);
+            final AtomicLong writeCount = new AtomicLong();
+            // Written by the lock holder only
+            volatile long readCount;
+        }
+
+        ReadBuffer() {
+            int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+            stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe();
+            }
+            stripeMask = count - 1;
+        }
+
+        /**
+         * Record a read.
+         *
+         * @return false if the stripe of the current thread is full and should be drained
+         */
+        boolean offer(Node node) {
+            Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+            long write = stripe.writeCount.get();
+            if (write - stripe.readCount >= STRIPE_SIZE) {
+                return false;
+            }
+            if (stripe.writeCount.compareAndSet(write, write + 1)) {
+                stripe.slots.lazySet((int) (write & STRIPE_MASK), node);
+            }
+            return true;
+        }
+
+        /**
+         * Hand the recorded reads to the consumer. Must be called holding the cache lock.
+         */
+        void drain(Consumer<Node> consumer) {
+            for (Stripe stripe : stripes) {
+                long read = stripe.readCount;
+                long write = stripe.writeCount.get();
+                for (; read < write; read++) {
+                    int index = (int) (read & STRIPE_MASK);
+                    Node node = stripe.slots.get(index);
+                    if (node == null) {
+                        // Claimed but not yet published; picked up by the next drain
+                        break;
+                    }
+                    stripe.slots.lazySet(index, null);
+                    consumer.accept(node);
+                }
+                stripe.readCount = read;
+            }
+        }
+    }
+}
@@ -18,46 +18,151 @@ package com.apisports.knime.core.client;
 
 import com.apisports.knime.core.exception.ApiSportsException;
 import com.apisports.knime.core.exception.RateLimitExceededException;
+import com.apisports.knime.core.license.LicenseManager;
 import com.apisports.knime.core.model.Sport;
 import com.apisports.knime.core.ratelimit.RateLimiterManager;
+import com.apisports.knime.core.ratelimit.ServerQuota;
+import com.apisports.knime.core.cache.CacheKey;
 import com.apisports.knime.core.cache.CacheManager;
+import com.apisports.knime.core.cache.CacheManager.Hit;
+import com.apisports.knime.core.cache.CacheStats;
+import com.apisports.knime.core.descriptor.DescriptorRegistry;
+import com.apisports.knime.core.descriptor.EndpointDescriptor;
+import com.apisports.knime.core.descriptor.EndpointDescriptor.CachingConfig;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Generic HTTP client for API-Sports endpoints.
  * Handles authentication, rate limiting, caching, and retry logic.
+ *
+ * Requests can be issued blocking via {@link #get(String, Map)} or non-blocking via
+ * {@link #getAsync(String, Map)}. Async requests share the cache and rate limiter with
+ * the blocking path and are capped at a configurable number of requests in flight.
+ *
+ * Responses are cached for the TTL declared by the endpoint's descriptor in the
+ * {@link DescriptorRegistry}; endpoints without a descriptor use the cache's default TTL.
+ *
+ * The quota reported in the rate limit headers of every response is fed back into the
+ * {@link RateLimiterManager}, so requests are paced to the key's real subscription limits.
+ *
+ * Requests go to the sport's public API host unless a base URL is given, which lets the
+ * client run against a local stand-in of the API.
+ *
+ * Identical requests (same cache key) issued while one is in flight, from either path,
+ * do not go to the network again but complete with the response of the request in flight.
+ *
+ * Every request is counted per endpoint: cache hits by tier, coalesced requests, API calls
+ * by outcome, retries, response sizes, rate limiter waits and a latency histogram, see
+ * {@link #getEndpointStats()}.
  */
 public class ApiSportsHttpClient {
     
     private static final String API_KEY_HEADER = "x-apisports-key";
     private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String LIVE_PARAM = "live";
+    private static final String DATE_PARAM = "date";
+    private static final String FROM_PARAM = "from";
+    private static final String TO_PARAM = "to";
+    private static final String SEASON_PARAM = "season";
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    /** Longest a request waits for the rate limiter before failing with a rate limit error. */
+    public static final Duration MAX_RATE_LIMIT_WAIT = Duration.ofMinutes(2);
+    /**
+     * Longest a request waits for an identical request in flight: the rate limiter wait plus
+     * all attempts of the request, with room to spare.
+     */
+    private static final Duration MAX_IN_FLIGHT_WAIT = MAX_RATE_LIMIT_WAIT.plus(DEFAULT_TIMEOUT.multipliedBy(6));
     
     private final HttpClient httpClient;
     private final String apiKey;
     private final Sport sport;
+    private final String baseUrl;
+    /** Prefix of the request keys: the sport, plus the base URL if it is not the default */
+    private final String keyScope;
     private final RateLimiterManager rateLimiter;
     private final CacheManager cacheManager;
     private final RequestPipeline requestPipeline;
-    private int apiCallCount = 0;
-    private int cacheHitCount = 0;
+    private final Semaphore inFlightPermits;
+    private final int maxConcurrentRequests;
+    private final Queue<Runnable> pendingRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger apiCallCount = new AtomicInteger();
+    private final AtomicInteger cacheHitCount = new AtomicInteger();
+    private final AtomicInteger coalescedCount = new AtomicInteger();
+    /** Requests in flight, completed with the response body */
+    private final ConcurrentMap<RequestKey, CompletableFuture<String>> inFlightRequests = new ConcurrentHashMap<>();
+    /** License whose tier follows the quota reported by the server, if any */
+    private volatile LicenseManager licenseManager;
+    private final ConcurrentMap<String, EndpointMetrics> endpointMetrics = new ConcurrentHashMap<>();
 
     public ApiSportsHttpClient(String apiKey, Sport sport, RateLimiterManager rateLimiter,
                                CacheManager cacheManager) {
+        this(apiKey, sport, rateLimiter, cacheManager, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Create a client with an explicit cap on concurrent async requests.
+     *
+     * @param maxConcurrentRequests Maximum number of {@link #getAsync} requests in flight at once
+     */
+    public ApiSportsHttpClient(String apiKey, Sport sport, RateLimiterManager rateLimiter,
+                               CacheManager cacheManager, int maxConcurrentRequests) {
+        this(apiKey, sport, rateLimiter, cacheManager, maxConcurrentRequests, null);
+    }
+
+    /**
+     * Create a client that sends requests to the given base URL instead of the sport's API host.
+     *
+     * @param maxConcurrentRequests Maximum number of {@link #getAsync} requests in flight at once
+     * @param baseUrl Scheme, host and optional path prefix, e.g. "http://localhost:8080";
+     *                null or blank for {@link #defaultBaseUrl(Sport)}
+     */
+    public ApiSportsHttpClient(String apiKey, Sport sport, RateLimiterManager rateLimiter,
+                               CacheManager cacheManager, int maxConcurrentRequests, String baseUrl) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+        }
         this.apiKey = apiKey;
         this.sport = sport;
+        this.baseUrl = baseUrl == null || baseUrl.isBlank()
+            ? defaultBaseUrl(sport)
+            : stripTrailingSlash(baseUrl.trim());
+        // Keep responses of other API hosts, such as a local stand-in, out of the shared disk cache entries
+        this.keyScope = this.baseUrl.equals(defaultBaseUrl(sport))
+            ? sport.getId()
+            : sport.getId() + "@" + this.baseUrl;
         this.rateLimiter = rateLimiter;
         this.cacheManager = cacheManager;
         this.httpClient = HttpClient.newBuilder()
             .connectTimeout(DEFAULT_TIMEOUT)
             .build();
         this.requestPipeline = new RequestPipeline();
+        this.inFlightPermits = new Semaphore(maxConcurrentRequests);
+        this.maxConcurrentRequests = maxConcurrentRequests;
     }
 
     /**
@@ -70,107 +175,530 @@ public class ApiSportsHttpClient {
      */
     public String get(String endpoint, Map<String, String> queryParams) throws ApiSportsException {
         // Check cache first
-        String cacheKey = buildCacheKey(endpoint, queryParams);
-        String cachedResponse = cacheManager.get(cacheKey);
+        RequestKey requestKey = RequestKey.of(keyScope, endpoint, queryParams);
+        Duration cacheTtl = resolveCacheTtl(endpoint, queryParams);
+        String cachedResponse = getCached(requestKey, cacheTtl, true);
         if (cachedResponse != null) {
-            cacheHitCount++;
             return cachedResponse;
         }
 
-        // Check rate limit
-        if (!rateLimiter.tryAcquire(apiKey)) {
-            throw new RateLimitExceededException(
-                "Rate limit exceeded for API key", 
-                rateLimiter.getRetryAfterSeconds(apiKey)
-            );
+        // Share the response of an identical request in flight
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlightRequests.putIfAbsent(requestKey, flight);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            metricsFor(endpoint).coalesced.increment();
+            return awaitInFlight(existing);
+        }
+
+        try {
+            // The previous identical request may have completed since the cache lookup
+            cachedResponse = getCached(requestKey, cacheTtl, false);
+            String body = cachedResponse != null
+                ? cachedResponse
+                : fetch(requestKey, cacheTtl);
+            flight.complete(body);
+            return body;
+        } catch (Throwable e) {
+            // Complete the flight whatever failed, or identical requests would wait for it in vain
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(requestKey, flight);
+        }
+    }
+
+    /**
+     * Send a request on the calling thread, after waiting for the rate limiter.
+     */
+    private String fetch(RequestKey requestKey, Duration cacheTtl) throws ApiSportsException {
+        EndpointMetrics metrics = metricsFor(requestKey.getEndpoint());
+
+        // Wait for the rate limiter
+        long waitStart = System.nanoTime();
+        try {
+            awaitRateLimit();
+        } finally {
+            metrics.rateLimitWaitNanos.add(System.nanoTime() - waitStart);
+        }
+
+        HttpRequest request = buildRequest(requestKey);
+
+        // Execute with retry logic
+        HttpResponse<String> response;
+        apiCallCount.incrementAndGet();  // Increment call count
+        metrics.apiCalls.increment();
+        long startNanos = System.nanoTime();
+        try {
+            response = requestPipeline.execute(httpClient, request, metrics.retries::increment);
+        } catch (IOException | InterruptedException e) {
+            metrics.recordLatency(startNanos);
+            metrics.errors.increment();
+            Thread.currentThread().interrupt();
+            throw new ApiSportsException("Request execution failed", e);
+        }
+        metrics.recordLatency(startNanos);
+        return handleResponse(response, requestKey, cacheTtl, metrics);
+    }
+
+    /**
+     * Execute a GET request asynchronously.
+     * Applies the same cache lookup, rate limiting and retry semantics as
+     * {@link #get(String, Map)}. Cache hits complete immediately; otherwise the
+     * request is queued until one of the in-flight slots is free, and then delayed
+     * until the rate limiter admits it. No thread is blocked while waiting.
+     *
+     * @param endpoint The API endpoint path
+     * @param queryParams Query parameters
+     * @return Future completing with the response body, or exceptionally with an
+     *         {@link ApiSportsException} if the request fails
+     */
+    public CompletableFuture<String> getAsync(String endpoint, Map<String, String> queryParams) {
+        RequestKey requestKey = RequestKey.of(keyScope, endpoint, queryParams);
+        Duration cacheTtl = resolveCacheTtl(endpoint, queryParams);
+        String cachedResponse = getCached(requestKey, cacheTtl, true);
+        if (cachedResponse != null) {
+            return CompletableFuture.completedFuture(cachedResponse);
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlightRequests.putIfAbsent(requestKey, flight);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            metricsFor(endpoint).coalesced.increment();
+            // Callers get their own future, so cancelling one does not affect the others
+            CompletableFuture<String> shared = new CompletableFuture<>();
+            existing.whenComplete((body, error) -> {
+                if (error != null) {
+                    shared.completeExceptionally(coalescedFailure(error));
+                } else {
+                    shared.complete(body);
+                }
+            });
+            return shared;
+        }
+        flight.whenComplete((body, error) -> inFlightRequests.remove(requestKey, flight));
+
+        // The previous identical request may have completed since the cache lookup
+        cachedResponse = getCached(requestKey, cacheTtl, false);
+        if (cachedResponse != null) {
+            flight.complete(cachedResponse);
+            return flight.copy();
+        }
+
+        pendingRequests.add(() -> sendAsync(requestKey, cacheTtl, flight));
+        drainPendingRequests();
+        return flight.copy();
+    }
+
+    /**
+     * Look up a cached response, counting a hit.
+     *
+     * @param countMiss Whether to count a miss; false when re-checking after a first lookup
+     * @return The cached body, or null if the response is not cached or must not be cached
+     */
+    private String getCached(RequestKey requestKey, Duration cacheTtl, boolean countMiss) {
+        if (!isCacheable(cacheTtl)) {
+            return null;
+        }
+        Hit hit = cacheManager.lookup(requestKey.getCacheKey());
+        if (hit == null) {
+            if (countMiss) {
+                metricsFor(requestKey.getEndpoint()).cacheMisses.increment();
+            }
+            return null;
+        }
+        cacheHitCount.incrementAndGet();
+        EndpointMetrics metrics = metricsFor(requestKey.getEndpoint());
+        (hit.fromDisk() ? metrics.diskHits : metrics.memoryHits).increment();
+        return hit.value();
+    }
+
+    /**
+     * Wait for the response of an identical request in flight, failing with its error.
+     */
+    private static String awaitInFlight(CompletableFuture<String> flight) throws ApiSportsException {
+        try {
+            return flight.get(MAX_IN_FLIGHT_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiSportsException("Interrupted while waiting for an identical request", e);
+        } catch (TimeoutException e) {
+            throw new ApiSportsException("Timed out waiting for an identical request after "
+                + MAX_IN_FLIGHT_WAIT.toSeconds() + " seconds", e);
+        } catch (ExecutionException e) {
+            throw coalescedFailure(e.getCause());
+        }
+    }
+
+    /**
+     * Wrap the failure of a request in flight for one of the identical requests waiting for it,
+     * so that each gets its own stack trace. Rate limit errors keep their type.
+     */
+    private static ApiSportsException coalescedFailure(Throwable error) {
+        if (error instanceof RateLimitExceededException) {
+            RateLimitExceededException rateLimit = (RateLimitExceededException) error;
+            return new RateLimitExceededException(rateLimit.getMessage(), rateLimit.getRetryAfterSeconds(), rateLimit);
+        }
+        if (error instanceof ApiSportsException) {
+            return new ApiSportsException(error.getMessage(), error);
+        }
+        return new ApiSportsException("Request execution failed", error);
+    }
+
+    /**
+     * Send a queued async request. Must only be called while holding an in-flight permit;
+     * the permit is released once the request completes.
+     */
+    private void sendAsync(RequestKey requestKey, Duration cacheTtl, CompletableFuture<String> result) {
+        EndpointMetrics metrics = metricsFor(requestKey.getEndpoint());
+        HttpRequest request;
+        long rateLimitWaitNanos;
+        try {
+            rateLimitWaitNanos = rateLimiter.reserve(apiKey, MAX_RATE_LIMIT_WAIT);
+            if (rateLimitWaitNanos < 0) {
+                throw rateLimitExceeded();
+            }
+            request = buildRequest(requestKey);
+        } catch (RateLimitExceededException | RuntimeException e) {
+            // Called from drainPendingRequests(), which keeps draining after we return
+            inFlightPermits.release();
+            result.completeExceptionally(e);
+            return;
+        }
+
+        // The in-flight permit is held while waiting, so the wait counts against the cap
+        metrics.rateLimitWaitNanos.add(rateLimitWaitNanos);
+        Executor sender = rateLimitWaitNanos > 0
+            ? CompletableFuture.delayedExecutor(rateLimitWaitNanos, TimeUnit.NANOSECONDS)
+            : Runnable::run;
+        sender.execute(() -> {
+            apiCallCount.incrementAndGet();
+            metrics.apiCalls.increment();
+            long startNanos = System.nanoTime();
+            CompletableFuture<HttpResponse<String>> sent;
+            try {
+                sent = requestPipeline.executeAsync(httpClient, request, metrics.retries::increment);
+            } catch (RuntimeException e) {
+                metrics.recordLatency(startNanos);
+                metrics.errors.increment();
+                releaseInFlightPermit();
+                result.completeExceptionally(new ApiSportsException("Request execution failed", e));
+                return;
+            }
+            sent.whenComplete((response, error) -> {
+                metrics.recordLatency(startNanos);
+                releaseInFlightPermit();
+                if (error != null) {
+                    metrics.errors.increment();
+                    result.completeExceptionally(new ApiSportsException("Request execution failed", error));
+                    return;
+                }
+                // Whatever fails here, the result must complete: identical requests wait for it
+                try {
+                    result.complete(handleResponse(response, requestKey, cacheTtl, metrics));
+                } catch (ApiSportsException e) {
+                    result.completeExceptionally(e);
+                } catch (Throwable e) {
+                    result.completeExceptionally(new ApiSportsException("Failed to handle response", e));
+                }
+            });
+        });
+    }
+
+    /**
+     * Start queued async requests while in-flight permits are available.
+     */
+    private void drainPendingRequests() {
+        while (!pendingRequests.isEmpty() && inFlightPermits.tryAcquire()) {
+            Runnable next = pendingRequests.poll();
+            if (next == null) {
+                // Another thread took the last pending request
+                inFlightPermits.release();
+                continue;
+            }
+            next.run();
+        }
+    }
+
+    private void releaseInFlightPermit() {
+        inFlightPermits.release();
+        drainPendingRequests();
+    }
+
+    /**
+     * Park the calling thread until the rate limiter admits a request.
+     *
+     * @throws RateLimitExceededException if no request is admitted within {@link #MAX_RATE_LIMIT_WAIT}
+     */
+    private void awaitRateLimit() throws ApiSportsException {
+        try {
+            if (!rateLimiter.acquire(apiKey, MAX_RATE_LIMIT_WAIT)) {
+                throw rateLimitExceeded();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiSportsException("Interrupted while waiting for rate limit", e);
         }
+    }
+
+    private RateLimitExceededException rateLimitExceeded() {
+        return new RateLimitExceededException(
+            "Rate limit exceeded for API key", 
+            rateLimiter.getRetryAfterSeconds(apiKey)
+        );
+    }
 
-        // Build request
-        URI uri = buildUri(endpoint, queryParams);
-        HttpRequest request = HttpRequest.newBuilder()
+    private HttpRequest buildRequest(RequestKey requestKey) {
+        URI uri = buildUri(requestKey);
+        return HttpRequest.newBuilder()
             .uri(uri)
             .header(API_KEY_HEADER, apiKey)
             .header("Accept", "application/json")
             .timeout(DEFAULT_TIMEOUT)
             .GET()
             .build();
+    }
 
-        // Execute with retry logic
+    /**
+     * Resolve how long a response may be cached from the endpoint descriptor's caching policy.
+     * The live policy only applies to requests that can cover matches still being played or
+     * scheduled; responses for past dates and seasons keep the cache's default TTL.
+     *
+     * @return the TTL, {@link Duration#ZERO} if the response must not be cached, or null if the
+     *         cache's default TTL applies
+     */
+    private Duration resolveCacheTtl(String endpoint, Map<String, String> queryParams) {
+        // In-play requests change from one call to the next, whatever the endpoint
+        if (queryParams != null && queryParams.containsKey(LIVE_PARAM)) {
+            return Duration.ZERO;
+        }
+
+        EndpointDescriptor descriptor = getDescriptor(endpoint);
+        if (descriptor == null || descriptor.getCaching() == null) {
+            return null;
+        }
+        CachingConfig caching = descriptor.getCaching();
+        if (caching.getPolicy() == CachingConfig.Policy.LIVE && isSettled(queryParams)) {
+            return null;
+        }
+        return Duration.ofSeconds(Math.max(0, caching.getEffectiveTtl()));
+    }
+
+    /**
+     * Check whether a request only covers the past: a date or date range that ended before
+     * yesterday (allowing for time zones), or, without dates, a season that started two or more
+     * years ago. Requests by ID, team or open date range may cover current matches.
+     */
+    private static boolean isSettled(Map<String, String> queryParams) {
+        if (queryParams == null) {
+            return false;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        String lastDate = queryParams.containsKey(TO_PARAM) ? queryParams.get(TO_PARAM) : queryParams.get(DATE_PARAM);
         try {
-            apiCallCount++;  // Increment call count
-            HttpResponse<String> response = requestPipeline.execute(httpClient, request);
-
-            if (response.statusCode() == 200) {
-                String body = response.body();
-                cacheManager.put(cacheKey, body);
-                return body;
-            } else if (response.statusCode() == 429) {
-                throw new RateLimitExceededException(
-                    "Rate limit exceeded (HTTP 429)", 
-                    60
-                );
-            } else {
-                throw new ApiSportsException(
-                    "API request failed with status " + response.statusCode() + ": " + response.body()
-                );
+            if (lastDate != null) {
+                return LocalDate.parse(lastDate).isBefore(today.minusDays(1));
             }
-        } catch (IOException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new ApiSportsException("Request execution failed", e);
+            if (queryParams.containsKey(FROM_PARAM)) {
+                return false;
+            }
+            String season = queryParams.get(SEASON_PARAM);
+            // A season runs into the following year, e.g. 2024 is 2024/25
+            return season != null && Integer.parseInt(season.trim()) < today.getYear() - 1;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Look up the descriptor of an endpoint of this client's sport.
+     *
+     * @param endpoint The API endpoint path
+     * @return The descriptor, or null if none is registered for the endpoint
+     */
+    public EndpointDescriptor getDescriptor(String endpoint) {
+        DescriptorRegistry registry = DescriptorRegistry.getInstance();
+        if (!sport.getId().equals(registry.getSport())) {
+            return null;
         }
+        return registry.getDescriptorByPath(endpoint);
+    }
+
+    private static boolean isCacheable(Duration cacheTtl) {
+        return cacheTtl == null || !cacheTtl.isZero();
     }
 
-    private URI buildUri(String endpoint, Map<String, String> queryParams) {
-        StringBuilder url = new StringBuilder("https://v3.");
-        url.append(sport.getBaseUrl());
-        url.append(endpoint);
-        
-        if (queryParams != null && !queryParams.isEmpty()) {
-            url.append("?");
-            queryParams.forEach((key, value) -> 
-                url.append(key).append("=").append(value).append("&")
+    /**
+     * Map an HTTP response to its body, caching successful responses.
+     */
+    private String handleResponse(HttpResponse<String> response, RequestKey requestKey, Duration cacheTtl,
+                                  EndpointMetrics metrics) throws ApiSportsException {
+        updateServerQuota(response);
+        recordResponse(response, metrics);
+        if (response.statusCode() == 200) {
+            String body = response.body();
+            if (cacheTtl == null) {
+                cacheManager.put(requestKey.getCacheKey(), body);
+            } else if (!cacheTtl.isZero()) {
+                cacheManager.put(requestKey.getCacheKey(), body, cacheTtl);
+            }
+            return body;
+        } else if (response.statusCode() == 429) {
+            throw new RateLimitExceededException(
+                "Rate limit exceeded (HTTP 429)", 
+                rateLimiter.getRetryAfterSeconds(apiKey)
+            );
+        } else {
+            throw new ApiSportsException(
+                "API request failed with status " + response.statusCode() + ": " + response.body()
             );
-            url.setLength(url.length() - 1); // Remove trailing &
         }
-        
-        return URI.create(url.toString());
     }
 
-    private String buildCacheKey(String endpoint, Map<String, String> queryParams) {
-        StringBuilder key = new StringBuilder(sport.getId())
-            .append(":")
-            .append(endpoint);
-        
-        if (queryParams != null && !queryParams.isEmpty()) {
-            key.append(":");
-            queryParams.forEach((k, v) -> key.append(k).append("=").append(v).append(";"));
+    /**
+     * Count the outcome and size of a response.
+     */
+    private static void recordResponse(HttpResponse<String> response, EndpointMetrics metrics) {
+        int status = response.statusCode();
+        if (status == 200) {
+            metrics.successes.increment();
+        } else if (status == 429) {
+            metrics.rateLimited.increment();
+        } else {
+            metrics.errors.increment();
+        }
+        String body = response.body();
+        // Without a Content-Length the body is counted in UTF-8 bytes, as sent, not in characters
+        long size = response.headers().firstValueAsLong("Content-Length")
+            .orElseGet(() -> body == null ? 0 : body.getBytes(StandardCharsets.UTF_8).length);
+        metrics.responseBytes.add(size);
+    }
+
+    private EndpointMetrics metricsFor(String endpoint) {
+        EndpointMetrics metrics = endpointMetrics.get(endpoint);
+        return metrics != null ? metrics : endpointMetrics.computeIfAbsent(endpoint, e -> new EndpointMetrics());
+    }
+
+    /**
+     * Feed the quota reported in the response headers back into the rate limiter and the license.
+     * A 429 without a remaining count still means the per-minute budget is used up.
+     */
+    private void updateServerQuota(HttpResponse<String> response) {
+        ServerQuota quota = ServerQuota.fromHeaders(response.headers());
+        if (response.statusCode() == 429 && quota.remainingThisMinute() == ServerQuota.UNKNOWN) {
+            quota = quota.withMinuteExhausted();
+        }
+        if (!quota.isEmpty()) {
+            rateLimiter.update(apiKey, quota);
+            LicenseManager license = licenseManager;
+            if (license != null) {
+                license.updateTier(quota);
+            }
         }
-        
-        return key.toString();
+    }
+
+    /**
+     * Get the public API base URL of a sport.
+     */
+    public static String defaultBaseUrl(Sport sport) {
+        return "https://v3." + sport.getBaseUrl();
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private URI buildUri(RequestKey requestKey) {
+        return URI.create(baseUrl + requestKey.getPathAndQuery());
     }
 
     public Sport getSport() {
         return sport;
     }
 
+    /**
+     * Get the base URL requests are sent to.
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Get an identifier of the API host and key this client queries, e.g. to tell whether
+     * results saved by a node came from the same connection. The key is only included as a digest.
+     */
+    public String getConnectionScope() {
+        return keyScope + "#" + Long.toHexString(CacheKey.of(apiKey).getDigestHigh());
+    }
+
+    /**
+     * Get the maximum number of {@link #getAsync} requests in flight at once.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
     /**
      * Get the total number of API calls made (excluding cache hits).
      */
     public int getApiCallCount() {
-        return apiCallCount;
+        return apiCallCount.get();
     }
 
     /**
      * Get the number of cache hits.
      */
     public int getCacheHitCount() {
-        return cacheHitCount;
+        return cacheHitCount.get();
+    }
+
+    /**
+     * Get hit, miss and eviction statistics of the underlying cache.
+     */
+    public CacheStats getCacheStats() {
+        return cacheManager.getStats();
+    }
+
+    /**
+     * Attach the license of this client's API key. Its subscription tier is updated from the
+     * quota the server reports with each response.
+     *
+     * @param licenseManager The validated license, or null to detach it
+     */
+    public void setLicenseManager(LicenseManager licenseManager) {
+        this.licenseManager = licenseManager;
     }
 
     /**
-     * Get total number of requests (API calls + cache hits).
+     * Get the number of requests answered by an identical request that was in flight.
+     */
+    public int getCoalescedRequestCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Get total number of requests (API calls + cache hits + coalesced requests).
      */
     public int getTotalRequestCount() {
-        return apiCallCount + cacheHitCount;
+        return apiCallCount.get() + cacheHitCount.get() + coalescedCount.get();
+    }
+
+    /**
+     * Get the request metrics of every endpoint requested so far, sorted by endpoint.
+     */
+    public List<EndpointStats> getEndpointStats() {
+        List<EndpointStats> stats = new ArrayList<>(endpointMetrics.size());
+        endpointMetrics.forEach((endpoint, metrics) ->
+            stats.add(EndpointMetrics.snapshot(endpoint, List.of(metrics))));
+        stats.sort(Comparator.comparing(EndpointStats::endpoint));
+        return stats;
+    }
+
+    /**
+     * Get the request metrics of all endpoints combined, reported under the endpoint "Total".
+     */
+    public EndpointStats getTotalStats() {
+        return EndpointMetrics.snapshot("Total", endpointMetrics.values());
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.client;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters and latency histogram of the requests to one endpoint.
+ * Updated by concurrent requests; read through {@link #snapshot(String, Collection)}.
+ */
+final class EndpointMetrics {
+
+    final LongAdder apiCalls = new LongAdder();
+    final LongAdder memoryHits = new LongAdder();
+    final LongAdder diskHits = new LongAdder();
+    final LongAdder cacheMisses = new LongAdder();
+    final LongAdder coalesced = new LongAdder();
+    final LongAdder successes = new LongAdder();
+    final LongAdder rateLimited = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    final LongAdder retries = new LongAdder();
+    final LongAdder responseBytes = new LongAdder();
+    final LongAdder rateLimitWaitNanos = new LongAdder();
+    final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Record the time from sending a request, including retries, to its response or failure.
+     */
+    void recordLatency(long startNanos) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Combine the metrics of one or more endpoints into a snapshot.
+     *
+     * @param endpoint Endpoint name to report
+     */
+    static EndpointStats snapshot(String endpoint, Collection<EndpointMetrics> metrics) {
+        long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        long apiCalls = 0, memoryHits = 0, diskHits = 0, cacheMisses = 0, coalesced = 0;
+        long successes = 0, rateLimited = 0, errors = 0, retries = 0, responseBytes = 0;
+        long rateLimitWaitNanos = 0, maxMicros = 0;
+        for (EndpointMetrics m : metrics) {
+            apiCalls += m.apiCalls.sum();
+            memoryHits += m.memoryHits.sum();
+            diskHits += m.diskHits.sum();
+            cacheMisses += m.cacheMisses.sum();
+            coalesced += m.coalesced.sum();
+            successes += m.successes.sum();
+            rateLimited += m.rateLimited.sum();
+            errors += m.errors.sum();
+            retries += m.retries.sum();
+            responseBytes += m.responseBytes.sum();
+            rateLimitWaitNanos += m.rateLimitWaitNanos.sum();
+            m.latency.addTo(counts);
+            maxMicros = Math.max(maxMicros, m.latency.getMax());
+        }
+
+        return new EndpointStats(endpoint, apiCalls, memoryHits, diskHits, cacheMisses, coalesced,
+            successes, rateLimited, errors, retries, responseBytes,
+            toMillis(LatencyHistogram.percentile(counts, 50, maxMicros)),
+            toMillis(LatencyHistogram.percentile(counts, 95, maxMicros)),
+            toMillis(LatencyHistogram.percentile(counts, 99, maxMicros)),
+            toMillis(maxMicros),
+            rateLimitWaitNanos / 1_000_000.0);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
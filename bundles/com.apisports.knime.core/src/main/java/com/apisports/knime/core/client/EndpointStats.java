@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.client;
+
+/**
+ * Snapshot of the request metrics of one endpoint, or of all endpoints combined.
+ *
+ * @param endpoint Endpoint path, e.g. "/fixtures"
+ * @param apiCalls Requests sent to the API; retries of a request are not counted again
+ * @param memoryHits Requests answered from the memory cache
+ * @param diskHits Requests answered from the disk cache
+ * @param cacheMisses Cacheable requests not found in the cache
+ * @param coalesced Requests answered by an identical request in flight
+ * @param successes API calls answered with HTTP 200
+ * @param rateLimited API calls answered with HTTP 429
+ * @param errors API calls that failed with another status or an I/O error
+ * @param retries Attempts repeated after an I/O error
+ * @param responseBytes Size of the response bodies received
+ * @param latencyP50Millis Median time from sending an API call to its response
+ * @param latencyP95Millis 95th percentile of that time
+ * @param latencyP99Millis 99th percentile of that time
+ * @param latencyMaxMillis Longest time of an API call
+ * @param rateLimitWaitMillis Total time API calls waited for the rate limiter
+ */
+public record EndpointStats(String endpoint, long apiCalls, long memoryHits, long diskHits,
+                            long cacheMisses, long coalesced, long successes, long rateLimited,
+                            long errors, long retries, long responseBytes,
+                            double latencyP50Millis, double latencyP95Millis, double latencyP99Millis,
+                            double latencyMaxMillis, double rateLimitWaitMillis) {
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.client;
+
+import com.apisports.knime.core.cache.CacheKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Canonical identity of a GET request: endpoint plus query parameters sorted by name and
+ * percent-encoded, so parameter maps with the same content always give the same key
+ * whatever their iteration order.
+ *
+ * The key string has the form {@code scope:endpoint?name=value&...}, where the scope
+ * names the sport and, for non-default hosts, the base URL. It is built once per request
+ * and used for the URI, the cache (through its precomputed {@link CacheKey} digest) and
+ * the coalescing of identical requests in flight.
+ */
+public final class RequestKey {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String endpoint;
+    private final String query;
+    private final CacheKey cacheKey;
+
+    private RequestKey(String endpoint, String query, CacheKey cacheKey) {
+        this.endpoint = endpoint;
+        this.query = query;
+        this.cacheKey = cacheKey;
+    }
+
+    /**
+     * Create the key of a request. Parameters with a null value are left out.
+     *
+     * @param scope Sport ID, followed by "@" and the base URL for hosts other than the default
+     * @param endpoint The API endpoint path
+     * @param queryParams Query parameters, may be null
+     */
+    public static RequestKey of(String scope, String endpoint, Map<String, String> queryParams) {
+        String query = canonicalQuery(queryParams);
+        StringBuilder key = new StringBuilder(scope.length() + endpoint.length() + query.length() + 2)
+            .append(scope).append(':').append(endpoint);
+        if (!query.isEmpty()) {
+            key.append('?').append(query);
+        }
+        return new RequestKey(endpoint, query, CacheKey.of(key.toString()));
+    }
+
+    /**
+     * Build the query string with parameters sorted by name.
+     */
+    private static String canonicalQuery(Map<String, String> queryParams) {
+        if (queryParams == null || queryParams.isEmpty()) {
+            return "";
+        }
+
+        // Maps are small, so an insertion sort into arrays beats a TreeMap
+        String[] names = new String[queryParams.size()];
+        String[] values = new String[names.length];
+        int count = 0;
+        int length = 0;
+        for (Map.Entry<String, String> param : queryParams.entrySet()) {
+            if (param.getValue() == null) {
+                continue;
+            }
+            String name = param.getKey();
+            int i = count++;
+            while (i > 0 && names[i - 1].compareTo(name) > 0) {
+                names[i] = names[i - 1];
+                values[i] = values[i - 1];
+                i--;
+            }
+            names[i] = name;
+            values[i] = param.getValue();
+            length += name.length() + values[i].length() + 2;
+        }
+
+        StringBuilder query = new StringBuilder(length);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                query.append('&');
+            }
+            appendEncoded(query, names[i]);
+            query.append('=');
+            appendEncoded(query, values[i]);
+        }
+        return query.toString();
+    }
+
+    /**
+     * Append a query component, percent-encoding every character other than the unreserved
+     * ones and the few that are safe inside a query value (e.g. the ':' of times).
+     * Components that need no encoding, which is nearly all of them, are appended as-is.
+     */
+    private static void appendEncoded(StringBuilder out, String component) {
+        int length = component.length();
+        int i = 0;
+        while (i < length && isSafe(component.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            out.append(component);
+            return;
+        }
+
+        out.append(component, 0, i);
+        for (byte b : component.substring(i).getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if (isSafe(c)) {
+                out.append(c);
+            } else {
+                out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+    }
+
+    private static boolean isSafe(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '-' || c == '.' || c == '_' || c == '~' || c == ':' || c == '/' || c == ',';
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return The canonical, encoded query string without the leading '?', empty if there
+     *         are no parameters
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return The endpoint followed by the query string, ready to append to a base URL
+     */
+    public String getPathAndQuery() {
+        return query.isEmpty() ? endpoint : endpoint + "?" + query;
+    }
+
+    public CacheKey getCacheKey() {
+        return cacheKey;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof RequestKey && cacheKey.equals(((RequestKey) obj).cacheKey));
+    }
+
+    @Override
+    public int hashCode() {
+        return cacheKey.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return cacheKey.toString();
+    }
+}
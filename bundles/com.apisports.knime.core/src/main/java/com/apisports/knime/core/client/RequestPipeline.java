@@ -21,6 +21,10 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles request execution with retry and exponential backoff logic.
@@ -42,6 +46,21 @@ public class RequestPipeline {
      */
     public HttpResponse<String> execute(HttpClient client, HttpRequest request) 
             throws IOException, InterruptedException {
+        return execute(client, request, () -> { });
+    }
+
+    /**
+     * Execute an HTTP request with retry logic, reporting each retry.
+     *
+     * @param client The HTTP client
+     * @param request The HTTP request
+     * @param onRetry Called before every attempt after the first
+     * @return The HTTP response
+     * @throws IOException if all retries fail
+     * @throws InterruptedException if interrupted during retry
+     */
+    public HttpResponse<String> execute(HttpClient client, HttpRequest request, Runnable onRetry)
+            throws IOException, InterruptedException {
         
         int attempt = 0;
         IOException lastException = null;
@@ -54,9 +73,8 @@ public class RequestPipeline {
                 attempt++;
                 
                 if (attempt < MAX_RETRIES) {
-                    long backoffMillis = (long) (INITIAL_BACKOFF.toMillis() * 
-                                                Math.pow(BACKOFF_MULTIPLIER, attempt - 1));
-                    Thread.sleep(backoffMillis);
+                    Thread.sleep(backoffMillis(attempt));
+                    onRetry.run();
                 }
             }
         }
@@ -64,4 +82,70 @@ public class RequestPipeline {
         throw lastException != null ? lastException : 
             new IOException("Request failed after " + MAX_RETRIES + " attempts");
     }
+
+    /**
+     * Execute an HTTP request asynchronously with the same retry and backoff
+     * behaviour as {@link #execute(HttpClient, HttpRequest)}.
+     * Backoff delays are scheduled rather than slept, so no thread is blocked
+     * while waiting for the next attempt.
+     *
+     * @param client The HTTP client
+     * @param request The HTTP request
+     * @return Future completing with the HTTP response, or exceptionally with the
+     *         last IOException once all retries fail
+     */
+    public CompletableFuture<HttpResponse<String>> executeAsync(HttpClient client, HttpRequest request) {
+        return executeAsync(client, request, () -> { });
+    }
+
+    /**
+     * Execute an HTTP request asynchronously with retry logic, reporting each retry.
+     *
+     * @param client The HTTP client
+     * @param request The HTTP request
+     * @param onRetry Called before every attempt after the first
+     * @return Future completing with the HTTP response, or exceptionally with the
+     *         last IOException once all retries fail
+     */
+    public CompletableFuture<HttpResponse<String>> executeAsync(HttpClient client, HttpRequest request,
+                                                                Runnable onRetry) {
+        CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+        sendWithRetry(client, request, 0, onRetry, result);
+        return result;
+    }
+
+    private void sendWithRetry(HttpClient client, HttpRequest request, int attempt, Runnable onRetry,
+                               CompletableFuture<HttpResponse<String>> result) {
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .whenComplete((response, error) -> {
+                if (error == null) {
+                    result.complete(response);
+                    return;
+                }
+
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                int nextAttempt = attempt + 1;
+
+                // Only I/O failures are retried, matching the synchronous path
+                if (!(cause instanceof IOException) || nextAttempt >= MAX_RETRIES) {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+
+                Executor delayed = CompletableFuture.delayedExecutor(
+                    backoffMillis(nextAttempt), TimeUnit.MILLISECONDS);
+                delayed.execute(() -> {
+                    onRetry.run();
+                    sendWithRetry(client, request, nextAttempt, onRetry, result);
+                });
+            });
+    }
+
+    /**
+     * Backoff delay before the given retry attempt (1-based).
+     */
+    private static long backoffMillis(int attempt) {
+        return (long) (INITIAL_BACKOFF.toMillis() * Math.pow(BACKOFF_MULTIPLIER, attempt - 1));
+    }
 }
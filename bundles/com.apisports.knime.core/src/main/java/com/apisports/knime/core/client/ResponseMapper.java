@@ -16,17 +16,36 @@
 
 package com.apisports.knime.core.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.io.IOException;
 
 /**
  * Utility class for mapping JSON responses to POJOs.
+ *
+ * Holds the Jackson mapper shared by all nodes. Its serializer and deserializer caches and
+ * the symbol table of field names are kept across executions, and parser buffers come from a
+ * pool shared by the threads that parse responses, rather than from each thread's own.
  */
 public class ResponseMapper {
-    
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
-        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+        // API responses repeat the same few field names; keep one canonical, interned copy of each
+        .enable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES)
+        .enable(JsonFactory.Feature.INTERN_FIELD_NAMES)
+        .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+        .build();
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder(JSON_FACTORY)
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .build();
+
+    private static final ObjectReader TREE_READER = OBJECT_MAPPER.readerFor(JsonNode.class);
 
     /**
      * Map a JSON string to the specified class type.
@@ -42,11 +61,32 @@ public class ResponseMapper {
     }
 
     /**
-     * Get the shared ObjectMapper instance.
+     * Parse a JSON string, such as a response envelope, into a tree.
+     *
+     * @param json The JSON string
+     * @return The root node
+     * @throws IOException if the JSON is malformed
+     */
+    public static JsonNode readTree(String json) throws IOException {
+        return TREE_READER.readTree(json);
+    }
+
+    /**
+     * Get the shared ObjectMapper instance. Use it as is; changing its configuration would
+     * affect every node.
      * 
      * @return The ObjectMapper
      */
     public static ObjectMapper getMapper() {
         return OBJECT_MAPPER;
     }
+
+    /**
+     * Get the shared reader of JSON trees.
+     *
+     * @return The ObjectReader for {@link JsonNode}
+     */
+    public static ObjectReader getTreeReader() {
+        return TREE_READER;
+    }
 }
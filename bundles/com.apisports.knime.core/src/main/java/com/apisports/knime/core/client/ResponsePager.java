@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.client;
+
+import com.apisports.knime.core.descriptor.EndpointDescriptor;
+import com.apisports.knime.core.exception.ApiSportsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Fetches every page of a paged endpoint and streams the merged "response" elements in
+ * page order.
+ *
+ * Whether an endpoint is paged, the name of its page parameter and the page limit come from
+ * the {@link EndpointDescriptor.PagingConfig} of its descriptor; endpoints without paging are
+ * fetched with a single request. Page 1 is fetched first to learn "paging.total", then the
+ * remaining pages are requested through {@link ApiSportsHttpClient#getAsync}, so they share
+ * the client's concurrency cap and rate limiter. At most {@code prefetchPages} pages are
+ * requested ahead of the page being read.
+ */
+public class ResponsePager {
+
+    private final ApiSportsHttpClient client;
+    private final ObjectMapper mapper;
+    private final int prefetchPages;
+
+    /**
+     * Result of fetching all pages of a request.
+     *
+     * @param elements Number of elements passed to the handler
+     * @param pagesFetched Number of pages read
+     * @param totalPages Number of pages the server reported
+     */
+    public record Result(int elements, int pagesFetched, int totalPages) {
+
+        /**
+         * Check whether pages were left out because of the descriptor's page limit.
+         */
+        public boolean isTruncated() {
+            return pagesFetched < totalPages;
+        }
+    }
+
+    public ResponsePager(ApiSportsHttpClient client, ObjectMapper mapper) {
+        this(client, mapper, ApiSportsHttpClient.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * @param prefetchPages Maximum number of pages requested ahead of the page being read
+     */
+    public ResponsePager(ApiSportsHttpClient client, ObjectMapper mapper, int prefetchPages) {
+        if (prefetchPages < 1) {
+            throw new IllegalArgumentException("prefetchPages must be at least 1");
+        }
+        this.client = client;
+        this.mapper = mapper;
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Fetch all pages of a request and pass their elements to the handler in page order.
+     *
+     * @param endpoint The API endpoint path
+     * @param params Query parameters, without the page parameter
+     * @param handler Receives each element
+     * @return The number of elements and pages read
+     * @throws ApiSportsException if a request fails or a response reports errors
+     * @throws Exception if the handler fails
+     */
+    public Result fetchAll(String endpoint, Map<String, String> params,
+                           ResponseStreamReader.ElementHandler handler) throws Exception {
+        // Page 1 is requested without the page parameter, so it shares its cache entry
+        // with unpaged calls for the same query
+        String firstBody = client.get(endpoint, params);
+        ResponseStreamReader.Page first = ResponseStreamReader.readPage(firstBody, mapper, handler);
+
+        EndpointDescriptor.PagingConfig paging = pagingConfig(endpoint);
+        if (paging == null || first.totalPages() <= 1) {
+            return new Result(first.elements(), 1, first.totalPages());
+        }
+
+        int lastPage = first.totalPages();
+        if (paging.getMaxPages() != null && paging.getMaxPages() > 0) {
+            lastPage = Math.min(lastPage, paging.getMaxPages());
+        }
+
+        int elements = first.elements();
+        Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>();
+        int nextPage = 2;
+        try {
+            for (int page = 2; page <= lastPage; page++) {
+                while (nextPage <= lastPage && inFlight.size() < prefetchPages) {
+                    inFlight.add(client.getAsync(endpoint, withPage(params, paging.getParamName(), nextPage++)));
+                }
+                String body = await(inFlight.poll());
+                elements += ResponseStreamReader.readPage(body, mapper, handler).elements();
+            }
+        } finally {
+            // Requests already sent still complete and fill the cache
+            inFlight.forEach(future -> future.cancel(false));
+        }
+        return new Result(elements, lastPage, first.totalPages());
+    }
+
+    private EndpointDescriptor.PagingConfig pagingConfig(String endpoint) {
+        EndpointDescriptor descriptor = client.getDescriptor(endpoint);
+        if (descriptor == null || descriptor.getPaging() == null || !descriptor.getPaging().isSupported()) {
+            return null;
+        }
+        return descriptor.getPaging();
+    }
+
+    private static Map<String, String> withPage(Map<String, String> params, String paramName, int page) {
+        Map<String, String> paged = params != null ? new HashMap<>(params) : new HashMap<>();
+        paged.put(paramName, String.valueOf(page));
+        return paged;
+    }
+
+    private static String await(CompletableFuture<String> future) throws ApiSportsException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiSportsException("Interrupted while waiting for a page", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiSportsException) {
+                throw (ApiSportsException) cause;
+            }
+            throw new ApiSportsException("Page request failed", cause);
+        }
+    }
+}
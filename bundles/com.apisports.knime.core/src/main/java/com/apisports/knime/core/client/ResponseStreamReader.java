@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.client;
+
+import com.apisports.knime.core.exception.ApiSportsException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Reads the "response" array of an API-Sports response envelope one element at a time.
+ *
+ * The envelope is walked with a {@link JsonParser} and only the current element is
+ * materialized as a {@link JsonNode}, so memory stays bounded by the largest element
+ * rather than by the whole response. The "errors" field is checked as it is encountered
+ * and the "paging" object is reported back; all other envelope fields are skipped.
+ */
+public final class ResponseStreamReader {
+
+    private static final String ERRORS_FIELD = "errors";
+    private static final String PAGING_FIELD = "paging";
+    private static final String RESPONSE_FIELD = "response";
+
+    /**
+     * Receives the elements of a response array in document order.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+        void accept(JsonNode element) throws Exception;
+    }
+
+    private ResponseStreamReader() {
+    }
+
+    /**
+     * Elements read from one response and the paging position it reported.
+     *
+     * @param elements Number of elements passed to the handler
+     * @param currentPage The reported "paging.current", or 1 if not reported
+     * @param totalPages The reported "paging.total", or 1 if not reported
+     */
+    public record Page(int elements, int currentPage, int totalPages) {
+    }
+
+    /**
+     * Stream the elements of the "response" array to the handler.
+     *
+     * @param body The raw response body
+     * @param mapper Mapper used to bind each element
+     * @param handler Receives each element
+     * @return Number of elements passed to the handler
+     * @throws ApiSportsException if the body is not a response envelope or reports errors
+     * @throws Exception if the handler fails
+     */
+    public static int read(String body, ObjectMapper mapper, ElementHandler handler) throws Exception {
+        return readPage(body, mapper, handler).elements();
+    }
+
+    /**
+     * Stream the elements of the "response" array to the handler and report the
+     * "paging" object of the envelope.
+     *
+     * @param body The raw response body
+     * @param mapper Mapper used to bind each element
+     * @param handler Receives each element
+     * @return The number of elements and the reported paging position
+     * @throws ApiSportsException if the body is not a response envelope or reports errors
+     * @throws Exception if the handler fails
+     */
+    public static Page readPage(String body, ObjectMapper mapper, ElementHandler handler) throws Exception {
+        int count = 0;
+        int currentPage = 1;
+        int totalPages = 1;
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiSportsException("API response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (ERRORS_FIELD.equals(field)) {
+                    checkErrors(mapper.readTree(parser));
+                } else if (PAGING_FIELD.equals(field) && value == JsonToken.START_OBJECT) {
+                    JsonNode paging = mapper.readTree(parser);
+                    currentPage = Math.max(1, paging.path("current").asInt(1));
+                    totalPages = Math.max(1, paging.path("total").asInt(1));
+                } else if (RESPONSE_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        handler.accept(mapper.readTree(parser));
+                        count++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new ApiSportsException("Failed to parse API response", e);
+        }
+        return new Page(count, currentPage, totalPages);
+    }
+
+    private static void checkErrors(JsonNode errors) throws ApiSportsException {
+        if (errors != null && !errors.isEmpty()) {
+            throw new ApiSportsException("API returned errors: " + errors);
+        }
+    }
+}
@@ -36,6 +36,8 @@ public class DescriptorRegistry {
 
     private final Map<String, EndpointDescriptor> descriptorsById;
     private final Map<String, List<EndpointDescriptor>> descriptorsByCategory;
+    // Read on every HTTP request, so replaced as a whole rather than mutated
+    private volatile Map<String, EndpointDescriptor> descriptorsByPath = Map.of();
     private String version;
     private String sport;
 
@@ -86,6 +88,7 @@ public class DescriptorRegistry {
         descriptorsByCategory.clear();
 
         // Index descriptors
+        Map<String, EndpointDescriptor> byPath = new HashMap<>();
         for (EndpointDescriptor descriptor : descriptors) {
             // Validate required fields
             validateDescriptor(descriptor);
@@ -98,7 +101,11 @@ public class DescriptorRegistry {
             descriptorsByCategory
                 .computeIfAbsent(category, k -> new ArrayList<>())
                 .add(descriptor);
+
+            // Index by path; several descriptors may share a path, the first one wins
+            byPath.putIfAbsent(normalizePath(descriptor.getPath()), descriptor);
         }
+        this.descriptorsByPath = Map.copyOf(byPath);
 
         this.version = "1.0"; // TODO: extract from YAML
         this.sport = "football"; // TODO: extract from YAML
@@ -126,6 +133,23 @@ public class DescriptorRegistry {
         return descriptorsById.get(id);
     }
 
+    /**
+     * Get the descriptor for an endpoint path (e.g. "/teams/statistics").
+     * If several descriptors share a path, the first one declared is returned.
+     *
+     * @return the descriptor, or null if no descriptor is registered for the path
+     */
+    public EndpointDescriptor getDescriptorByPath(String path) {
+        if (path == null) {
+            return null;
+        }
+        return descriptorsByPath.get(normalizePath(path));
+    }
+
+    private static String normalizePath(String path) {
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
     /**
      * Get all descriptors.
      */
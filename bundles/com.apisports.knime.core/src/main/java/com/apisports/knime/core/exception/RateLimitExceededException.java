@@ -29,6 +29,11 @@ public class RateLimitExceededException extends ApiSportsException {
         this.retryAfterSeconds = retryAfterSeconds;
     }
 
+    public RateLimitExceededException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
     public long getRetryAfterSeconds() {
         return retryAfterSeconds;
     }
@@ -18,12 +18,16 @@ package com.apisports.knime.core.license;
 
 import com.apisports.knime.core.exception.LicenseValidationException;
 import com.apisports.knime.core.model.Sport;
+import com.apisports.knime.core.ratelimit.ServerQuota;
 
 import java.util.Set;
 import java.util.HashSet;
 
 /**
  * Manages license validation and feature gating.
+ *
+ * The subscription tier is guessed from the API key until the server has reported the key's
+ * quota, see {@link #updateTier(ServerQuota)}.
  */
 public class LicenseManager {
     
@@ -58,7 +62,7 @@ public class LicenseManager {
 
     private String apiKey;
     private Sport sport;
-    private SubscriptionTier tier;
+    private volatile SubscriptionTier tier;
 
     public LicenseManager() {
         this.tier = SubscriptionTier.FREE; // Default to free tier
@@ -81,12 +85,24 @@ public class LicenseManager {
         }
 
         // In a real implementation, this would make an API call to validate the key
-        // For now, we'll use a simple heuristic based on key length
+        // For now, we'll use a simple heuristic based on key length until a response reports the quota
         this.apiKey = apiKey;
         this.sport = sport;
         this.tier = detectTier(apiKey);
     }
 
+    /**
+     * Update the subscription tier from the quota reported by the server.
+     * Quotas that do not report a daily limit leave the tier unchanged.
+     *
+     * @param quota The quota reported in a response's rate limit headers
+     */
+    public void updateTier(ServerQuota quota) {
+        if (quota != null && quota.requestsPerDay() != ServerQuota.UNKNOWN) {
+            this.tier = tierForDailyLimit(quota.requestsPerDay());
+        }
+    }
+
     /**
      * Check if a specific feature is available for the current license.
      * 
@@ -145,4 +161,20 @@ public class LicenseManager {
             return SubscriptionTier.FREE;
         }
     }
+
+    /**
+     * Detect subscription tier from the daily request limit of the subscription.
+     * 
+     * @param requestsPerDay The daily limit reported by the server
+     * @return The highest tier whose daily limit the subscription reaches
+     */
+    private SubscriptionTier tierForDailyLimit(int requestsPerDay) {
+        SubscriptionTier detected = SubscriptionTier.FREE;
+        for (SubscriptionTier candidate : SubscriptionTier.values()) {
+            if (requestsPerDay >= candidate.getRequestsPerDay()) {
+                detected = candidate;
+            }
+        }
+        return detected;
+    }
 }
@@ -16,19 +16,37 @@
 
 package com.apisports.knime.core.ratelimit;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Rate limiter using token bucket algorithm.
- * Manages per-API-key rate limiting with configurable limits.
+ * Rate limiter using the generic cell rate algorithm (GCRA), a continuously refilling
+ * token bucket. Manages per-API-key rate limiting with a per-minute and a per-day limit.
+ *
+ * Each limit of N requests per period P admits one request every P/N on average, with
+ * bursts of up to N requests. Unlike fixed windows there is no reset at a window boundary,
+ * so at most N requests are ever admitted in any period of length P.
+ *
+ * Permits are taken with a compare-and-set on the bucket state, so concurrent callers never
+ * block each other. {@link #acquire(String, Duration)} reserves the next free slot and parks
+ * the caller until it arrives; {@link #reserve(String, Duration)} does the same without
+ * parking, for callers that schedule the wait themselves.
+ *
+ * The configured limits are only a starting point: {@link #update(String, ServerQuota)}
+ * feeds back the quota the server reports with each response, so each key converges on
+ * the real budget of its subscription. A limit the server reports as used up holds all
+ * requests of the key for that limit's whole period, since the server does not report when
+ * its window resets.
  */
 public class RateLimiterManager {
     
     private static final int DEFAULT_REQUESTS_PER_MINUTE = 100;
     private static final int DEFAULT_REQUESTS_PER_DAY = 10000;
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 60;
     
     private final Map<String, TokenBucket> buckets;
     private final int requestsPerMinute;
@@ -39,21 +57,64 @@ public class RateLimiterManager {
     }
 
     public RateLimiterManager(int requestsPerMinute, int requestsPerDay) {
+        if (requestsPerMinute < 1 || requestsPerDay < 1) {
+            throw new IllegalArgumentException("Rate limits must be at least 1");
+        }
         this.requestsPerMinute = requestsPerMinute;
         this.requestsPerDay = requestsPerDay;
         this.buckets = new ConcurrentHashMap<>();
     }
 
     /**
-     * Try to acquire a token for the given API key.
+     * Try to acquire a token for the given API key without waiting.
      * 
      * @param apiKey The API key
      * @return true if a token was acquired, false if rate limit exceeded
      */
-    public synchronized boolean tryAcquire(String apiKey) {
-        TokenBucket bucket = buckets.computeIfAbsent(apiKey, 
-            k -> new TokenBucket(requestsPerMinute, requestsPerDay));
-        return bucket.tryAcquire();
+    public boolean tryAcquire(String apiKey) {
+        return bucket(apiKey).reserve(0) == 0;
+    }
+
+    /**
+     * Acquire a token for the given API key, parking the calling thread until one is
+     * available. Gives up immediately, without taking a token, if the wait would be longer
+     * than the timeout (e.g. because the daily limit is used up).
+     *
+     * @param apiKey The API key
+     * @param timeout Maximum time to wait
+     * @return true if a token was acquired, false if none is available within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting; the token
+     *         reserved for it is not returned
+     */
+    public boolean acquire(String apiKey, Duration timeout) throws InterruptedException {
+        long waitNanos = reserve(apiKey, timeout);
+        if (waitNanos < 0) {
+            return false;
+        }
+
+        long deadline = System.nanoTime() + waitNanos;
+        long remaining = waitNanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for rate limit");
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        return true;
+    }
+
+    /**
+     * Reserve a token for the given API key without waiting for it. The caller must wait
+     * for the returned time before issuing its request.
+     *
+     * @param apiKey The API key
+     * @param maxWait Maximum acceptable wait
+     * @return nanoseconds until the reserved token becomes valid (0 if it is valid now), or
+     *         -1 if no token is available within maxWait, in which case nothing is reserved
+     */
+    public long reserve(String apiKey, Duration maxWait) {
+        return bucket(apiKey).reserve(maxWait.toNanos());
     }
 
     /**
@@ -64,7 +125,29 @@ public class RateLimiterManager {
      */
     public long getRetryAfterSeconds(String apiKey) {
         TokenBucket bucket = buckets.get(apiKey);
-        return bucket != null ? bucket.getRetryAfterSeconds() : 60;
+        if (bucket == null) {
+            return DEFAULT_RETRY_AFTER_SECONDS;
+        }
+        long waitNanos = bucket.waitNanos();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Adapt the limits of the given API key to the quota reported by the server.
+     * Reported limits replace the configured ones; a reported remaining budget holds back
+     * further requests if the server has counted more requests than this limiter, e.g.
+     * because the key is also used by another workflow. A remaining budget of 0 holds all
+     * requests for a full minute or day, so a used up daily quota makes
+     * {@link #acquire(String, Duration)} give up instead of retrying once per interval.
+     *
+     * @param apiKey The API key
+     * @param quota The quota reported in a response's rate limit headers
+     */
+    public void update(String apiKey, ServerQuota quota) {
+        if (quota.isEmpty()) {
+            return;
+        }
+        bucket(apiKey).update(quota);
     }
 
     /**
@@ -83,67 +166,154 @@ public class RateLimiterManager {
         buckets.clear();
     }
 
+    private TokenBucket bucket(String apiKey) {
+        TokenBucket bucket = buckets.get(apiKey);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(apiKey, k -> new TokenBucket(requestsPerMinute, requestsPerDay));
+        }
+        return bucket;
+    }
+
     /**
-     * Token bucket implementation for rate limiting.
+     * GCRA state for one API key.
+     *
+     * For each limit, the theoretical arrival time (TAT) is the time at which the bucket
+     * would be full again. A request is admitted once now >= TAT - tolerance, where the
+     * tolerance is the period minus one emission interval, and then moves the TAT forward
+     * by one emission interval. Both TATs and the limits they are measured against live in
+     * one immutable state object, so a request takes from both limits, and a quota update
+     * replaces them, in a single compare-and-set.
+     *
+     * The tolerance lets a bucket that the server reports as empty admit the next request
+     * after one emission interval, while the server only admits it once its window resets.
+     * An exhausted limit therefore also sets a hold: no request is admitted before the end
+     * of the limit's period, after which its TAT lets a full burst through again.
      */
-    private static class TokenBucket {
-        private final int minuteLimit;
-        private final int dayLimit;
-        private final AtomicInteger minuteTokens;
-        private final AtomicInteger dayTokens;
-        private volatile Instant minuteWindowStart;
-        private volatile Instant dayWindowStart;
+    private static final class TokenBucket {
+        private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+        private static final long DAY = TimeUnit.DAYS.toNanos(1);
 
-        TokenBucket(int minuteLimit, int dayLimit) {
-            this.minuteLimit = minuteLimit;
-            this.dayLimit = dayLimit;
-            this.minuteTokens = new AtomicInteger(minuteLimit);
-            this.dayTokens = new AtomicInteger(dayLimit);
-            this.minuteWindowStart = Instant.now();
-            this.dayWindowStart = Instant.now();
-        }
+        private final AtomicReference<State> state;
 
-        synchronized boolean tryAcquire() {
-            Instant now = Instant.now();
-            
-            // Reset minute window if needed
-            if (now.isAfter(minuteWindowStart.plusSeconds(60))) {
-                minuteTokens.set(minuteLimit);
-                minuteWindowStart = now;
+        /**
+         * Emission interval and tolerance of one limit of N requests per period.
+         */
+        private record Limit(int requests, long interval, long tolerance) {
+            static Limit of(int requests, long period) {
+                long interval = period / requests;
+                return new Limit(requests, interval, period - interval);
             }
-            
-            // Reset day window if needed
-            if (now.isAfter(dayWindowStart.plusSeconds(86400))) {
-                dayTokens.set(dayLimit);
-                dayWindowStart = now;
+
+            /**
+             * Move a TAT measured against this limit to the given limit, keeping the same
+             * number of requests outstanding.
+             */
+            long rescale(long tat, Limit to, long now) {
+                if (to.equals(this) || tat <= now) {
+                    return tat;
+                }
+                double used = (double) (tat - now) / interval;
+                return now + (long) (used * to.interval);
             }
-            
-            // Try to consume tokens
-            if (minuteTokens.get() > 0 && dayTokens.get() > 0) {
-                minuteTokens.decrementAndGet();
-                dayTokens.decrementAndGet();
-                return true;
+
+            /**
+             * TAT at which exactly the given number of requests is left.
+             */
+            long tatFor(int remaining, long now) {
+                return now + Math.max(0, requests - remaining) * interval;
             }
-            
-            return false;
+
+            long waitNanos(long tat, long now) {
+                return tat - tolerance - now;
+            }
+        }
+
+        /**
+         * @param heldUntil Time before which no request is admitted, set when the server
+         *        reports a limit as used up
+         */
+        private record State(long minuteTat, long dayTat, Limit minute, Limit day, long heldUntil) {
         }
 
-        long getRetryAfterSeconds() {
-            Instant now = Instant.now();
-            
-            // If minute limit exceeded, wait until next minute
-            if (minuteTokens.get() <= 0) {
-                long secondsSinceMinuteStart = now.getEpochSecond() - minuteWindowStart.getEpochSecond();
-                return Math.max(1, 60 - secondsSinceMinuteStart);
+        TokenBucket(int minuteLimit, int dayLimit) {
+            long now = System.nanoTime();
+            this.state = new AtomicReference<>(
+                new State(now, now, Limit.of(minuteLimit, MINUTE), Limit.of(dayLimit, DAY), now));
+        }
+
+        /**
+         * Reserve the next token if it becomes valid within maxWaitNanos.
+         *
+         * @return nanoseconds until the token is valid, or -1 if nothing was reserved
+         */
+        long reserve(long maxWaitNanos) {
+            while (true) {
+                State current = state.get();
+                long now = System.nanoTime();
+                long wait = waitNanos(current, now);
+                if (wait > maxWaitNanos) {
+                    return -1;
+                }
+
+                long admittedAt = now + wait;
+                State next = new State(
+                    Math.max(current.minuteTat(), admittedAt) + current.minute().interval(),
+                    Math.max(current.dayTat(), admittedAt) + current.day().interval(),
+                    current.minute(), current.day(), current.heldUntil());
+                if (state.compareAndSet(current, next)) {
+                    return wait;
+                }
             }
-            
-            // If day limit exceeded, wait until next day
-            if (dayTokens.get() <= 0) {
-                long secondsSinceDayStart = now.getEpochSecond() - dayWindowStart.getEpochSecond();
-                return Math.max(1, 86400 - secondsSinceDayStart);
+        }
+
+        /**
+         * Adopt the limits and remaining budget reported by the server.
+         * A reported remaining budget only ever moves a TAT forward: requests reserved
+         * locally but not yet seen by the server must not be handed out a second time.
+         * A remaining budget of 0 holds requests for the limit's period; a later response
+         * never shortens a hold, it may have been answered before the limit was used up.
+         */
+        void update(ServerQuota quota) {
+            while (true) {
+                State current = state.get();
+                long now = System.nanoTime();
+
+                Limit minute = quota.requestsPerMinute() >= 1
+                    ? Limit.of(quota.requestsPerMinute(), MINUTE) : current.minute();
+                Limit day = quota.requestsPerDay() >= 1
+                    ? Limit.of(quota.requestsPerDay(), DAY) : current.day();
+                long minuteTat = current.minute().rescale(current.minuteTat(), minute, now);
+                long dayTat = current.day().rescale(current.dayTat(), day, now);
+                long heldUntil = current.heldUntil();
+                if (quota.remainingThisMinute() != ServerQuota.UNKNOWN) {
+                    minuteTat = Math.max(minuteTat, minute.tatFor(quota.remainingThisMinute(), now));
+                    if (quota.remainingThisMinute() == 0) {
+                        heldUntil = Math.max(heldUntil, now + MINUTE);
+                    }
+                }
+                if (quota.remainingToday() != ServerQuota.UNKNOWN) {
+                    dayTat = Math.max(dayTat, day.tatFor(quota.remainingToday(), now));
+                    if (quota.remainingToday() == 0) {
+                        heldUntil = Math.max(heldUntil, now + DAY);
+                    }
+                }
+
+                State next = new State(minuteTat, dayTat, minute, day, heldUntil);
+                if (next.equals(current) || state.compareAndSet(current, next)) {
+                    return;
+                }
             }
-            
-            return 60; // Default retry after 1 minute
+        }
+
+        long waitNanos() {
+            return waitNanos(state.get(), System.nanoTime());
+        }
+
+        private static long waitNanos(State s, long now) {
+            long minuteWait = s.minute().waitNanos(s.minuteTat(), now);
+            long dayWait = s.day().waitNanos(s.dayTat(), now);
+            long holdWait = s.heldUntil() - now;
+            return Math.max(0, Math.max(holdWait, Math.max(minuteWait, dayWait)));
         }
     }
 }
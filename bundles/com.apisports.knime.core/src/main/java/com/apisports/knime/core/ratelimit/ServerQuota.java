@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.core.ratelimit;
+
+import java.net.http.HttpHeaders;
+
+/**
+ * Request quota as reported by the server in the rate limit headers of a response.
+ * Values the response did not report are {@link #UNKNOWN}.
+ *
+ * @param requestsPerMinute Per-minute limit ({@code X-RateLimit-Limit})
+ * @param remainingThisMinute Requests left in the current minute ({@code X-RateLimit-Remaining})
+ * @param requestsPerDay Daily limit of the subscription ({@code x-ratelimit-requests-limit})
+ * @param remainingToday Requests left today ({@code x-ratelimit-requests-remaining})
+ */
+public record ServerQuota(int requestsPerMinute, int remainingThisMinute,
+                          int requestsPerDay, int remainingToday) {
+
+    public static final int UNKNOWN = -1;
+
+    public static final String MINUTE_LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String MINUTE_REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String DAY_LIMIT_HEADER = "x-ratelimit-requests-limit";
+    public static final String DAY_REMAINING_HEADER = "x-ratelimit-requests-remaining";
+
+    /**
+     * Read the quota from the rate limit headers of a response.
+     * Missing or malformed headers are reported as {@link #UNKNOWN}.
+     *
+     * @param headers The response headers
+     * @return The reported quota
+     */
+    public static ServerQuota fromHeaders(HttpHeaders headers) {
+        return new ServerQuota(
+            intHeader(headers, MINUTE_LIMIT_HEADER),
+            intHeader(headers, MINUTE_REMAINING_HEADER),
+            intHeader(headers, DAY_LIMIT_HEADER),
+            intHeader(headers, DAY_REMAINING_HEADER));
+    }
+
+    /**
+     * Copy of this quota with the per-minute budget marked as used up, which holds requests
+     * for a minute. Used for 429 responses that do not report the remaining requests themselves.
+     */
+    public ServerQuota withMinuteExhausted() {
+        return new ServerQuota(requestsPerMinute, 0, requestsPerDay, remainingToday);
+    }
+
+    /**
+     * Check whether the response reported any quota information.
+     */
+    public boolean isEmpty() {
+        return requestsPerMinute == UNKNOWN && remainingThisMinute == UNKNOWN
+            && requestsPerDay == UNKNOWN && remainingToday == UNKNOWN;
+    }
+
+    private static int intHeader(HttpHeaders headers, String name) {
+        return headers.firstValue(name)
+            .map(String::trim)
+            .map(value -> {
+                try {
+                    return Math.max(0, Integer.parseInt(value));
+                } catch (NumberFormatException e) {
+                    return UNKNOWN;
+                }
+            })
+            .orElse(UNKNOWN);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football;
+
+import com.apisports.knime.football.client.FootballDescriptors;
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Activator of the football bundle. Loads the football endpoint descriptors when the bundle
+ * starts, before any of its nodes issues a request.
+ */
+public class FootballActivator implements BundleActivator {
+
+    @Override
+    public void start(BundleContext context) {
+        FootballDescriptors.ensureLoaded();
+    }
+
+    @Override
+    public void stop(BundleContext context) {
+        // Nothing to release
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.client;
+
+import com.apisports.knime.core.descriptor.DescriptorRegistry;
+import org.knime.core.node.NodeLogger;
+
+import java.io.InputStream;
+
+/**
+ * Loads the football endpoint descriptors into the shared {@link DescriptorRegistry}.
+ *
+ * The descriptor file is a resource of this bundle, which the core bundle cannot see, so
+ * the bundle's activator calls {@link #ensureLoaded()} when the bundle starts. The HTTP
+ * client then picks up the per-endpoint caching policies declared in the file.
+ */
+public final class FootballDescriptors {
+
+    public static final String RESOURCE_PATH = "/descriptors/football-endpoints.yaml";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(FootballDescriptors.class);
+
+    private static boolean loaded = false;
+
+    private FootballDescriptors() {
+    }
+
+    /**
+     * Load the descriptors once per session. Failures are logged and not retried; requests
+     * then fall back to the cache's default TTL.
+     */
+    public static synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        try (InputStream in = FootballDescriptors.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (in == null) {
+                LOGGER.warn("Football endpoint descriptors not found: " + RESOURCE_PATH);
+                return;
+            }
+            DescriptorRegistry.getInstance().loadFromStream(in);
+        } catch (Exception e) {
+            LOGGER.warn("Could not load football endpoint descriptors: " + e.getMessage(), e);
+        }
+    }
+}
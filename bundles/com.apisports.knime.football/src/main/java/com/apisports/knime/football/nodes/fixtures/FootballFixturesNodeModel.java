@@ -17,9 +17,9 @@
 package com.apisports.knime.football.nodes.fixtures;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.ResponseMapper;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
@@ -84,11 +84,10 @@ public class FootballFixturesNodeModel extends NodeModel {
         }
 
         // Parse JSON response using Jackson
-        ObjectMapper mapper = new ObjectMapper();
         JsonNode jsonResponse;
         JsonNode fixturesArray;
         try {
-            jsonResponse = mapper.readTree(responseBody);
+            jsonResponse = ResponseMapper.readTree(responseBody);
 
             // Check for API errors
             if (jsonResponse.has("errors") && jsonResponse.get("errors").size() > 0) {
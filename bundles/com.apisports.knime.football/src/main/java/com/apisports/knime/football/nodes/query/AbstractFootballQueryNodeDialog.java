@@ -16,9 +16,9 @@
 
 package com.apisports.knime.football.nodes.query;
 
-import com.apisports.knime.port.ReferenceDAO;
 import com.apisports.knime.port.ReferenceData;
 import com.apisports.knime.port.ReferenceDataPortObjectSpec;
+import com.apisports.knime.port.ReferenceDataSnapshot;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeDialogPane;
 import org.knime.core.node.NodeSettingsRO;
@@ -44,6 +44,7 @@ public abstract class AbstractFootballQueryNodeDialog extends NodeDialogPane {
     protected JComboBox<TeamItem> teamCombo;
 
     // Reference data loaded from database
+    protected ReferenceDataSnapshot referenceData;
     protected List<ReferenceData.League> allLeagues;
     protected List<ReferenceData.Season> allSeasons;
     protected List<ReferenceData.Team> allTeams;
@@ -172,12 +173,8 @@ public abstract class AbstractFootballQueryNodeDialog extends NodeDialogPane {
     private void updateSeasonCombo(int leagueId) {
         seasonCombo.removeAllItems();
 
-        if (allSeasons != null) {
-            for (ReferenceData.Season season : allSeasons) {
-                if (season.getLeagueId() == leagueId) {
-                    seasonCombo.addItem(season.getYear());
-                }
-            }
+        for (ReferenceData.Season season : getSeasonsForLeague(leagueId)) {
+            seasonCombo.addItem(season.getYear());
         }
     }
 
@@ -188,21 +185,26 @@ public abstract class AbstractFootballQueryNodeDialog extends NodeDialogPane {
         teamCombo.removeAllItems();
         teamCombo.addItem(new TeamItem(-1, "-- All Teams --"));
 
-        if (allTeams != null) {
-            if (leagueId > 0) {
-                // Filter teams by selected league
-                for (ReferenceData.Team team : allTeams) {
-                    if (team.getLeagueIds().contains(leagueId)) {
-                        teamCombo.addItem(new TeamItem(team.getId(), team.getName()));
-                    }
-                }
-            } else {
-                // No league selected - show all teams
-                for (ReferenceData.Team team : allTeams) {
-                    teamCombo.addItem(new TeamItem(team.getId(), team.getName()));
-                }
-            }
+        for (ReferenceData.Team team : getTeamsForLeague(leagueId)) {
+            teamCombo.addItem(new TeamItem(team.getId(), team.getName()));
+        }
+    }
+
+    /**
+     * Get the seasons of a league, most recent first.
+     */
+    protected List<ReferenceData.Season> getSeasonsForLeague(int leagueId) {
+        return referenceData != null ? referenceData.getSeasonsByLeague(leagueId) : List.of();
+    }
+
+    /**
+     * Get the teams of a league, or all teams if no league is selected (ID 0 or below).
+     */
+    protected List<ReferenceData.Team> getTeamsForLeague(int leagueId) {
+        if (referenceData == null) {
+            return List.of();
         }
+        return leagueId > 0 ? referenceData.getTeamsByLeague(leagueId) : referenceData.getTeams();
     }
 
     @Override
@@ -241,13 +243,14 @@ public abstract class AbstractFootballQueryNodeDialog extends NodeDialogPane {
     }
 
     /**
-     * Load reference data from SQLite database.
+     * Load reference data from the shared snapshot of the SQLite database.
      */
     private void loadReferenceData(String dbPath) throws NotConfigurableException {
-        try (ReferenceDAO dao = new ReferenceDAO(dbPath)) {
-            allLeagues = dao.getAllLeagues();
-            allSeasons = dao.getAllSeasons();
-            allTeams = dao.getAllTeams();
+        try {
+            referenceData = ReferenceDataSnapshot.get(dbPath);
+            allLeagues = referenceData.getLeagues();
+            allSeasons = referenceData.getSeasons();
+            allTeams = referenceData.getTeams();
         } catch (Exception e) {
             throw new NotConfigurableException("Failed to load reference data: " + e.getMessage(), e);
         }
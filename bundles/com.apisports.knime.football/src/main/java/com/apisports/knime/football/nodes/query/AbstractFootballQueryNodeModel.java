@@ -17,10 +17,13 @@
 package com.apisports.knime.football.nodes.query;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.ResponseMapper;
+import com.apisports.knime.core.client.ResponsePager;
+import com.apisports.knime.core.client.ResponseStreamReader;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
-import com.apisports.knime.port.ReferenceDAO;
 import com.apisports.knime.port.ReferenceData;
 import com.apisports.knime.port.ReferenceDataPortObject;
+import com.apisports.knime.port.ReferenceDataSnapshot;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.data.DataTableSpec;
@@ -35,9 +38,22 @@ import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
-
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Abstract base class for all Football API query nodes.
@@ -49,6 +65,11 @@ import java.util.Map;
  *
  * Output Ports:
  *   0: BufferedDataTable (query results)
+ *
+ * Subclasses write their rows to a {@link RowOutput}, so the nodes can be streamed: in a
+ * streamed workflow rows go downstream as they are parsed, and nodes with an optional third
+ * input port of IDs read it one row at a time through
+ * {@link #executeQuery(ApiSportsHttpClient, ObjectMapper, RowInput, RowOutput, ExecutionContext)}.
  */
 public abstract class AbstractFootballQueryNodeModel extends NodeModel {
 
@@ -57,6 +78,8 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
     protected static final String CFGKEY_SEASON = "season";
     protected static final String CFGKEY_TEAM_ID = "teamId";
 
+    private static final int MAX_LOGGED_RESPONSE_CHARS = 2000;
+
     protected final SettingsModelInteger m_leagueId =
         new SettingsModelInteger(CFGKEY_LEAGUE_ID, -1);
     protected final SettingsModelInteger m_season =
@@ -69,6 +92,7 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
     protected List<ReferenceData.League> m_leagues;
     protected List<ReferenceData.Season> m_seasons;
     protected List<ReferenceData.Team> m_teams;
+    protected ReferenceDataSnapshot m_referenceData;
 
     /**
      * Default constructor for nodes with standard ports.
@@ -95,44 +119,109 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
 
     @Override
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        // The optional IDs table, if the node has one and it is connected
+        BufferedDataTable idsTable = inObjects.length > 2 ? (BufferedDataTable) inObjects[2] : null;
+        RowInput idInput = idsTable != null ? new DataTableRowInput(idsTable) : null;
+
+        DataTableSpec[] specs = getOutputSpecs();
+        BufferedDataTableRowOutput[] outputs = new BufferedDataTableRowOutput[specs.length];
+        for (int i = 0; i < specs.length; i++) {
+            outputs[i] = new BufferedDataTableRowOutput(exec.createDataContainer(specs[i]));
+        }
+        runQuery(inObjects[0], inObjects[1], idInput, outputs, exec);
+
+        PortObject[] tables = new PortObject[outputs.length];
+        for (int i = 0; i < outputs.length; i++) {
+            tables[i] = outputs[i].getDataTable();
+        }
+        return tables;
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // Connection and reference data are needed whole; an IDs table can be read row by row
+        InputPortRole[] roles = new InputPortRole[getNrInPorts()];
+        Arrays.fill(roles, InputPortRole.NONDISTRIBUTED_NONSTREAMABLE);
+        for (int i = 2; i < roles.length; i++) {
+            roles[i] = InputPortRole.NONDISTRIBUTED_STREAMABLE;
+        }
+        return roles;
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+                                                       final PortObjectSpec[] inSpecs)
+            throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                                 final ExecutionContext exec) throws Exception {
+                RowInput idInput = inputs.length > 2 ? (RowInput) inputs[2] : null;
+                RowOutput[] rowOutputs = new RowOutput[outputs.length];
+                for (int i = 0; i < outputs.length; i++) {
+                    rowOutputs[i] = (RowOutput) outputs[i];
+                }
+                runQuery(((PortObjectInput) inputs[0]).getPortObject(),
+                         ((PortObjectInput) inputs[1]).getPortObject(),
+                         idInput, rowOutputs, exec);
+            }
+        };
+    }
+
+    /**
+     * Run the query, shared by normal and streamed execution.
+     *
+     * @param idInput rows of the optional IDs input port, or null if it is not connected
+     * @param outputs one per output port, matching {@link #getOutputSpecs()}
+     */
+    private void runQuery(PortObject connection, PortObject referenceData, RowInput idInput,
+                          RowOutput[] outputs, ExecutionContext exec) throws Exception {
         // Get API client from connection port
-        if (inObjects[0] == null) {
+        if (connection == null) {
             throw new InvalidSettingsException("API connection port is not connected. Please connect an API-Sports Connector node.");
         }
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
+        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) connection;
         ApiSportsHttpClient client = connectionPort.getClient();
 
         // Get reference data from port
-        if (inObjects[1] == null) {
+        if (referenceData == null) {
             throw new InvalidSettingsException("Reference data port is not connected. Please connect a Reference Data Loader node.");
         }
-        ReferenceDataPortObject refDataPort = (ReferenceDataPortObject) inObjects[1];
+        ReferenceDataPortObject refDataPort = (ReferenceDataPortObject) referenceData;
         m_dbPath = refDataPort.getDbPath();
 
         // Load reference data from database
         loadReferenceData();
 
-        // Validate settings
-        validateExecutionSettings();
-
-        // Execute endpoint-specific query (implemented by subclass)
-        BufferedDataTable result = executeQuery(client, new ObjectMapper(), exec);
-
-        return new PortObject[]{result};
+        RowOutput output = outputs[0];
+        setAdditionalOutputs(Arrays.copyOfRange(outputs, 1, outputs.length));
+        if (idInput != null) {
+            // IDs provided via input port - dialog settings for the query are ignored
+            executeQuery(client, ResponseMapper.getMapper(), idInput, output, exec);
+            idInput.close();
+        } else {
+            // Validate settings
+            validateExecutionSettings();
+
+            // Execute endpoint-specific query (implemented by subclass)
+            executeQuery(client, ResponseMapper.getMapper(), output, exec);
+        }
+        for (RowOutput o : outputs) {
+            o.close();
+        }
     }
 
     /**
-     * Load reference data from SQLite database.
+     * Load reference data from the shared snapshot of the SQLite database.
      */
     protected void loadReferenceData() throws Exception {
-        try (ReferenceDAO dao = new ReferenceDAO(m_dbPath)) {
-            m_leagues = dao.getAllLeagues();
-            m_seasons = dao.getAllSeasons();
-            m_teams = dao.getAllTeams();
+        m_referenceData = ReferenceDataSnapshot.get(m_dbPath);
+        m_leagues = m_referenceData.getLeagues();
+        m_seasons = m_referenceData.getSeasons();
+        m_teams = m_referenceData.getTeams();
 
-            getLogger().info("Loaded reference data: " + m_leagues.size() + " leagues, " +
-                           m_seasons.size() + " seasons, " + m_teams.size() + " teams");
-        }
+        getLogger().info("Using reference data: " + m_leagues.size() + " leagues, " +
+                       m_seasons.size() + " seasons, " + m_teams.size() + " teams");
     }
 
     /**
@@ -155,12 +244,29 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
      *
      * @param client API client for making requests
      * @param mapper JSON mapper for parsing responses
+     * @param output Receives the result rows, matching {@link #getOutputSpec()}; closed by the caller
      * @param exec Execution context for progress/cancellation
-     * @return BufferedDataTable with query results
      */
-    protected abstract BufferedDataTable executeQuery(ApiSportsHttpClient client,
-                                                       ObjectMapper mapper,
-                                                       ExecutionContext exec) throws Exception;
+    protected abstract void executeQuery(ApiSportsHttpClient client,
+                                         ObjectMapper mapper,
+                                         RowOutput output,
+                                         ExecutionContext exec) throws Exception;
+
+    /**
+     * Execute the query for the IDs of the optional third input port, instead of the dialog
+     * settings. Overridden by subclasses that declare such a port; the input is only read as
+     * far as needed, so streamed rows are queried as they arrive.
+     *
+     * @param input Rows of the IDs table
+     * @param output Receives the result rows, matching {@link #getOutputSpec()}; closed by the caller
+     */
+    protected void executeQuery(ApiSportsHttpClient client,
+                                ObjectMapper mapper,
+                                RowInput input,
+                                RowOutput output,
+                                ExecutionContext exec) throws Exception {
+        throw new IllegalStateException(getClass().getSimpleName() + " does not accept an IDs input table");
+    }
 
     /**
      * Get the output table spec.
@@ -168,6 +274,22 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
      */
     protected abstract DataTableSpec getOutputSpec();
 
+    /**
+     * Get the specs of all output ports: {@link #getOutputSpec()} followed by those of any
+     * further output ports a subclass declares.
+     */
+    protected DataTableSpec[] getOutputSpecs() {
+        return new DataTableSpec[]{getOutputSpec()};
+    }
+
+    /**
+     * Receive the outputs of the output ports after the first, before the query is executed.
+     * Overridden by subclasses that declare such ports; the outputs are closed by the caller.
+     */
+    protected void setAdditionalOutputs(RowOutput[] outputs) {
+    }
+
+
     /**
      * Helper method to make API call and parse JSON response.
      */
@@ -175,7 +297,59 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
                                Map<String, String> params, ObjectMapper mapper) throws Exception {
         getLogger().warn("Making API call: GET " + endpoint + " with params: " + params);
         String response = client.get(endpoint, params);
-        getLogger().debug("Raw API response: " + response);
+        return parseApiResponse(response, mapper);
+    }
+
+    /**
+     * Make an API call and pass the elements of the "response" array to the handler one at
+     * a time, without building a tree of the whole response. Use this instead of
+     * {@link #callApi} where each element maps to output rows independently.
+     * For endpoints whose descriptor declares paging, all pages are fetched and their
+     * elements passed on in page order.
+     *
+     * @return Number of elements passed to the handler
+     */
+    protected int streamApi(ApiSportsHttpClient client, String endpoint, Map<String, String> params,
+                            ObjectMapper mapper, ResponseStreamReader.ElementHandler handler) throws Exception {
+        getLogger().debug("Making streaming API call: GET " + endpoint + " with params: " + params);
+        ResponsePager.Result result = new ResponsePager(client, mapper).fetchAll(endpoint, params, handler);
+
+        if (result.isTruncated()) {
+            getLogger().warn("Only the first " + result.pagesFetched() + " of " + result.totalPages()
+                + " pages of " + endpoint + " were retrieved");
+            setWarningMessage("Results truncated to " + result.pagesFetched() + " of "
+                + result.totalPages() + " pages");
+        } else if (result.pagesFetched() > 1) {
+            getLogger().info("Retrieved " + result.pagesFetched() + " pages of " + endpoint);
+        }
+        if (result.elements() == 0) {
+            getLogger().warn("API returned empty response array. Check your query parameters.");
+        }
+        return result.elements();
+    }
+
+    /**
+     * Asynchronous variant of {@link #callApi}. The request is issued through the client's
+     * concurrency-capped async path; the returned future completes with the "response" node
+     * or exceptionally if the call or the error check fails.
+     */
+    protected CompletableFuture<JsonNode> callApiAsync(ApiSportsHttpClient client, String endpoint,
+                                                       Map<String, String> params, ObjectMapper mapper) {
+        getLogger().debug("Making async API call: GET " + endpoint + " with params: " + params);
+        return client.getAsync(endpoint, params).thenApply(response -> {
+            try {
+                return parseApiResponse(response, mapper);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Parse a raw API response, check for API-level errors and return the "response" node.
+     */
+    protected JsonNode parseApiResponse(String response, ObjectMapper mapper) throws Exception {
+        logRawResponse(response);
 
         JsonNode root = mapper.readTree(response);
 
@@ -202,14 +376,26 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
         return responseNode;
     }
 
+    /**
+     * Log the start of a raw response at debug level. Season-sized responses run to
+     * megabytes, so the body is truncated and only concatenated if debug is enabled.
+     */
+    private void logRawResponse(String response) {
+        if (getLogger().isDebugEnabled()) {
+            String logged = response.length() > MAX_LOGGED_RESPONSE_CHARS
+                ? response.substring(0, MAX_LOGGED_RESPONSE_CHARS) + "... (" + response.length() + " chars)"
+                : response;
+            getLogger().debug("Raw API response: " + logged);
+        }
+    }
+
     /**
      * Get league name by ID (for logging/display).
      */
     protected String getLeagueName(int leagueId) {
-        for (ReferenceData.League league : m_leagues) {
-            if (league.getId() == leagueId) {
-                return league.getName() + " (" + league.getCountryName() + ")";
-            }
+        ReferenceData.League league = m_referenceData != null ? m_referenceData.getLeague(leagueId) : null;
+        if (league != null) {
+            return league.getName() + " (" + league.getCountryName() + ")";
         }
         return "League ID " + leagueId;
     }
@@ -218,18 +404,17 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
      * Get team name by ID (for logging/display).
      */
     protected String getTeamName(int teamId) {
-        for (ReferenceData.Team team : m_teams) {
-            if (team.getId() == teamId) {
-                return team.getName();
-            }
+        ReferenceData.Team team = m_referenceData != null ? m_referenceData.getTeam(teamId) : null;
+        if (team != null) {
+            return team.getName();
         }
         return "Team ID " + teamId;
     }
 
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
-        // Return the output spec
-        return new PortObjectSpec[]{getOutputSpec()};
+        // Return the output specs
+        return getOutputSpecs();
     }
 
     @Override
@@ -261,6 +446,7 @@ public abstract class AbstractFootballQueryNodeModel extends NodeModel {
         m_leagues = null;
         m_seasons = null;
         m_teams = null;
+        m_referenceData = null;
         m_dbPath = null;
     }
 
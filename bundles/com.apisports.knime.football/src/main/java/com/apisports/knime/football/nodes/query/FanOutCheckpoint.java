@@ -0,0 +1,348 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query;
+
+import com.apisports.knime.core.client.ApiSportsHttpClient;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Progress of a node that sends one request per input ID, so that an interrupted run can be
+ * resumed without requesting the completed IDs again.
+ *
+ * The rows of every completed ID are appended to a binary spill file in the temp directory, and
+ * an in-memory index maps the ID to its record. A re-execute replays the rows of completed IDs
+ * from the file and only queries the rest. The checkpoint is fingerprinted with the query,
+ * the connection and the settings it was written for, and is only resumed by a run with the
+ * same fingerprint. The file can be copied into the node's internals and loaded back, so the
+ * checkpoint of a run stopped by the daily quota survives saving and reopening the workflow.
+ *
+ * File layout: magic (int), fingerprint length (int), fingerprint (UTF-8), then one record per
+ * completed ID. Record layout: magic (int), ID (int), payload length (int), CRC32 of the payload
+ * (int), payload. The payload holds the row count, and per row the cell count and the cells,
+ * each a type tag followed by its value. A torn or corrupt record, as left by a crash, ends the
+ * scan when the file is loaded.
+ */
+public final class FanOutCheckpoint implements Closeable {
+
+    private static final int FILE_MAGIC = 0xC4EC7001;
+    private static final int RECORD_MAGIC = 0xC4EC7002;
+    private static final int RECORD_HEADER_SIZE = 16;
+    private static final String SPILL_PREFIX = "apisports-checkpoint-";
+    private static final String SPILL_SUFFIX = ".bin";
+
+    private static final byte TAG_MISSING = 0;
+    private static final byte TAG_INT = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_DOUBLE = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_STRING = 5;
+
+    private final String fingerprint;
+    private final Path spillFile;
+    private final FileChannel channel;
+    /** Offset of the record of each completed ID. */
+    private final Map<Integer, Long> offsets = new HashMap<>();
+
+    private FanOutCheckpoint(String fingerprint, Path spillFile, FileChannel channel) {
+        this.fingerprint = fingerprint;
+        this.spillFile = spillFile;
+        this.channel = channel;
+    }
+
+    /**
+     * Build a fingerprint that identifies a query by its name and format version, the
+     * connection it is sent to and the settings that shape its rows.
+     *
+     * @param query E.g. the endpoint and a version of the row format
+     * @param settings Values of the settings that affect the requests or the rows
+     */
+    public static String fingerprint(String query, ApiSportsHttpClient client, Object... settings) {
+        StringBuilder fingerprint = new StringBuilder(query).append('|').append(client.getConnectionScope());
+        for (Object setting : settings) {
+            fingerprint.append('|').append(setting);
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Continue from a previous checkpoint if it was written for the same query, or start a new
+     * one otherwise.
+     *
+     * @param previous Checkpoint of the previous run, or null
+     * @param fingerprint Identifies the query, see {@link #fingerprint}; a checkpoint with
+     *                    another fingerprint is discarded
+     */
+    public static FanOutCheckpoint resume(FanOutCheckpoint previous, String fingerprint) throws IOException {
+        if (previous != null) {
+            if (previous.fingerprint.equals(fingerprint)) {
+                return previous;
+            }
+            previous.discard();
+        }
+
+        Path spillFile = Files.createTempFile(SPILL_PREFIX, SPILL_SUFFIX);
+        FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        byte[] fingerprintBytes = fingerprint.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer header = ByteBuffer.allocate(8 + fingerprintBytes.length);
+        header.putInt(FILE_MAGIC).putInt(fingerprintBytes.length).put(fingerprintBytes).flip();
+        writeFully(channel, header, 0);
+        return new FanOutCheckpoint(fingerprint, spillFile, channel);
+    }
+
+    /**
+     * Load a checkpoint saved with {@link #saveTo(Path)}. The file is copied to a new spill
+     * file, so the saved copy is left unchanged. Records are checked against their magic number
+     * and CRC32; the scan stops at the first one that does not match, and later records are
+     * dropped. Whether the checkpoint is resumed is decided by its fingerprint, see
+     * {@link #resume}.
+     *
+     * @return The checkpoint, or null if the file is not a checkpoint
+     */
+    public static FanOutCheckpoint load(Path file) throws IOException {
+        Path spillFile = Files.createTempFile(SPILL_PREFIX, SPILL_SUFFIX);
+        Files.copy(file, spillFile, StandardCopyOption.REPLACE_EXISTING);
+        FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(8);
+            if (size < 8 || channel.read(header, 0) < 8 || header.getInt(0) != FILE_MAGIC
+                    || header.getInt(4) < 0 || 8L + header.getInt(4) > size) {
+                channel.close();
+                Files.deleteIfExists(spillFile);
+                return null;
+            }
+            ByteBuffer fingerprintBytes = ByteBuffer.allocate(header.getInt(4));
+            readFully(channel, fingerprintBytes, 8);
+            String fingerprint = new String(fingerprintBytes.array(), StandardCharsets.UTF_8);
+
+            FanOutCheckpoint checkpoint = new FanOutCheckpoint(fingerprint, spillFile, channel);
+            long offset = 8L + fingerprintBytes.capacity();
+            ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (offset + RECORD_HEADER_SIZE <= size) {
+                recordHeader.clear();
+                readFully(channel, recordHeader, offset);
+                int id = recordHeader.getInt(4);
+                int length = recordHeader.getInt(8);
+                if (recordHeader.getInt(0) != RECORD_MAGIC || length < 0
+                        || offset + RECORD_HEADER_SIZE + length > size) {
+                    break;
+                }
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                readFully(channel, payload, offset + RECORD_HEADER_SIZE);
+                if (crc(payload.array()) != recordHeader.getInt(12)) {
+                    break;
+                }
+                checkpoint.offsets.put(id, offset);
+                offset += RECORD_HEADER_SIZE + length;
+            }
+            // Drop a torn tail, so new records follow the last intact one
+            channel.truncate(offset);
+            return checkpoint;
+        } catch (IOException e) {
+            channel.close();
+            Files.deleteIfExists(spillFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether the rows of an ID are in the checkpoint.
+     */
+    public boolean isCompleted(int id) {
+        return offsets.containsKey(id);
+    }
+
+    /**
+     * Get the number of completed IDs.
+     */
+    public int getCompletedCount() {
+        return offsets.size();
+    }
+
+    /**
+     * Read the rows recorded for a completed ID.
+     *
+     * @return The cells of each row, in the order they were recorded
+     */
+    public List<DataCell[]> getRows(int id) throws IOException {
+        Long offset = offsets.get(id);
+        if (offset == null) {
+            throw new IllegalArgumentException("ID " + id + " is not in the checkpoint");
+        }
+
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(channel, recordHeader, offset);
+        ByteBuffer payload = ByteBuffer.allocate(recordHeader.getInt(8));
+        readFully(channel, payload, offset + RECORD_HEADER_SIZE);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload.array()));
+        int rowCount = in.readInt();
+        List<DataCell[]> rows = new ArrayList<>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            DataCell[] cells = new DataCell[in.readInt()];
+            for (int c = 0; c < cells.length; c++) {
+                cells[c] = readCell(in);
+            }
+            rows.add(cells);
+        }
+        return rows;
+    }
+
+    /**
+     * Record an ID as completed, together with the rows written for it. Row keys are not
+     * recorded; replayed rows are numbered by the run that replays them.
+     */
+    public void complete(int id, List<DataRow> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(rows.size());
+        for (DataRow row : rows) {
+            out.writeInt(row.getNumCells());
+            for (int c = 0; c < row.getNumCells(); c++) {
+                writeCell(out, row.getCell(c));
+            }
+        }
+        out.flush();
+        byte[] payload = bytes.toByteArray();
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.putInt(RECORD_MAGIC).putInt(id).putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+        long offset = channel.size();
+        writeFully(channel, record, offset);
+        offsets.put(id, offset);
+    }
+
+    /**
+     * Copy the checkpoint to a file, e.g. in the node's internals directory.
+     */
+    public void saveTo(Path file) throws IOException {
+        channel.force(false);
+        Files.copy(spillFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Close the checkpoint and delete its spill file.
+     */
+    public void discard() {
+        try {
+            close();
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            // The file is in the temp directory and will be removed with it
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void writeCell(DataOutputStream out, DataCell cell) throws IOException {
+        if (cell.isMissing()) {
+            out.writeByte(TAG_MISSING);
+        } else if (cell instanceof IntCell) {
+            out.writeByte(TAG_INT);
+            out.writeInt(((IntCell) cell).getIntValue());
+        } else if (cell instanceof LongCell) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(((LongCell) cell).getLongValue());
+        } else if (cell instanceof DoubleCell) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(((DoubleCell) cell).getDoubleValue());
+        } else if (cell instanceof BooleanCell) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(((BooleanCell) cell).getBooleanValue());
+        } else if (cell instanceof StringCell) {
+            byte[] value = ((StringCell) cell).getStringValue().getBytes(StandardCharsets.UTF_8);
+            out.writeByte(TAG_STRING);
+            out.writeInt(value.length);
+            out.write(value);
+        } else {
+            throw new IllegalArgumentException("Cannot checkpoint cells of type " + cell.getClass().getSimpleName());
+        }
+    }
+
+    private static DataCell readCell(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_MISSING:
+                return DataType.getMissingCell();
+            case TAG_INT:
+                return new IntCell(in.readInt());
+            case TAG_LONG:
+                return new LongCell(in.readLong());
+            case TAG_DOUBLE:
+                return new DoubleCell(in.readDouble());
+            case TAG_BOOLEAN:
+                return BooleanCell.get(in.readBoolean());
+            case TAG_STRING:
+                byte[] value = new byte[in.readInt()];
+                in.readFully(value);
+                return new StringCell(new String(value, StandardCharsets.UTF_8));
+            default:
+                throw new IOException("Unknown cell tag " + tag + " in checkpoint");
+        }
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of checkpoint file");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.RowInput;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the IDs of an integer column of an input table one row at a time.
+ *
+ * Nodes that query the API once per input ID read their IDs through this class, so that when
+ * the node is streamed the first requests go out as soon as the first rows arrive, rather than
+ * after the upstream node has finished. Missing and non-integer cells are skipped.
+ */
+public final class IdColumnReader {
+
+    private final RowInput input;
+    private final int columnIndex;
+    private final Set<Integer> seen;
+    private final long rowCount;
+    private long rowsRead = 0;
+    private int idCount = 0;
+    private DataRow currentRow;
+
+    /**
+     * @param input rows to read; a {@link DataTableRowInput} when the node is not streamed
+     * @param columnIndex index of the ID column
+     * @param distinct whether to skip IDs already read
+     */
+    public IdColumnReader(RowInput input, int columnIndex, boolean distinct) {
+        this.input = input;
+        this.columnIndex = columnIndex;
+        this.seen = distinct ? new HashSet<>() : null;
+        this.rowCount = input instanceof DataTableRowInput ? ((DataTableRowInput) input).getRowCount() : -1;
+    }
+
+    /**
+     * Read the next ID, waiting for upstream rows if the input is streamed.
+     *
+     * @return the ID, or null once the input is exhausted
+     */
+    public Integer next() throws InterruptedException {
+        DataRow row;
+        while ((row = input.poll()) != null) {
+            rowsRead++;
+            DataCell cell = row.getCell(columnIndex);
+            if (cell.isMissing() || !(cell instanceof IntCell)) {
+                continue;
+            }
+            int id = ((IntCell) cell).getIntValue();
+            if (seen != null && !seen.add(id)) {
+                continue;
+            }
+            currentRow = row;
+            idCount++;
+            return id;
+        }
+        currentRow = null;
+        return null;
+    }
+
+    /**
+     * Read up to {@code maxIds} further IDs.
+     *
+     * @return the IDs, empty once the input is exhausted
+     */
+    public List<Integer> next(int maxIds) throws InterruptedException {
+        List<Integer> ids = new ArrayList<>(maxIds);
+        Integer id;
+        while (ids.size() < maxIds && (id = next()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Get the row the last ID was read from, e.g. to pick up further columns.
+     */
+    public DataRow getCurrentRow() {
+        return currentRow;
+    }
+
+    /**
+     * Get the number of IDs read so far.
+     */
+    public int getIdCount() {
+        return idCount;
+    }
+
+    /**
+     * Report progress as the share of input rows read, or just the message if the number of
+     * rows is not known up front, as when the input is streamed.
+     */
+    public void reportProgress(ExecutionMonitor exec, String message) {
+        if (rowCount > 0) {
+            exec.setProgress((double) rowsRead / rowCount, message);
+        } else {
+            exec.setMessage(message);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query;
+
+import org.knime.core.node.ExecutionContext;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+
+/**
+ * Runs asynchronous tasks with at most {@code windowSize} of them in flight and hands the
+ * results back in task order.
+ *
+ * Tasks are started lazily as results are consumed, so a node can issue its API calls
+ * concurrently while still writing output rows in their original order. Waiting for a result
+ * polls the execution context, so cancelling the node stops the loop promptly.
+ *
+ * The tasks are either a fixed number known up front or drawn from a {@link TaskSource}
+ * until it runs dry, e.g. one task per ID of a streamed input table.
+ *
+ * @param <T> result type of a single task
+ */
+public final class OrderedFetchWindow<T> implements AutoCloseable {
+
+    private static final long CANCEL_POLL_MILLIS = 100;
+
+    /**
+     * Starts tasks one at a time, in order.
+     *
+     * @param <T> result type of a single task
+     */
+    @FunctionalInterface
+    public interface TaskSource<T> {
+        /**
+         * Start the next task; called on the consuming thread.
+         *
+         * @return the task's future, or null if there are no more tasks
+         */
+        CompletableFuture<T> next() throws Exception;
+    }
+
+    private final TaskSource<T> taskSource;
+    private final int windowSize;
+    private final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+    private boolean sourceDrained = false;
+
+    /**
+     * @param taskCount number of tasks to run
+     * @param windowSize maximum number of tasks in flight (values below 1 are treated as 1)
+     * @param taskFactory starts task {@code i} and returns its future; called on the consuming thread
+     */
+    public OrderedFetchWindow(int taskCount, int windowSize, IntFunction<CompletableFuture<T>> taskFactory) {
+        this(windowSize, new TaskSource<T>() {
+            private int nextTask = 0;
+
+            @Override
+            public CompletableFuture<T> next() {
+                return nextTask < taskCount ? taskFactory.apply(nextTask++) : null;
+            }
+        });
+    }
+
+    /**
+     * @param windowSize maximum number of tasks in flight (values below 1 are treated as 1)
+     * @param taskSource starts the tasks in order until it returns null
+     */
+    public OrderedFetchWindow(int windowSize, TaskSource<T> taskSource) {
+        this.windowSize = Math.max(1, windowSize);
+        this.taskSource = taskSource;
+    }
+
+    /**
+     * Check whether there are results left to consume, topping up the window first.
+     *
+     * @throws Exception if the task source fails to start a task
+     */
+    public boolean hasNext() throws Exception {
+        fill();
+        return !inFlight.isEmpty();
+    }
+
+    /**
+     * Wait for the next result in task order, topping up the window first.
+     *
+     * @throws ExecutionException if the task failed; the cause is the task's exception
+     */
+    public T next(ExecutionContext exec) throws Exception {
+        fill();
+
+        CompletableFuture<T> head = inFlight.poll();
+        while (true) {
+            exec.checkCanceled();
+            try {
+                return head.get(CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Still running - check for cancellation and keep waiting
+            }
+        }
+    }
+
+    private void fill() throws Exception {
+        while (!sourceDrained && inFlight.size() < windowSize) {
+            CompletableFuture<T> task = taskSource.next();
+            if (task == null) {
+                sourceDrained = true;
+            } else {
+                inFlight.add(task);
+            }
+        }
+    }
+
+    /**
+     * Cancel any tasks that are still in flight.
+     */
+    @Override
+    public void close() {
+        for (CompletableFuture<T> future : inFlight) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+    }
+}
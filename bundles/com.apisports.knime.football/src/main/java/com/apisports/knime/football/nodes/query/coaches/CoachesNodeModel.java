@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.data.*;
 import org.knime.core.data.def.*;
 import org.knime.core.node.*;
+import org.knime.core.node.streamable.RowOutput;
 import java.util.*;
 
 public class CoachesNodeModel extends AbstractFootballQueryNodeModel {
@@ -33,10 +34,8 @@ public class CoachesNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         int rowNum = 0;
 
         if (m_teamId.getIntValue() > 0) {
@@ -48,7 +47,7 @@ public class CoachesNodeModel extends AbstractFootballQueryNodeModel {
             params.put("team", String.valueOf(m_teamId.getIntValue()));
 
             JsonNode response = callApi(client, "/coachs", params, mapper);
-            rowNum = parseResponse(response, container, rowNum);
+            rowNum = parseResponse(response, output, rowNum);
         } else {
             // Query coaches for all teams in reference data
             if (m_teams == null || m_teams.isEmpty()) {
@@ -72,7 +71,7 @@ public class CoachesNodeModel extends AbstractFootballQueryNodeModel {
                     System.out.println("Querying /coachs for team: " + team.getName() + " (ID: " + team.getId() + ")");
 
                     JsonNode response = callApi(client, "/coachs", params, mapper);
-                    rowNum = parseResponse(response, container, rowNum);
+                    rowNum = parseResponse(response, output, rowNum);
                 } catch (Exception e) {
                     getLogger().warn("Failed to query coaches for team " + team.getName() + ": " + e.getMessage());
                     System.out.println("  ERROR: " + e.getMessage());
@@ -85,12 +84,9 @@ public class CoachesNodeModel extends AbstractFootballQueryNodeModel {
             System.out.println("COACHES NODE: Retrieved " + rowNum + " total coaches");
             System.out.println("=============================================================");
         }
-
-        container.close();
-        return container.getTable();
     }
 
-    private int parseResponse(JsonNode response, BufferedDataContainer container, int startRowNum) {
+    private int parseResponse(JsonNode response, RowOutput output, int startRowNum) throws InterruptedException {
         int rowNum = startRowNum;
 
         if (response != null && response.isArray()) {
@@ -111,9 +107,9 @@ public class CoachesNodeModel extends AbstractFootballQueryNodeModel {
                         new StringCell(lastname), new StringCell(age), new StringCell(nationality),
                         new StringCell(teamName)
                     };
-                    container.addRowToTable(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse coach: " + e.getMessage());
                 }
             }
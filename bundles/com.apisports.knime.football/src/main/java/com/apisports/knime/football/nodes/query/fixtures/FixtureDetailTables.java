@@ -0,0 +1,325 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query.fixtures;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.streamable.RowOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The events, lineups, team statistics and player statistics of fixtures as narrow tables
+ * keyed by Fixture_ID, written to the detail output ports of the normalized output layout.
+ *
+ * Each table has one row per event, lineup player, team statistic or player, instead of the
+ * comma-separated and aggregated columns of the wide layout.
+ */
+final class FixtureDetailTables {
+
+    static final int EVENTS = 0;
+    static final int LINEUPS = 1;
+    static final int TEAM_STATISTICS = 2;
+    static final int PLAYER_STATISTICS = 3;
+
+    /** Number of detail tables, and of the detail output ports. */
+    static final int COUNT = 4;
+
+    /** Identifiers of the optional output port groups of the detail tables, indexed by {@link #EVENTS} etc. */
+    static final String[] PORT_GROUPS = {"Events", "Lineups", "Team Statistics", "Player Statistics"};
+
+    private final RowOutput[] outputs;
+    private final long[] rowCounts = new long[COUNT];
+
+    /**
+     * @param outputs Outputs of the detail tables, indexed by {@link #EVENTS} etc., null for a
+     *                detail output port that was not added; closed by the caller
+     */
+    FixtureDetailTables(RowOutput[] outputs) {
+        if (outputs.length != COUNT) {
+            throw new IllegalArgumentException("Expected " + COUNT + " detail outputs, got " + outputs.length);
+        }
+        this.outputs = outputs;
+    }
+
+    /**
+     * Get the specs of the detail tables, indexed by {@link #EVENTS} etc.
+     */
+    static DataTableSpec[] createSpecs() {
+        DataTableSpec[] specs = new DataTableSpec[COUNT];
+
+        specs[EVENTS] = spec(
+            column("Fixture_ID", IntCell.TYPE),
+            column("Elapsed", IntCell.TYPE),
+            column("Extra", IntCell.TYPE),
+            column("Team_ID", IntCell.TYPE),
+            column("Team_Name", StringCell.TYPE),
+            column("Player_ID", IntCell.TYPE),
+            column("Player_Name", StringCell.TYPE),
+            column("Assist_ID", IntCell.TYPE),
+            column("Assist_Name", StringCell.TYPE),
+            column("Type", StringCell.TYPE),
+            column("Detail", StringCell.TYPE),
+            column("Comments", StringCell.TYPE));
+
+        specs[LINEUPS] = spec(
+            column("Fixture_ID", IntCell.TYPE),
+            column("Team_ID", IntCell.TYPE),
+            column("Team_Name", StringCell.TYPE),
+            column("Formation", StringCell.TYPE),
+            column("Coach_ID", IntCell.TYPE),
+            column("Coach_Name", StringCell.TYPE),
+            column("Player_ID", IntCell.TYPE),
+            column("Player_Name", StringCell.TYPE),
+            column("Number", IntCell.TYPE),
+            column("Position", StringCell.TYPE),
+            column("Grid", StringCell.TYPE),
+            column("Starting", BooleanCell.TYPE));
+
+        specs[TEAM_STATISTICS] = spec(
+            column("Fixture_ID", IntCell.TYPE),
+            column("Team_ID", IntCell.TYPE),
+            column("Team_Name", StringCell.TYPE),
+            column("Statistic", StringCell.TYPE),
+            column("Value", StringCell.TYPE),
+            column("Numeric_Value", DoubleCell.TYPE));
+
+        specs[PLAYER_STATISTICS] = spec(
+            column("Fixture_ID", IntCell.TYPE),
+            column("Team_ID", IntCell.TYPE),
+            column("Team_Name", StringCell.TYPE),
+            column("Player_ID", IntCell.TYPE),
+            column("Player_Name", StringCell.TYPE),
+            column("Number", IntCell.TYPE),
+            column("Position", StringCell.TYPE),
+            column("Minutes", IntCell.TYPE),
+            column("Rating", DoubleCell.TYPE),
+            column("Captain", BooleanCell.TYPE),
+            column("Substitute", BooleanCell.TYPE),
+            column("Goals", IntCell.TYPE),
+            column("Assists", IntCell.TYPE),
+            column("Goals_Conceded", IntCell.TYPE),
+            column("Saves", IntCell.TYPE),
+            column("Shots_Total", IntCell.TYPE),
+            column("Shots_On", IntCell.TYPE),
+            column("Passes_Total", IntCell.TYPE),
+            column("Passes_Key", IntCell.TYPE),
+            column("Passes_Accuracy", StringCell.TYPE),
+            column("Tackles_Total", IntCell.TYPE),
+            column("Blocks", IntCell.TYPE),
+            column("Interceptions", IntCell.TYPE),
+            column("Duels_Total", IntCell.TYPE),
+            column("Duels_Won", IntCell.TYPE),
+            column("Dribbles_Attempts", IntCell.TYPE),
+            column("Dribbles_Success", IntCell.TYPE),
+            column("Fouls_Drawn", IntCell.TYPE),
+            column("Fouls_Committed", IntCell.TYPE),
+            column("Yellow_Cards", IntCell.TYPE),
+            column("Red_Cards", IntCell.TYPE),
+            column("Offsides", IntCell.TYPE),
+            column("Penalty_Scored", IntCell.TYPE),
+            column("Penalty_Missed", IntCell.TYPE),
+            column("Penalty_Saved", IntCell.TYPE));
+
+        return specs;
+    }
+
+    /**
+     * Parse the detail rows of one fixture. Optional data that was not requested is null and
+     * contributes no rows.
+     */
+    static Rows parse(JsonNode fixtureItem, JsonNode events, JsonNode statistics, JsonNode lineups,
+                      JsonNode players) {
+        DataCell fixtureId = intCell(fixtureItem.path("fixture").path("id"));
+        Rows rows = new Rows();
+
+        for (JsonNode event : elements(events)) {
+            JsonNode time = event.path("time");
+            JsonNode team = event.path("team");
+            JsonNode player = event.path("player");
+            JsonNode assist = event.path("assist");
+            rows.add(EVENTS, fixtureId,
+                intCell(time.path("elapsed")), intCell(time.path("extra")),
+                intCell(team.path("id")), stringCell(team.path("name")),
+                intCell(player.path("id")), stringCell(player.path("name")),
+                intCell(assist.path("id")), stringCell(assist.path("name")),
+                stringCell(event.path("type")), stringCell(event.path("detail")),
+                stringCell(event.path("comments")));
+        }
+
+        for (JsonNode teamLineup : elements(lineups)) {
+            JsonNode team = teamLineup.path("team");
+            JsonNode coach = teamLineup.path("coach");
+            DataCell[] teamCells = {fixtureId, intCell(team.path("id")), stringCell(team.path("name")),
+                stringCell(teamLineup.path("formation")), intCell(coach.path("id")), stringCell(coach.path("name"))};
+            addLineupPlayers(rows, teamCells, teamLineup.path("startXI"), true);
+            addLineupPlayers(rows, teamCells, teamLineup.path("substitutes"), false);
+        }
+
+        for (JsonNode teamStatistics : elements(statistics)) {
+            JsonNode team = teamStatistics.path("team");
+            for (JsonNode stat : elements(teamStatistics.path("statistics"))) {
+                JsonNode value = stat.path("value");
+                rows.add(TEAM_STATISTICS, fixtureId, intCell(team.path("id")), stringCell(team.path("name")),
+                    stringCell(stat.path("type")), stringCell(value), doubleCell(value));
+            }
+        }
+
+        for (JsonNode teamPlayers : elements(players)) {
+            JsonNode team = teamPlayers.path("team");
+            for (JsonNode playerEntry : elements(teamPlayers.path("players"))) {
+                JsonNode player = playerEntry.path("player");
+                // Fixture player statistics hold a single element
+                JsonNode stats = playerEntry.path("statistics").path(0);
+                JsonNode games = stats.path("games");
+                JsonNode goals = stats.path("goals");
+                JsonNode shots = stats.path("shots");
+                JsonNode passes = stats.path("passes");
+                JsonNode tackles = stats.path("tackles");
+                JsonNode duels = stats.path("duels");
+                JsonNode dribbles = stats.path("dribbles");
+                JsonNode fouls = stats.path("fouls");
+                JsonNode cards = stats.path("cards");
+                JsonNode penalty = stats.path("penalty");
+                rows.add(PLAYER_STATISTICS, fixtureId,
+                    intCell(team.path("id")), stringCell(team.path("name")),
+                    intCell(player.path("id")), stringCell(player.path("name")),
+                    intCell(games.path("number")), stringCell(games.path("position")),
+                    intCell(games.path("minutes")), doubleCell(games.path("rating")),
+                    booleanCell(games.path("captain")), booleanCell(games.path("substitute")),
+                    intCell(goals.path("total")), intCell(goals.path("assists")),
+                    intCell(goals.path("conceded")), intCell(goals.path("saves")),
+                    intCell(shots.path("total")), intCell(shots.path("on")),
+                    intCell(passes.path("total")), intCell(passes.path("key")), stringCell(passes.path("accuracy")),
+                    intCell(tackles.path("total")), intCell(tackles.path("blocks")),
+                    intCell(tackles.path("interceptions")),
+                    intCell(duels.path("total")), intCell(duels.path("won")),
+                    intCell(dribbles.path("attempts")), intCell(dribbles.path("success")),
+                    intCell(fouls.path("drawn")), intCell(fouls.path("committed")),
+                    intCell(cards.path("yellow")), intCell(cards.path("red")),
+                    intCell(stats.path("offsides")),
+                    intCell(penalty.path("scored")), intCell(penalty.path("missed")), intCell(penalty.path("saved")));
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Write the detail rows of one fixture.
+     */
+    void push(Rows rows) throws InterruptedException {
+        for (int table = 0; table < COUNT; table++) {
+            if (outputs[table] == null) {
+                continue;
+            }
+            for (DataCell[] cells : rows.tables.get(table)) {
+                outputs[table].push(new DefaultRow(new RowKey("Row" + rowCounts[table]++), cells));
+            }
+        }
+    }
+
+    /**
+     * Detail rows of one fixture, parsed but not yet written.
+     */
+    static final class Rows {
+        private final List<List<DataCell[]>> tables = new ArrayList<>(COUNT);
+
+        private Rows() {
+            for (int i = 0; i < COUNT; i++) {
+                tables.add(new ArrayList<>());
+            }
+        }
+
+        private void add(int table, DataCell... cells) {
+            tables.get(table).add(cells);
+        }
+    }
+
+    private static void addLineupPlayers(Rows rows, DataCell[] teamCells, JsonNode lineupPlayers,
+                                         boolean starting) {
+        for (JsonNode playerNode : elements(lineupPlayers)) {
+            JsonNode player = playerNode.path("player");
+            DataCell[] cells = new DataCell[teamCells.length + 6];
+            System.arraycopy(teamCells, 0, cells, 0, teamCells.length);
+            int col = teamCells.length;
+            cells[col++] = intCell(player.path("id"));
+            cells[col++] = stringCell(player.path("name"));
+            cells[col++] = intCell(player.path("number"));
+            cells[col++] = stringCell(player.path("pos"));
+            cells[col++] = stringCell(player.path("grid"));
+            cells[col] = BooleanCell.get(starting);
+            rows.add(LINEUPS, cells);
+        }
+    }
+
+    private static Iterable<JsonNode> elements(JsonNode array) {
+        return array != null && array.isArray() ? array : List.of();
+    }
+
+    private static DataTableSpec spec(DataColumnSpec... columns) {
+        return new DataTableSpec(columns);
+    }
+
+    private static DataColumnSpec column(String name, DataType type) {
+        return new DataColumnSpecCreator(name, type).createSpec();
+    }
+
+    private static boolean isAbsent(JsonNode value) {
+        return value.isMissingNode() || value.isNull();
+    }
+
+    private static DataCell intCell(JsonNode value) {
+        return isAbsent(value) ? DataType.getMissingCell() : new IntCell(value.asInt());
+    }
+
+    private static DataCell stringCell(JsonNode value) {
+        return isAbsent(value) ? DataType.getMissingCell() : new StringCell(value.asText());
+    }
+
+    private static DataCell booleanCell(JsonNode value) {
+        return isAbsent(value) ? DataType.getMissingCell() : BooleanCell.get(value.asBoolean());
+    }
+
+    /**
+     * Numeric value of a number, or of text such as "6.8" or "54%"; missing if there is none.
+     */
+    private static DataCell doubleCell(JsonNode value) {
+        if (isAbsent(value)) {
+            return DataType.getMissingCell();
+        }
+        if (value.isNumber()) {
+            return new DoubleCell(value.asDouble());
+        }
+        try {
+            return new DoubleCell(Double.parseDouble(value.asText().replace("%", "").trim()));
+        } catch (NumberFormatException e) {
+            return DataType.getMissingCell();
+        }
+    }
+}
@@ -46,6 +46,10 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
     private JCheckBox includeLineupsCheck;
     private JCheckBox includeStatisticsCheck;
     private JCheckBox includePlayerStatsCheck;
+    private JSpinner parallelFixturesSpinner;
+    private JCheckBox batchFixtureIdsCheck;
+    private JComboBox<String> detailFormatCombo;
+    private JComboBox<String> outputLayoutCombo;
     private JComboBox<TeamItem> team2Combo;
 
     // Multi-selection team list (replaces inherited teamCombo for main team selection)
@@ -181,6 +185,44 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
         includePanel.add(includePlayerStatsCheck);
         mainPanel.add(includePanel);
 
+        // One wide table, or the fixtures with separate detail tables
+        JPanel outputLayoutPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        outputLayoutPanel.add(new JLabel("Output Layout:"));
+        outputLayoutCombo = new JComboBox<>(new String[]{
+            FixturesNodeModel.LAYOUT_WIDE,
+            FixturesNodeModel.LAYOUT_NORMALIZED
+        });
+        outputLayoutPanel.add(outputLayoutCombo);
+        outputLayoutPanel.add(new JLabel("(Normalized: additional data in separate tables keyed by Fixture_ID)"));
+        mainPanel.add(outputLayoutPanel);
+
+        // Format of the event and lineup detail columns
+        JPanel detailFormatPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        detailFormatPanel.add(new JLabel("Detail Columns:"));
+        detailFormatCombo = new JComboBox<>(new String[]{
+            FixturesNodeModel.DETAIL_TEXT,
+            FixturesNodeModel.DETAIL_LISTS
+        });
+        detailFormatPanel.add(detailFormatCombo);
+        detailFormatPanel.add(new JLabel("(Comma-separated text or collection cells)"));
+        mainPanel.add(detailFormatPanel);
+
+        // Parallelism for optional data requests
+        JPanel parallelPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        parallelPanel.add(new JLabel("Parallel Fixtures:"));
+        parallelFixturesSpinner = new JSpinner(
+            new SpinnerNumberModel(FixturesNodeModel.DEFAULT_PARALLEL_FIXTURES, 1, 64, 1));
+        parallelPanel.add(parallelFixturesSpinner);
+        parallelPanel.add(new JLabel("(Fixtures whose additional data is fetched concurrently)"));
+        mainPanel.add(parallelPanel);
+
+        // Batched lookups when Fixture IDs come from the input port
+        JPanel batchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        batchFixtureIdsCheck = new JCheckBox("Batch input Fixture IDs (up to "
+            + FixturesNodeModel.MAX_IDS_PER_REQUEST + " per request)");
+        batchPanel.add(batchFixtureIdsCheck);
+        mainPanel.add(batchPanel);
+
         // Add help text
         JTextArea helpText = new JTextArea(
             "Query Types:\n" +
@@ -213,13 +255,9 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
         }
 
         // Update season combo (from parent logic)
-        if (allSeasons != null) {
-            seasonCombo.removeAllItems();
-            for (com.apisports.knime.port.ReferenceData.Season season : allSeasons) {
-                if (season.getLeagueId() == selectedLeague.id) {
-                    seasonCombo.addItem(season.getYear());
-                }
-            }
+        seasonCombo.removeAllItems();
+        for (com.apisports.knime.port.ReferenceData.Season season : getSeasonsForLeague(selectedLeague.id)) {
+            seasonCombo.addItem(season.getYear());
         }
 
         // Populate team list (replaces parent's teamCombo logic)
@@ -240,12 +278,8 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
 
         teamListModel.clear();
 
-        if (allTeams != null) {
-            for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                if (team.getLeagueIds().contains(selectedLeague.id)) {
-                    teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
-                }
-            }
+        for (com.apisports.knime.port.ReferenceData.Team team : getTeamsForLeague(selectedLeague.id)) {
+            teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
         }
     }
 
@@ -261,12 +295,8 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
         team2Combo.removeAllItems();
         team2Combo.addItem(new TeamItem(-1, "-- Select Team 2 --"));
 
-        if (allTeams != null) {
-            for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                if (team.getLeagueIds().contains(selectedLeague.id)) {
-                    team2Combo.addItem(new TeamItem(team.getId(), team.getName()));
-                }
-            }
+        for (com.apisports.knime.port.ReferenceData.Team team : getTeamsForLeague(selectedLeague.id)) {
+            team2Combo.addItem(new TeamItem(team.getId(), team.getName()));
         }
     }
 
@@ -324,6 +354,13 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
         boolean includeLineups = settings.getBoolean(FixturesNodeModel.CFGKEY_INCLUDE_LINEUPS, false);
         boolean includeStatistics = settings.getBoolean(FixturesNodeModel.CFGKEY_INCLUDE_STATISTICS, false);
         boolean includePlayerStats = settings.getBoolean(FixturesNodeModel.CFGKEY_INCLUDE_PLAYER_STATS, false);
+        int parallelFixtures = settings.getInt(FixturesNodeModel.CFGKEY_PARALLEL_FIXTURES,
+                                               FixturesNodeModel.DEFAULT_PARALLEL_FIXTURES);
+        boolean batchFixtureIds = settings.getBoolean(FixturesNodeModel.CFGKEY_BATCH_FIXTURE_IDS, true);
+        String detailFormat = settings.getString(FixturesNodeModel.CFGKEY_DETAIL_FORMAT,
+                                                 FixturesNodeModel.DETAIL_TEXT);
+        String outputLayout = settings.getString(FixturesNodeModel.CFGKEY_OUTPUT_LAYOUT,
+                                                 FixturesNodeModel.LAYOUT_WIDE);
 
         // Load team IDs (multi-selection support)
         int[] teamIds = settings.getIntArray(FixturesNodeModel.CFGKEY_TEAM_IDS, new int[]{});
@@ -344,6 +381,10 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
         includeLineupsCheck.setSelected(includeLineups);
         includeStatisticsCheck.setSelected(includeStatistics);
         includePlayerStatsCheck.setSelected(includePlayerStats);
+        parallelFixturesSpinner.setValue(Math.max(1, Math.min(64, parallelFixtures)));
+        batchFixtureIdsCheck.setSelected(batchFixtureIds);
+        detailFormatCombo.setSelectedItem(detailFormat);
+        outputLayoutCombo.setSelectedItem(outputLayout);
 
         // Populate and select teams in list
         populateTeamList();
@@ -492,5 +533,9 @@ public class FixturesNodeDialog extends AbstractFootballQueryNodeDialog {
         settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_LINEUPS, includeLineupsCheck.isSelected());
         settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_STATISTICS, includeStatisticsCheck.isSelected());
         settings.addBoolean(FixturesNodeModel.CFGKEY_INCLUDE_PLAYER_STATS, includePlayerStatsCheck.isSelected());
+        settings.addInt(FixturesNodeModel.CFGKEY_PARALLEL_FIXTURES, (Integer) parallelFixturesSpinner.getValue());
+        settings.addBoolean(FixturesNodeModel.CFGKEY_BATCH_FIXTURE_IDS, batchFixtureIdsCheck.isSelected());
+        settings.addString(FixturesNodeModel.CFGKEY_DETAIL_FORMAT, (String) detailFormatCombo.getSelectedItem());
+        settings.addString(FixturesNodeModel.CFGKEY_OUTPUT_LAYOUT, (String) outputLayoutCombo.getSelectedItem());
     }
 }
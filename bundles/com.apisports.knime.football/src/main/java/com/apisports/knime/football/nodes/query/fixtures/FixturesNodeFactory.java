@@ -16,18 +16,54 @@
 
 package com.apisports.knime.football.nodes.query.fixtures;
 
+import com.apisports.knime.port.ApiSportsConnectionPortObject;
+import com.apisports.knime.port.ReferenceDataPortObject;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ConfigurableNodeFactory;
 import org.knime.core.node.NodeDialogPane;
-import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeView;
+import org.knime.core.node.context.NodeCreationConfiguration;
+import org.knime.core.node.context.ports.PortsConfigurationBuilder;
+
+import java.util.Optional;
 
 /**
  * Factory for Fixtures query node.
+ *
+ * The detail tables of the normalized output layout are optional output ports, which the user
+ * adds to the node as needed.
  */
-public class FixturesNodeFactory extends NodeFactory<FixturesNodeModel> {
+public class FixturesNodeFactory extends ConfigurableNodeFactory<FixturesNodeModel> {
+
+    static final String CONNECTION_PORT_GROUP = "API Connection";
+    static final String REFERENCE_DATA_PORT_GROUP = "Reference Data";
+    static final String FIXTURE_IDS_PORT_GROUP = "Fixture IDs";
+    static final String FIXTURES_PORT_GROUP = "Fixtures";
+
+    @Override
+    protected Optional<PortsConfigurationBuilder> createPortsConfigBuilder() {
+        return Optional.of(createPortsConfigurationBuilder());
+    }
+
+    /**
+     * Create the builder of the node's port groups: connection, reference data and the optional
+     * fixture IDs table in, fixtures and the optional detail tables out.
+     */
+    static PortsConfigurationBuilder createPortsConfigurationBuilder() {
+        PortsConfigurationBuilder builder = new PortsConfigurationBuilder();
+        builder.addFixedInputPortGroup(CONNECTION_PORT_GROUP, ApiSportsConnectionPortObject.TYPE);
+        builder.addFixedInputPortGroup(REFERENCE_DATA_PORT_GROUP, ReferenceDataPortObject.TYPE);
+        builder.addFixedInputPortGroup(FIXTURE_IDS_PORT_GROUP, BufferedDataTable.TYPE_OPTIONAL);
+        builder.addFixedOutputPortGroup(FIXTURES_PORT_GROUP, BufferedDataTable.TYPE);
+        for (String group : FixtureDetailTables.PORT_GROUPS) {
+            builder.addOptionalOutputPortGroup(group, BufferedDataTable.TYPE);
+        }
+        return builder;
+    }
 
     @Override
-    public FixturesNodeModel createNodeModel() {
-        return new FixturesNodeModel();
+    protected FixturesNodeModel createNodeModel(final NodeCreationConfiguration creationConfig) {
+        return new FixturesNodeModel(creationConfig.getPortConfig().orElseThrow(IllegalStateException::new));
     }
 
     @Override
@@ -47,7 +83,7 @@ public class FixturesNodeFactory extends NodeFactory<FixturesNodeModel> {
     }
 
     @Override
-    protected NodeDialogPane createNodeDialogPane() {
+    protected NodeDialogPane createNodeDialogPane(final NodeCreationConfiguration creationConfig) {
         return new FixturesNodeDialog();
     }
 }
@@ -18,41 +18,49 @@ package com.apisports.knime.football.nodes.query.fixtures;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
 import com.apisports.knime.football.nodes.query.AbstractFootballQueryNodeModel;
-import com.apisports.knime.port.ApiSportsConnectionPortObject;
-import com.apisports.knime.port.ReferenceDataPortObject;
+import com.apisports.knime.football.nodes.query.IdColumnReader;
+import com.apisports.knime.football.nodes.query.OrderedFetchWindow;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.ListCell;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.BooleanCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.DataType;
-import org.knime.core.node.BufferedDataContainer;
-import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.context.ports.PortsConfiguration;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
-import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.node.workflow.FlowVariable;
 
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +84,29 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
     static final String CFGKEY_INCLUDE_LINEUPS = "includeLineups";
     static final String CFGKEY_INCLUDE_STATISTICS = "includeStatistics";
     static final String CFGKEY_INCLUDE_PLAYER_STATS = "includePlayerStats";
+    static final String CFGKEY_PARALLEL_FIXTURES = "parallelFixtures";
+    static final String CFGKEY_BATCH_FIXTURE_IDS = "batchFixtureIds";
+    static final String CFGKEY_DETAIL_FORMAT = "detailFormat";
+
+    // Detail format options for the event and lineup columns
+    static final String DETAIL_TEXT = "Text";
+    static final String DETAIL_LISTS = "Lists";
+    static final String CFGKEY_OUTPUT_LAYOUT = "outputLayout";
+
+    // Output layout options
+    static final String LAYOUT_WIDE = "Wide";
+    static final String LAYOUT_NORMALIZED = "Normalized";
+
+    /** Default number of fixtures whose optional data is fetched concurrently. */
+    static final int DEFAULT_PARALLEL_FIXTURES = 4;
+
+    /** Maximum number of fixture IDs accepted by one /fixtures?ids= request. */
+    static final int MAX_IDS_PER_REQUEST = 20;
+
+    /** Short status codes matched by the "LIVE" status filter. */
+    private static final Set<String> LIVE_STATUSES = Set.of("1H", "HT", "2H", "ET", "BT", "P", "SUSP", "INT", "LIVE");
+
+    private static final ThreadLocal<DetailBuffers> DETAIL_BUFFERS = ThreadLocal.withInitial(DetailBuffers::new);
 
     // DateRangePanel settings keys
     static final String CFGKEY_DATE_MODE = "dateMode";
@@ -123,6 +154,14 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         new SettingsModelBoolean(CFGKEY_INCLUDE_STATISTICS, false);
     protected final SettingsModelBoolean m_includePlayerStats =
         new SettingsModelBoolean(CFGKEY_INCLUDE_PLAYER_STATS, false);
+    protected final SettingsModelInteger m_parallelFixtures =
+        new SettingsModelInteger(CFGKEY_PARALLEL_FIXTURES, DEFAULT_PARALLEL_FIXTURES);
+    protected final SettingsModelBoolean m_batchFixtureIds =
+        new SettingsModelBoolean(CFGKEY_BATCH_FIXTURE_IDS, true);
+    protected final SettingsModelString m_detailFormat =
+        new SettingsModelString(CFGKEY_DETAIL_FORMAT, DETAIL_TEXT);
+    protected final SettingsModelString m_outputLayout =
+        new SettingsModelString(CFGKEY_OUTPUT_LAYOUT, LAYOUT_WIDE);
 
     // DateRangePanel settings models
     protected final SettingsModelString m_dateMode =
@@ -143,24 +182,29 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
     // Multi-selection team IDs (stored separately from SettingsModel pattern)
     private int[] m_teamIds = new int[]{};
 
+    // Detail tables of the current execution in the normalized layout, null in the wide layout
+    private FixtureDetailTables m_detailTables;
+
+    // Output port of each detail table, indexed by FixtureDetailTables.EVENTS etc., -1 if not added
+    private final int[] m_detailPorts = new int[FixtureDetailTables.COUNT];
+
     /**
-     * Constructor with optional third input port for Fixture IDs.
+     * Constructor with the ports of the node's configuration: an optional third input port for
+     * Fixture IDs, and the detail table output ports of the normalized layout the user added.
      */
-    public FixturesNodeModel() {
-        super(
-            new PortType[]{
-                ApiSportsConnectionPortObject.TYPE,
-                ReferenceDataPortObject.TYPE,
-                BufferedDataTable.TYPE_OPTIONAL  // Optional fixture IDs input
-            },
-            new PortType[]{
-                BufferedDataTable.TYPE
-            }
-        );
+    public FixturesNodeModel(final PortsConfiguration portsConfig) {
+        super(portsConfig.getInputPorts(), portsConfig.getOutputPorts());
+        Map<String, int[]> locations = portsConfig.getOutputPortLocation();
+        for (int table = 0; table < FixtureDetailTables.COUNT; table++) {
+            int[] ports = locations.get(FixtureDetailTables.PORT_GROUPS[table]);
+            m_detailPorts[table] = ports != null && ports.length > 0 ? ports[0] : -1;
+        }
     }
 
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        validateDetailPorts();
+
         // Check if optional Fixture IDs input port is connected
         if (inSpecs.length > 2 && inSpecs[2] != null) {
             // Optional port IS connected - will use input fixture IDs at execution
@@ -179,103 +223,54 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
                 getLogger().info("CONFIGURE: Found Fixture_ID column in input at index " + fixtureIdCol);
             }
 
-            // Return output spec (dynamic based on include settings)
-            return new PortObjectSpec[]{getOutputSpec()};
+            // Return output specs (dynamic based on include settings)
+            return getOutputSpecs();
         } else {
             // Optional port NOT connected - validate dialog settings
             getLogger().info("CONFIGURE: No input port connected, validating dialog settings");
             setWarningMessage(null); // Clear any previous warning
             validateExecutionSettings();
-            return new PortObjectSpec[]{getOutputSpec()};
+            return getOutputSpecs();
         }
     }
 
     @Override
-    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
-        // DIAGNOSTIC: Show exactly what we received
-        StringBuilder diagnostic = new StringBuilder("EXECUTE: Got " + inObjects.length + " ports: ");
-        for (int i = 0; i < inObjects.length; i++) {
-            diagnostic.append("[").append(i).append("]=");
-            if (inObjects[i] == null) {
-                diagnostic.append("NULL ");
-            } else {
-                diagnostic.append(inObjects[i].getClass().getSimpleName()).append(" ");
-            }
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper, RowInput input,
+                                RowOutput output, ExecutionContext exec) throws Exception {
+        // Find Fixture_ID column
+        int fixtureIdColIndex = input.getDataTableSpec().findColumnIndex("Fixture_ID");
+        if (fixtureIdColIndex < 0) {
+            throw new InvalidSettingsException(
+                "Input table must contain a 'Fixture_ID' column");
         }
-        setWarningMessage(diagnostic.toString());
-
-        // Get API client from connection port
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
-        ApiSportsHttpClient client = connectionPort.getClient();
-
-        // Get reference data from port
-        ReferenceDataPortObject refDataPort = (ReferenceDataPortObject) inObjects[1];
-        m_dbPath = refDataPort.getDbPath();
-
-        // Load reference data from database
-        loadReferenceData();
-
-        // Check if optional fixture IDs port is connected
-        BufferedDataTable fixtureIdsTable = null;
 
-        setWarningMessage("Checking for port 2... length=" + inObjects.length);
-
-        if (inObjects.length >= 3) {
-            setWarningMessage("Array has 3+ elements, checking port[2]...");
-            if (inObjects[2] != null) {
-                setWarningMessage("Port[2] is NOT NULL! Type: " + inObjects[2].getClass().getName());
-                if (inObjects[2] instanceof BufferedDataTable) {
-                    fixtureIdsTable = (BufferedDataTable) inObjects[2];
-                    setWarningMessage("GOT INPUT TABLE WITH " + fixtureIdsTable.size() + " ROWS!");
-                } else {
-                    setWarningMessage("Port[2] is not BufferedDataTable: " + inObjects[2].getClass().getName());
-                }
-            } else {
-                setWarningMessage("Port[2] exists but is NULL");
-            }
+        // Batched mode uses /fixtures?ids= (up to 20 IDs per call, sub-documents embedded);
+        // otherwise query each fixture individually and combine results
+        IdColumnReader fixtureIds = new IdColumnReader(input, fixtureIdColIndex, false);
+        if (m_batchFixtureIds.getBooleanValue()) {
+            queryFixturesByIdsBatched(fixtureIds, client, mapper, output, exec);
         } else {
-            setWarningMessage("Array only has " + inObjects.length + " elements, no port[2]");
+            queryFixturesByIds(fixtureIds, client, mapper, output, exec);
         }
-
-        // If fixture IDs provided via input port, override query type to use those IDs
-        if (fixtureIdsTable != null) {
-            // Extract Fixture_ID column from input table
-            List<Integer> fixtureIds = extractFixtureIds(fixtureIdsTable);
-            if (fixtureIds.isEmpty()) {
-                throw new InvalidSettingsException(
-                    "Input table is connected but contains no Fixture_ID values");
-            }
-
-            setWarningMessage("Querying details for " + fixtureIds.size() + " fixtures from input...");
-            getLogger().info("Querying details for " + fixtureIds.size() + " fixtures from input port");
-
-            // Query each fixture individually and combine results
-            // API doesn't accept comma-separated IDs, need to call once per ID
-            BufferedDataTable result = queryFixturesByIds(fixtureIds, client, new ObjectMapper(), exec);
-
-            setWarningMessage(null); // Clear warning after success
-            return new PortObject[]{result};
-        } else {
-            // No fixture IDs input - validate settings and use dialog configuration
-            validateExecutionSettings();
-            BufferedDataTable result = executeQuery(client, new ObjectMapper(), exec);
-            return new PortObject[]{result};
+        if (fixtureIds.getIdCount() == 0) {
+            throw new InvalidSettingsException(
+                "Input table is connected but contains no Fixture_ID values");
         }
     }
 
     /**
      * Query multiple fixtures by ID (one API call per fixture) and combine results.
+     * Up to {@code parallelFixtures} fixtures are fetched concurrently, together with their
+     * optional sub-requests; rows are written in the order of the input IDs. IDs are read from
+     * the input as the window has room for them, so streamed rows are fetched as they arrive.
      */
-    private BufferedDataTable queryFixturesByIds(List<Integer> fixtureIds,
-                                                   ApiSportsHttpClient client,
-                                                   ObjectMapper mapper,
-                                                   ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
-
+    private void queryFixturesByIds(IdColumnReader fixtureIds,
+                                    ApiSportsHttpClient client,
+                                    ObjectMapper mapper,
+                                    RowOutput output,
+                                    ExecutionContext exec) throws Exception {
         int rowNum = 0;
         int fixtureCount = 0;
-        int totalFixtures = fixtureIds.size();
         int fixturesSkipped = 0;
         int fixturesWithErrors = 0;
         int eventsErrors = 0;
@@ -283,141 +278,72 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         int lineupsErrors = 0;
         int playersErrors = 0;
 
-        // Temporarily override settings for ID-based queries
-        String originalQueryType = m_queryType.getStringValue();
-        String originalFixtureId = m_fixtureId.getStringValue();
-        m_queryType.setStringValue(QUERY_BY_ID);
-
-        try {
-            for (Integer fixtureId : fixtureIds) {
-                exec.checkCanceled();
-                exec.setProgress((double) fixtureCount / totalFixtures,
-                    "Processing fixture " + (fixtureCount + 1) + " of " + totalFixtures);
-
-                // Set this single fixture ID
-                m_fixtureId.setStringValue(String.valueOf(fixtureId));
+        // IDs of the fixtures requested but not yet written, in input order
+        Deque<Integer> pendingIds = new ArrayDeque<>();
 
+        try (OrderedFetchWindow<List<EnrichedFixture>> window = new OrderedFetchWindow<>(
+                m_parallelFixtures.getIntValue(), () -> {
+                    Integer nextId = fixtureIds.next();
+                    if (nextId == null) {
+                        return null;
+                    }
+                    pendingIds.add(nextId);
+                    return callApiAsync(client, "/fixtures", buildFixtureIdParams(nextId), mapper)
+                        .thenCompose(response -> fetchEnrichedFixturesAsync(client, response, mapper));
+                })) {
+            while (window.hasNext()) {
+                Integer fixtureId = pendingIds.poll();
                 try {
-                    // Query this single fixture
-                    Map<String, String> params = buildQueryParams();
-                    String endpoint = getEndpoint();
-                    JsonNode response = callApi(client, endpoint, params, mapper);
-
-                    // Parse the response (should have one fixture)
-                    if (response != null && response.isArray() && response.size() > 0) {
-                        for (JsonNode fixtureItem : response) {
-                            // Initialize optional data nodes
-                            JsonNode events = null;
-                            JsonNode statistics = null;
-                            JsonNode lineups = null;
-                            JsonNode players = null;
-                            boolean hasError = false;
-
-                            // Extract team IDs for additional queries
-                            JsonNode teams = fixtureItem.get("teams");
-                            int homeTeamId = teams != null && teams.has("home") && teams.get("home").has("id")
-                                ? teams.get("home").get("id").asInt() : 0;
-                            int awayTeamId = teams != null && teams.has("away") && teams.get("away").has("id")
-                                ? teams.get("away").get("id").asInt() : 0;
-
-                            // Fetch additional data if requested - wrap each in try-catch to continue on errors
-                            if (m_includeEvents.getBooleanValue()) {
-                                try {
-                                    events = callApi(client, "/fixtures/events",
-                                                   Map.of("fixture", String.valueOf(fixtureId)), mapper);
-                                } catch (Exception e) {
-                                    getLogger().warn("Failed to fetch events for fixture " + fixtureId + ": " + e.getMessage());
-                                    eventsErrors++;
-                                    hasError = true;
-                                }
-                            }
-
-                            if (m_includeStatistics.getBooleanValue() && homeTeamId > 0 && awayTeamId > 0) {
-                                try {
-                                    JsonNode homeStats = callApi(client, "/fixtures/statistics",
-                                                       Map.of("fixture", String.valueOf(fixtureId),
-                                                             "team", String.valueOf(homeTeamId)), mapper);
-                                    JsonNode awayStats = callApi(client, "/fixtures/statistics",
-                                                       Map.of("fixture", String.valueOf(fixtureId),
-                                                             "team", String.valueOf(awayTeamId)), mapper);
-
-                                    statistics = mapper.createArrayNode();
-                                    if (homeStats != null && homeStats.isArray() && homeStats.size() > 0) {
-                                        ((com.fasterxml.jackson.databind.node.ArrayNode)statistics).add(homeStats.get(0));
-                                    }
-                                    if (awayStats != null && awayStats.isArray() && awayStats.size() > 0) {
-                                        ((com.fasterxml.jackson.databind.node.ArrayNode)statistics).add(awayStats.get(0));
-                                    }
-                                } catch (Exception e) {
-                                    getLogger().warn("Failed to fetch statistics for fixture " + fixtureId + ": " + e.getMessage());
-                                    statisticsErrors++;
-                                    hasError = true;
-                                }
-                            }
-
-                            if (m_includeLineups.getBooleanValue()) {
-                                try {
-                                    lineups = callApi(client, "/fixtures/lineups",
-                                                    Map.of("fixture", String.valueOf(fixtureId)), mapper);
-                                } catch (Exception e) {
-                                    getLogger().warn("Failed to fetch lineups for fixture " + fixtureId + ": " + e.getMessage());
-                                    lineupsErrors++;
-                                    hasError = true;
-                                }
-                            }
-
-                            if (m_includePlayerStats.getBooleanValue() && homeTeamId > 0 && awayTeamId > 0) {
-                                try {
-                                    JsonNode homePlayers = callApi(client, "/fixtures/players",
-                                                    Map.of("fixture", String.valueOf(fixtureId),
-                                                          "team", String.valueOf(homeTeamId)), mapper);
-                                    JsonNode awayPlayers = callApi(client, "/fixtures/players",
-                                                    Map.of("fixture", String.valueOf(fixtureId),
-                                                          "team", String.valueOf(awayTeamId)), mapper);
-
-                                    players = mapper.createArrayNode();
-                                    if (homePlayers != null && homePlayers.isArray() && homePlayers.size() > 0) {
-                                        ((com.fasterxml.jackson.databind.node.ArrayNode)players).add(homePlayers.get(0));
-                                    }
-                                    if (awayPlayers != null && awayPlayers.isArray() && awayPlayers.size() > 0) {
-                                        ((com.fasterxml.jackson.databind.node.ArrayNode)players).add(awayPlayers.get(0));
-                                    }
-                                } catch (Exception e) {
-                                    getLogger().warn("Failed to fetch player stats for fixture " + fixtureId + ": " + e.getMessage());
-                                    playersErrors++;
-                                    hasError = true;
-                                }
-                            }
-
-                            // Track fixtures that had any errors with optional data
-                            if (hasError) {
-                                fixturesWithErrors++;
-                            }
+                    for (EnrichedFixture enriched : window.next(exec)) {
+                        FixtureEnrichment enrichment = enriched.enrichment;
+
+                        // Failed optional data is left null - the row is still written
+                        if (enrichment.eventsError != null) {
+                            getLogger().warn("Failed to fetch events for fixture " + fixtureId + ": "
+                                + enrichment.eventsError.getMessage());
+                            eventsErrors++;
+                        }
+                        if (enrichment.statisticsError != null) {
+                            getLogger().warn("Failed to fetch statistics for fixture " + fixtureId + ": "
+                                + enrichment.statisticsError.getMessage());
+                            statisticsErrors++;
+                        }
+                        if (enrichment.lineupsError != null) {
+                            getLogger().warn("Failed to fetch lineups for fixture " + fixtureId + ": "
+                                + enrichment.lineupsError.getMessage());
+                            lineupsErrors++;
+                        }
+                        if (enrichment.playersError != null) {
+                            getLogger().warn("Failed to fetch player stats for fixture " + fixtureId + ": "
+                                + enrichment.playersError.getMessage());
+                            playersErrors++;
+                        }
 
-                            // Parse the row with all data (null for any that failed)
-                            DataRow row = parseFixtureRow(fixtureItem, events, statistics, lineups, players, rowNum);
-                            container.addRowToTable(row);
-                            rowNum++;
+                        // Track fixtures that had any errors with optional data
+                        if (enrichment.hasError()) {
+                            fixturesWithErrors++;
                         }
+
+                        // Parse the row with all data (null for any that failed)
+                        ParsedFixture fixture = parseFixture(enriched.fixtureItem, enrichment.events,
+                            enrichment.statistics, enrichment.lineups, enrichment.players, rowNum);
+                        pushFixture(output, fixture);
+                        rowNum++;
                     }
-                } catch (Exception e) {
-                    getLogger().warn("Failed to get details for fixture " + fixtureId + ": " + e.getMessage());
+                } catch (ExecutionException e) {
+                    getLogger().warn("Failed to get details for fixture " + fixtureId + ": "
+                        + e.getCause().getMessage());
                     fixturesSkipped++;
                 }
 
                 fixtureCount++;
+                fixtureIds.reportProgress(exec, "Processed fixture " + fixtureCount);
             }
-        } finally {
-            // Restore original settings
-            m_queryType.setStringValue(originalQueryType);
-            m_fixtureId.setStringValue(originalFixtureId);
         }
 
-        container.close();
-
         // Log summary with error information
         StringBuilder summary = new StringBuilder();
-        summary.append("Retrieved detailed data for ").append(rowNum).append(" of ").append(totalFixtures).append(" fixtures");
+        summary.append("Retrieved detailed data for ").append(rowNum).append(" of ").append(fixtureCount).append(" fixtures");
         if (fixturesSkipped > 0) {
             summary.append(" (").append(fixturesSkipped).append(" skipped due to errors)");
         }
@@ -444,32 +370,188 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
             warning.append("Check console for details.");
             setWarningMessage(warning.toString());
         }
+    }
 
-        return container.getTable();
+    /**
+     * Build the query parameters for a single fixture ID, by temporarily overriding the
+     * query settings.
+     */
+    private Map<String, String> buildFixtureIdParams(int fixtureId) throws InvalidSettingsException {
+        String originalQueryType = m_queryType.getStringValue();
+        String originalFixtureId = m_fixtureId.getStringValue();
+        m_queryType.setStringValue(QUERY_BY_ID);
+        m_fixtureId.setStringValue(String.valueOf(fixtureId));
+        try {
+            return buildQueryParams();
+        } finally {
+            // Restore original settings
+            m_queryType.setStringValue(originalQueryType);
+            m_fixtureId.setStringValue(originalFixtureId);
+        }
     }
 
     /**
-     * Extract Fixture_ID column from input table.
+     * Query fixtures by ID using the multi-ID form {@code /fixtures?ids=id-id-...} with up to
+     * {@link #MAX_IDS_PER_REQUEST} IDs per call. The multi-ID response already embeds events,
+     * lineups, statistics and players, so no enrichment calls are made. Rows are written in the
+     * order of the input IDs.
      */
-    private List<Integer> extractFixtureIds(BufferedDataTable table) throws InvalidSettingsException {
-        DataTableSpec spec = table.getDataTableSpec();
+    private void queryFixturesByIdsBatched(IdColumnReader fixtureIds,
+                                           ApiSportsHttpClient client,
+                                           ObjectMapper mapper,
+                                           RowOutput output,
+                                           ExecutionContext exec) throws Exception {
+        // The status filter is not accepted together with 'ids', so it is applied to the results
+        String status = m_status.getStringValue();
 
-        // Find Fixture_ID column
-        int fixtureIdColIndex = spec.findColumnIndex("Fixture_ID");
-        if (fixtureIdColIndex < 0) {
-            throw new InvalidSettingsException(
-                "Input table must contain a 'Fixture_ID' column");
+        int rowNum = 0;
+        int batchCount = 0;
+        int fixturesSkipped = 0;
+        int fixturesFiltered = 0;
+
+        // Batches requested but not yet written, in input order
+        Deque<List<Integer>> pendingBatches = new ArrayDeque<>();
+
+        try (OrderedFetchWindow<JsonNode> window = new OrderedFetchWindow<>(
+                m_parallelFixtures.getIntValue(), () -> {
+                    List<Integer> nextBatch = fixtureIds.next(MAX_IDS_PER_REQUEST);
+                    if (nextBatch.isEmpty()) {
+                        return null;
+                    }
+                    pendingBatches.add(nextBatch);
+                    return callApiAsync(client, "/fixtures", Map.of("ids", joinIds(nextBatch)), mapper);
+                })) {
+            while (window.hasNext()) {
+                List<Integer> batch = pendingBatches.poll();
+                try {
+                    JsonNode response = window.next(exec);
+
+                    // The API does not guarantee response order - index items by fixture ID
+                    Map<Integer, JsonNode> itemsById = new HashMap<>();
+                    if (response != null && response.isArray()) {
+                        for (JsonNode fixtureItem : response) {
+                            JsonNode fixture = fixtureItem.get("fixture");
+                            if (fixture != null && fixture.has("id")) {
+                                itemsById.put(fixture.get("id").asInt(), fixtureItem);
+                            }
+                        }
+                    }
+
+                    for (Integer fixtureId : batch) {
+                        JsonNode fixtureItem = itemsById.get(fixtureId);
+                        if (fixtureItem == null) {
+                            getLogger().warn("Fixture " + fixtureId + " was not returned by the API");
+                            fixturesSkipped++;
+                            continue;
+                        }
+                        if (!status.isEmpty() && !matchesStatus(fixtureItem, status)) {
+                            fixturesFiltered++;
+                            continue;
+                        }
+
+                        try {
+                            pushFixture(output, parseEmbeddedFixture(fixtureItem, mapper, rowNum));
+                            rowNum++;
+                        } catch (RuntimeException e) {
+                            getLogger().warn("Failed to parse fixture " + fixtureId + ": " + e.getMessage());
+                            fixturesSkipped++;
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    getLogger().warn("Failed to get details for fixtures " + joinIds(batch) + ": "
+                        + e.getCause().getMessage());
+                    fixturesSkipped += batch.size();
+                }
+
+                batchCount++;
+                fixtureIds.reportProgress(exec, "Processed batch " + batchCount);
+            }
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append("Retrieved detailed data for ").append(rowNum).append(" of ").append(fixtureIds.getIdCount())
+               .append(" fixtures in ").append(batchCount).append(" request(s)");
+        if (fixturesFiltered > 0) {
+            summary.append(" (").append(fixturesFiltered).append(" filtered by status)");
+        }
+        if (fixturesSkipped > 0) {
+            summary.append(" (").append(fixturesSkipped).append(" skipped due to errors)");
         }
+        getLogger().info(summary.toString());
 
-        List<Integer> fixtureIds = new ArrayList<>();
-        for (DataRow row : table) {
-            DataCell cell = row.getCell(fixtureIdColIndex);
-            if (!cell.isMissing() && cell instanceof IntCell) {
-                fixtureIds.add(((IntCell) cell).getIntValue());
+        if (fixturesSkipped > 0) {
+            setWarningMessage(fixturesSkipped + " fixture(s) skipped. Check console for details.");
+        }
+    }
+
+    /**
+     * Build a row from a multi-ID fixtures item, using its embedded sub-documents for the
+     * enabled optional data.
+     */
+    private ParsedFixture parseEmbeddedFixture(JsonNode fixtureItem, ObjectMapper mapper, int rowNum) {
+        JsonNode teams = fixtureItem.get("teams");
+        int homeTeamId = teams != null && teams.has("home") && teams.get("home").has("id")
+            ? teams.get("home").get("id").asInt() : 0;
+
+        JsonNode events = m_includeEvents.getBooleanValue() ? fixtureItem.get("events") : null;
+        JsonNode statistics = m_includeStatistics.getBooleanValue()
+            ? homeTeamFirst(fixtureItem.get("statistics"), homeTeamId, mapper) : null;
+        JsonNode lineups = m_includeLineups.getBooleanValue()
+            ? homeTeamFirst(fixtureItem.get("lineups"), homeTeamId, mapper) : null;
+        JsonNode players = m_includePlayerStats.getBooleanValue()
+            ? homeTeamFirst(fixtureItem.get("players"), homeTeamId, mapper) : null;
+
+        return parseFixture(fixtureItem, events, statistics, lineups, players, rowNum);
+    }
+
+    /**
+     * Reorder a per-team array (elements carrying a "team" object) so that the home team comes
+     * first, as expected by the statistics, lineups and player stats parsers.
+     */
+    private static JsonNode homeTeamFirst(JsonNode perTeam, int homeTeamId, ObjectMapper mapper) {
+        if (perTeam == null || !perTeam.isArray() || perTeam.size() < 2 || homeTeamId <= 0) {
+            return perTeam;
+        }
+
+        ArrayNode ordered = mapper.createArrayNode();
+        for (JsonNode teamEntry : perTeam) {
+            JsonNode team = teamEntry.get("team");
+            if (team != null && team.has("id") && team.get("id").asInt() == homeTeamId) {
+                ordered.add(teamEntry);
             }
         }
+        for (JsonNode teamEntry : perTeam) {
+            JsonNode team = teamEntry.get("team");
+            if (team == null || !team.has("id") || team.get("id").asInt() != homeTeamId) {
+                ordered.add(teamEntry);
+            }
+        }
+        return ordered;
+    }
 
-        return fixtureIds;
+    /**
+     * Check a fixture item against the status filter, which may list several statuses
+     * separated by dashes as the API accepts them (e.g. "FT-AET-PEN"); the fixture matches
+     * if it has any of them. "LIVE" matches any in-play status.
+     */
+    private static boolean matchesStatus(JsonNode fixtureItem, String status) {
+        JsonNode fixture = fixtureItem.get("fixture");
+        JsonNode statusNode = fixture != null ? fixture.get("status") : null;
+        String shortStatus = statusNode != null && statusNode.has("short") ? statusNode.get("short").asText() : "";
+        for (String wanted : status.split("-")) {
+            wanted = wanted.trim();
+            if ("LIVE".equals(wanted) ? LIVE_STATUSES.contains(shortStatus) : wanted.equals(shortStatus)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Join fixture IDs in the dash-separated form expected by the 'ids' parameter.
+     */
+    private static String joinIds(List<Integer> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining("-"));
     }
 
     @Override
@@ -683,8 +765,8 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         // Build query parameters based on query type
@@ -709,14 +791,18 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
 
         // Make API call
         exec.setMessage("Querying fixtures from API...");
-        JsonNode response = callApi(client, endpoint, params, mapper);
+        int fixtureCount;
+        if (needsEnrichment()) {
+            JsonNode response = callApi(client, endpoint, params, mapper);
 
-        // Parse response and create output table
-        exec.setMessage("Parsing results...");
-        BufferedDataTable result = parseFixturesResponse(response, client, mapper, exec);
+            // Parse response and write output rows
+            exec.setMessage("Parsing results...");
+            fixtureCount = parseFixturesResponse(response, client, mapper, output, exec);
+        } else {
+            fixtureCount = streamFixturesResponse(client, endpoint, params, mapper, output, exec);
+        }
 
-        getLogger().info("Retrieved " + result.size() + " fixtures");
-        return result;
+        getLogger().info("Retrieved " + fixtureCount + " fixtures");
     }
 
     /**
@@ -812,117 +898,264 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     /**
-     * Parse fixtures API response and create output table.
+     * Check whether any optional data is enabled that needs extra API calls per fixture.
      */
-    private BufferedDataTable parseFixturesResponse(JsonNode response, ApiSportsHttpClient client,
-                                                     ObjectMapper mapper, ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private boolean needsEnrichment() {
+        return m_includeEvents.getBooleanValue() || m_includeStatistics.getBooleanValue()
+            || m_includeLineups.getBooleanValue() || m_includePlayerStats.getBooleanValue();
+    }
+
+    /**
+     * Query fixtures and write one row per fixture as it is parsed from the response.
+     * Only used without optional data, where rows need nothing but the fixture item itself.
+     *
+     * @return Number of rows written
+     */
+    private int streamFixturesResponse(ApiSportsHttpClient client, String endpoint,
+                                       Map<String, String> params, ObjectMapper mapper,
+                                       RowOutput output, ExecutionContext exec) throws Exception {
+        int[] rowNum = {0};
+
+        streamApi(client, endpoint, params, mapper, fixtureItem -> {
+            exec.checkCanceled();
+            try {
+                output.push(parseFixtureRow(fixtureItem, null, null, null, null, rowNum[0]));
+                rowNum[0]++;
+            } catch (RuntimeException e) {
+                getLogger().warn("Failed to parse fixture row " + rowNum[0] + ": " + e.getMessage());
+            }
+            exec.setMessage("Parsed " + rowNum[0] + " fixtures");
+        });
 
+        return rowNum[0];
+    }
+
+    /**
+     * Parse fixtures API response and write one row per fixture.
+     * Optional data is fetched for up to {@code parallelFixtures} fixtures concurrently;
+     * rows keep the order of the API response.
+     *
+     * @return Number of rows written
+     */
+    private int parseFixturesResponse(JsonNode response, ApiSportsHttpClient client, ObjectMapper mapper,
+                                      RowOutput output, ExecutionContext exec) throws Exception {
+        int rowNum = 0;
         if (response != null && response.isArray()) {
-            int rowNum = 0;
+            int fixtureCount = 0;
             int totalFixtures = response.size();
 
-            for (JsonNode fixtureItem : response) {
-                try {
-                    // Extract fixture ID and team IDs for additional API calls
-                    JsonNode fixture = fixtureItem.get("fixture");
-                    JsonNode teams = fixtureItem.get("teams");
-                    int fixtureId = fixture != null && fixture.has("id") ? fixture.get("id").asInt() : 0;
-
-                    // Extract team IDs
-                    int homeTeamId = 0, awayTeamId = 0;
-                    if (teams != null) {
-                        JsonNode home = teams.get("home");
-                        JsonNode away = teams.get("away");
-                        if (home != null && home.has("id")) homeTeamId = home.get("id").asInt();
-                        if (away != null && away.has("id")) awayTeamId = away.get("id").asInt();
+            try (OrderedFetchWindow<FixtureEnrichment> window = new OrderedFetchWindow<>(
+                    totalFixtures, m_parallelFixtures.getIntValue(),
+                    i -> fetchEnrichmentAsync(client, response.get(i), mapper))) {
+                while (window.hasNext()) {
+                    JsonNode fixtureItem = response.get(fixtureCount);
+                    FixtureEnrichment enrichment = window.next(exec);
+                    fixtureCount++;
+                    exec.setProgress((double) fixtureCount / totalFixtures,
+                        "Processed fixture " + fixtureCount + " of " + totalFixtures);
+
+                    ParsedFixture fixture;
+                    try {
+                        if (enrichment.hasError()) {
+                            throw enrichment.firstError();
+                        }
+                        fixture = parseFixture(fixtureItem, enrichment.events, enrichment.statistics,
+                                               enrichment.lineups, enrichment.players, rowNum);
+                    } catch (Exception e) {
+                        getLogger().warn("Failed to parse fixture row " + rowNum + ": " + e.getMessage());
+                        continue;
                     }
+                    pushFixture(output, fixture);
+                    rowNum++;
+                }
+            }
+        }
 
-                    // Fetch additional data if checkboxes are enabled
-                    JsonNode events = null;
-                    JsonNode statistics = null;
-                    JsonNode lineups = null;
-                    JsonNode players = null;
-
-                    if (fixtureId > 0) {
-                        if (m_includeEvents.getBooleanValue()) {
-                            exec.setMessage(String.format("Fetching events for fixture %d (%d/%d)...",
-                                                         fixtureId, rowNum + 1, totalFixtures));
-                            events = callApi(client, "/fixtures/events",
-                                           Map.of("fixture", String.valueOf(fixtureId)), mapper);
-                        }
+        return rowNum;
+    }
 
-                        if (m_includeStatistics.getBooleanValue() && homeTeamId > 0 && awayTeamId > 0) {
-                            exec.setMessage(String.format("Fetching statistics for fixture %d (%d/%d)...",
-                                                         fixtureId, rowNum + 1, totalFixtures));
-
-                            // Make TWO API calls - one for each team
-                            JsonNode homeStats = callApi(client, "/fixtures/statistics",
-                                               Map.of("fixture", String.valueOf(fixtureId),
-                                                     "team", String.valueOf(homeTeamId)), mapper);
-                            JsonNode awayStats = callApi(client, "/fixtures/statistics",
-                                               Map.of("fixture", String.valueOf(fixtureId),
-                                                     "team", String.valueOf(awayTeamId)), mapper);
-
-                            // Combine into single array: [homeStats, awayStats]
-                            statistics = mapper.createArrayNode();
-                            if (homeStats != null && homeStats.isArray() && homeStats.size() > 0) {
-                                ((com.fasterxml.jackson.databind.node.ArrayNode)statistics).add(homeStats.get(0));
-                            }
-                            if (awayStats != null && awayStats.isArray() && awayStats.size() > 0) {
-                                ((com.fasterxml.jackson.databind.node.ArrayNode)statistics).add(awayStats.get(0));
-                            }
-                        }
+    /**
+     * Optional data fetched for a single fixture. A null node means the data was not requested
+     * or could not be retrieved; in the latter case the matching error field is set.
+     */
+    private static class FixtureEnrichment {
+        JsonNode events;
+        JsonNode statistics;
+        JsonNode lineups;
+        JsonNode players;
+        Exception eventsError;
+        Exception statisticsError;
+        Exception lineupsError;
+        Exception playersError;
+
+        boolean hasError() {
+            return firstError() != null;
+        }
 
-                        if (m_includeLineups.getBooleanValue()) {
-                            exec.setMessage(String.format("Fetching lineups for fixture %d (%d/%d)...",
-                                                         fixtureId, rowNum + 1, totalFixtures));
-                            lineups = callApi(client, "/fixtures/lineups",
-                                            Map.of("fixture", String.valueOf(fixtureId)), mapper);
-                        }
+        Exception firstError() {
+            if (eventsError != null) return eventsError;
+            if (statisticsError != null) return statisticsError;
+            if (lineupsError != null) return lineupsError;
+            return playersError;
+        }
+    }
 
-                        if (m_includePlayerStats.getBooleanValue() && homeTeamId > 0 && awayTeamId > 0) {
-                            exec.setMessage(String.format("Fetching player stats for fixture %d (%d/%d)...",
-                                                         fixtureId, rowNum + 1, totalFixtures));
-
-                            // Make TWO API calls - one for each team
-                            JsonNode homePlayers = callApi(client, "/fixtures/players",
-                                            Map.of("fixture", String.valueOf(fixtureId),
-                                                  "team", String.valueOf(homeTeamId)), mapper);
-                            JsonNode awayPlayers = callApi(client, "/fixtures/players",
-                                            Map.of("fixture", String.valueOf(fixtureId),
-                                                  "team", String.valueOf(awayTeamId)), mapper);
-
-                            // Combine into single array: [homePlayers, awayPlayers]
-                            players = mapper.createArrayNode();
-                            if (homePlayers != null && homePlayers.isArray() && homePlayers.size() > 0) {
-                                ((com.fasterxml.jackson.databind.node.ArrayNode)players).add(homePlayers.get(0));
-                            }
-                            if (awayPlayers != null && awayPlayers.isArray() && awayPlayers.size() > 0) {
-                                ((com.fasterxml.jackson.databind.node.ArrayNode)players).add(awayPlayers.get(0));
-                            }
-                        }
-                    }
+    /**
+     * A fixture item from the API response together with its optional data.
+     */
+    private static class EnrichedFixture {
+        final JsonNode fixtureItem;
+        final FixtureEnrichment enrichment;
 
-                    DataRow row = parseFixtureRow(fixtureItem, events, statistics, lineups, players, rowNum);
-                    container.addRowToTable(row);
-                    rowNum++;
-                } catch (Exception e) {
-                    getLogger().warn("Failed to parse fixture row " + rowNum + ": " + e.getMessage());
-                }
+        EnrichedFixture(JsonNode fixtureItem, FixtureEnrichment enrichment) {
+            this.fixtureItem = fixtureItem;
+            this.enrichment = enrichment;
+        }
+    }
+
+    /**
+     * Fetch optional data for every fixture in a fixtures response.
+     */
+    private CompletableFuture<List<EnrichedFixture>> fetchEnrichedFixturesAsync(ApiSportsHttpClient client,
+                                                                              JsonNode response,
+                                                                              ObjectMapper mapper) {
+        List<CompletableFuture<EnrichedFixture>> fixtures = new ArrayList<>();
+        if (response != null && response.isArray()) {
+            for (JsonNode fixtureItem : response) {
+                fixtures.add(fetchEnrichmentAsync(client, fixtureItem, mapper)
+                    .thenApply(enrichment -> new EnrichedFixture(fixtureItem, enrichment)));
             }
         }
+        return CompletableFuture.allOf(fixtures.toArray(new CompletableFuture<?>[0]))
+            .thenApply(v -> fixtures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * Issue the enabled optional sub-requests (events, statistics, lineups, player stats) for one
+     * fixture concurrently. The returned future never fails; per-type errors are recorded on the result.
+     */
+    private CompletableFuture<FixtureEnrichment> fetchEnrichmentAsync(ApiSportsHttpClient client,
+                                                                     JsonNode fixtureItem, ObjectMapper mapper) {
+        FixtureEnrichment enrichment = new FixtureEnrichment();
+
+        // Extract fixture ID and team IDs for additional API calls
+        JsonNode fixture = fixtureItem.get("fixture");
+        JsonNode teams = fixtureItem.get("teams");
+        int fixtureId = fixture != null && fixture.has("id") ? fixture.get("id").asInt() : 0;
+        int homeTeamId = 0, awayTeamId = 0;
+        if (teams != null) {
+            JsonNode home = teams.get("home");
+            JsonNode away = teams.get("away");
+            if (home != null && home.has("id")) homeTeamId = home.get("id").asInt();
+            if (away != null && away.has("id")) awayTeamId = away.get("id").asInt();
+        }
+
+        if (fixtureId <= 0) {
+            return CompletableFuture.completedFuture(enrichment);
+        }
+
+        String fixtureParam = String.valueOf(fixtureId);
+        List<CompletableFuture<?>> calls = new ArrayList<>();
+
+        if (m_includeEvents.getBooleanValue()) {
+            calls.add(callApiAsync(client, "/fixtures/events", Map.of("fixture", fixtureParam), mapper)
+                .handle((node, error) -> {
+                    if (error == null) enrichment.events = node; else enrichment.eventsError = unwrap(error);
+                    return null;
+                }));
+        }
+
+        if (m_includeStatistics.getBooleanValue() && homeTeamId > 0 && awayTeamId > 0) {
+            calls.add(fetchPerTeamAsync(client, "/fixtures/statistics", fixtureParam, homeTeamId, awayTeamId, mapper)
+                .handle((node, error) -> {
+                    if (error == null) enrichment.statistics = node; else enrichment.statisticsError = unwrap(error);
+                    return null;
+                }));
+        }
 
-        container.close();
-        return container.getTable();
+        if (m_includeLineups.getBooleanValue()) {
+            calls.add(callApiAsync(client, "/fixtures/lineups", Map.of("fixture", fixtureParam), mapper)
+                .handle((node, error) -> {
+                    if (error == null) enrichment.lineups = node; else enrichment.lineupsError = unwrap(error);
+                    return null;
+                }));
+        }
+
+        if (m_includePlayerStats.getBooleanValue() && homeTeamId > 0 && awayTeamId > 0) {
+            calls.add(fetchPerTeamAsync(client, "/fixtures/players", fixtureParam, homeTeamId, awayTeamId, mapper)
+                .handle((node, error) -> {
+                    if (error == null) enrichment.players = node; else enrichment.playersError = unwrap(error);
+                    return null;
+                }));
+        }
+
+        return CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).thenApply(v -> enrichment);
+    }
+
+    /**
+     * Make TWO API calls - one for each team - and combine into a single array: [home, away].
+     */
+    private CompletableFuture<JsonNode> fetchPerTeamAsync(ApiSportsHttpClient client, String endpoint,
+                                                          String fixtureParam, int homeTeamId, int awayTeamId,
+                                                          ObjectMapper mapper) {
+        CompletableFuture<JsonNode> home = callApiAsync(client, endpoint,
+            Map.of("fixture", fixtureParam, "team", String.valueOf(homeTeamId)), mapper);
+        CompletableFuture<JsonNode> away = callApiAsync(client, endpoint,
+            Map.of("fixture", fixtureParam, "team", String.valueOf(awayTeamId)), mapper);
+
+        return home.thenCombine(away, (homeNode, awayNode) -> {
+            ArrayNode combined = mapper.createArrayNode();
+            if (homeNode != null && homeNode.isArray() && homeNode.size() > 0) {
+                combined.add(homeNode.get(0));
+            }
+            if (awayNode != null && awayNode.isArray() && awayNode.size() > 0) {
+                combined.add(awayNode.get(0));
+            }
+            return combined;
+        });
+    }
+
+    /**
+     * Strip the CompletionException wrapper added by CompletableFuture stages.
+     */
+    private static Exception unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause() : error;
+        return cause instanceof Exception ? (Exception) cause : new Exception(cause);
+    }
+
+    /**
+     * A fixture row and, in the normalized layout, the rows of its detail tables.
+     */
+    private record ParsedFixture(DataRow row, FixtureDetailTables.Rows details) {
+    }
+
+    /**
+     * Parse a fixture into its row and, in the normalized layout, its detail rows.
+     */
+    private ParsedFixture parseFixture(JsonNode fixtureItem, JsonNode events, JsonNode statistics,
+                                       JsonNode lineups, JsonNode players, int rowNum) {
+        DataRow row = parseFixtureRow(fixtureItem, events, statistics, lineups, players, rowNum);
+        FixtureDetailTables.Rows details = m_detailTables != null
+            ? FixtureDetailTables.parse(fixtureItem, events, statistics, lineups, players) : null;
+        return new ParsedFixture(row, details);
+    }
+
+    /**
+     * Write a parsed fixture to the fixtures output and its detail rows to the detail outputs.
+     */
+    private void pushFixture(RowOutput output, ParsedFixture fixture) throws InterruptedException {
+        output.push(fixture.row());
+        if (fixture.details() != null) {
+            m_detailTables.push(fixture.details());
+        }
     }
 
     /**
      * Parse a single fixture JSON object into a DataRow.
      */
-    private DataRow parseFixtureRow(JsonNode fixtureItem, JsonNode events, JsonNode statistics,
-                                    JsonNode lineups, JsonNode players, int rowNum) {
+    DataRow parseFixtureRow(JsonNode fixtureItem, JsonNode events, JsonNode statistics,
+                            JsonNode lineups, JsonNode players, int rowNum) {
         JsonNode fixture = fixtureItem.get("fixture");
         JsonNode league = fixtureItem.get("league");
         JsonNode teams = fixtureItem.get("teams");
@@ -931,10 +1164,10 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
 
         // Calculate total column count based on enabled options
         int totalColumns = 39;  // Base columns (14 fixture + 7 league + 8 teams + 2 goals + 8 score)
-        if (m_includeEvents.getBooleanValue()) totalColumns += 18;
-        if (m_includeStatistics.getBooleanValue()) totalColumns += 32;
-        if (m_includeLineups.getBooleanValue()) totalColumns += 20;
-        if (m_includePlayerStats.getBooleanValue()) totalColumns += 28;
+        if (isInFixtureRow(m_includeEvents)) totalColumns += 18;
+        if (isInFixtureRow(m_includeStatistics)) totalColumns += 32;
+        if (isInFixtureRow(m_includeLineups)) totalColumns += 20;
+        if (isInFixtureRow(m_includePlayerStats)) totalColumns += 28;
 
         // Create cells array
         DataCell[] cells = new DataCell[totalColumns];
@@ -1005,30 +1238,30 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         cells[colIdx++] = getIntCell(penalty, "away");
 
         // Events (18 columns - if enabled)
-        if (m_includeEvents.getBooleanValue()) {
+        if (isInFixtureRow(m_includeEvents)) {
             EventsData eventsData = parseEvents(events);
-            cells[colIdx++] = new StringCell(eventsData.goalsHomeScorers);
-            cells[colIdx++] = new StringCell(eventsData.goalsHomeAssists);
-            cells[colIdx++] = new StringCell(eventsData.goalsHomeTimes);
-            cells[colIdx++] = new StringCell(eventsData.goalsAwayScorers);
-            cells[colIdx++] = new StringCell(eventsData.goalsAwayAssists);
-            cells[colIdx++] = new StringCell(eventsData.goalsAwayTimes);
+            cells[colIdx++] = eventsData.goalsHomeScorers;
+            cells[colIdx++] = eventsData.goalsHomeAssists;
+            cells[colIdx++] = eventsData.goalsHomeTimes;
+            cells[colIdx++] = eventsData.goalsAwayScorers;
+            cells[colIdx++] = eventsData.goalsAwayAssists;
+            cells[colIdx++] = eventsData.goalsAwayTimes;
             cells[colIdx++] = new IntCell(eventsData.yellowCardsHome);
-            cells[colIdx++] = new StringCell(eventsData.yellowCardsHomePlayers);
+            cells[colIdx++] = eventsData.yellowCardsHomePlayers;
             cells[colIdx++] = new IntCell(eventsData.yellowCardsAway);
-            cells[colIdx++] = new StringCell(eventsData.yellowCardsAwayPlayers);
+            cells[colIdx++] = eventsData.yellowCardsAwayPlayers;
             cells[colIdx++] = new IntCell(eventsData.redCardsHome);
-            cells[colIdx++] = new StringCell(eventsData.redCardsHomePlayers);
+            cells[colIdx++] = eventsData.redCardsHomePlayers;
             cells[colIdx++] = new IntCell(eventsData.redCardsAway);
-            cells[colIdx++] = new StringCell(eventsData.redCardsAwayPlayers);
+            cells[colIdx++] = eventsData.redCardsAwayPlayers;
             cells[colIdx++] = new IntCell(eventsData.substitutionsHomeCount);
-            cells[colIdx++] = new StringCell(eventsData.substitutionsHomeDetails);
+            cells[colIdx++] = eventsData.substitutionsHomeDetails;
             cells[colIdx++] = new IntCell(eventsData.substitutionsAwayCount);
-            cells[colIdx++] = new StringCell(eventsData.substitutionsAwayDetails);
+            cells[colIdx++] = eventsData.substitutionsAwayDetails;
         }
 
         // Statistics (32 columns - if enabled)
-        if (m_includeStatistics.getBooleanValue()) {
+        if (isInFixtureRow(m_includeStatistics)) {
             StatisticsData statsData = parseStatistics(statistics);
             // Home team stats (16 columns)
             cells[colIdx++] = new IntCell(statsData.homeShotsOnGoal);
@@ -1067,34 +1300,34 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         }
 
         // Lineups (20 columns - if enabled)
-        if (m_includeLineups.getBooleanValue()) {
+        if (isInFixtureRow(m_includeLineups)) {
             LineupsData lineupsData = parseLineups(lineups);
             // Home team lineup (10 columns)
             cells[colIdx++] = new StringCell(lineupsData.homeFormation);
-            cells[colIdx++] = new StringCell(lineupsData.homeStartingXIPlayers);
-            cells[colIdx++] = new StringCell(lineupsData.homeStartingXINumbers);
-            cells[colIdx++] = new StringCell(lineupsData.homeStartingXIPositions);
-            cells[colIdx++] = new StringCell(lineupsData.homeSubstitutesPlayers);
-            cells[colIdx++] = new StringCell(lineupsData.homeSubstitutesNumbers);
-            cells[colIdx++] = new StringCell(lineupsData.homeSubstitutesPositions);
+            cells[colIdx++] = lineupsData.homeStartingXIPlayers;
+            cells[colIdx++] = lineupsData.homeStartingXINumbers;
+            cells[colIdx++] = lineupsData.homeStartingXIPositions;
+            cells[colIdx++] = lineupsData.homeSubstitutesPlayers;
+            cells[colIdx++] = lineupsData.homeSubstitutesNumbers;
+            cells[colIdx++] = lineupsData.homeSubstitutesPositions;
             cells[colIdx++] = new IntCell(lineupsData.homeCoachId);
             cells[colIdx++] = new StringCell(lineupsData.homeCoachName);
             cells[colIdx++] = new StringCell(lineupsData.homeCoachPhoto);
             // Away team lineup (10 columns)
             cells[colIdx++] = new StringCell(lineupsData.awayFormation);
-            cells[colIdx++] = new StringCell(lineupsData.awayStartingXIPlayers);
-            cells[colIdx++] = new StringCell(lineupsData.awayStartingXINumbers);
-            cells[colIdx++] = new StringCell(lineupsData.awayStartingXIPositions);
-            cells[colIdx++] = new StringCell(lineupsData.awaySubstitutesPlayers);
-            cells[colIdx++] = new StringCell(lineupsData.awaySubstitutesNumbers);
-            cells[colIdx++] = new StringCell(lineupsData.awaySubstitutesPositions);
+            cells[colIdx++] = lineupsData.awayStartingXIPlayers;
+            cells[colIdx++] = lineupsData.awayStartingXINumbers;
+            cells[colIdx++] = lineupsData.awayStartingXIPositions;
+            cells[colIdx++] = lineupsData.awaySubstitutesPlayers;
+            cells[colIdx++] = lineupsData.awaySubstitutesNumbers;
+            cells[colIdx++] = lineupsData.awaySubstitutesPositions;
             cells[colIdx++] = new IntCell(lineupsData.awayCoachId);
             cells[colIdx++] = new StringCell(lineupsData.awayCoachName);
             cells[colIdx++] = new StringCell(lineupsData.awayCoachPhoto);
         }
 
         // Player Stats (28 columns - if enabled)
-        if (m_includePlayerStats.getBooleanValue()) {
+        if (isInFixtureRow(m_includePlayerStats)) {
             PlayerStatsData playerStatsData = parsePlayerStats(players);
             // Top performers (12 columns)
             cells[colIdx++] = new StringCell(playerStatsData.topRatedPlayerHome);
@@ -1162,24 +1395,21 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
 
     // Data classes for structured parsing
     private static class EventsData {
-        String goalsHomeScorers = "";
-        String goalsHomeAssists = "";
-        String goalsHomeTimes = "";
-        String goalsAwayScorers = "";
-        String goalsAwayAssists = "";
-        String goalsAwayTimes = "";
+        // Detail columns: StringCell or ListCell, depending on the detail format
+        DataCell goalsHomeScorers, goalsHomeAssists, goalsHomeTimes;
+        DataCell goalsAwayScorers, goalsAwayAssists, goalsAwayTimes;
         int yellowCardsHome = 0;
-        String yellowCardsHomePlayers = "";
+        DataCell yellowCardsHomePlayers;
         int yellowCardsAway = 0;
-        String yellowCardsAwayPlayers = "";
+        DataCell yellowCardsAwayPlayers;
         int redCardsHome = 0;
-        String redCardsHomePlayers = "";
+        DataCell redCardsHomePlayers;
         int redCardsAway = 0;
-        String redCardsAwayPlayers = "";
+        DataCell redCardsAwayPlayers;
         int substitutionsHomeCount = 0;
-        String substitutionsHomeDetails = "";
+        DataCell substitutionsHomeDetails;
         int substitutionsAwayCount = 0;
-        String substitutionsAwayDetails = "";
+        DataCell substitutionsAwayDetails;
     }
 
     private static class StatisticsData {
@@ -1196,13 +1426,14 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     private static class LineupsData {
-        String homeFormation = "", homeStartingXIPlayers = "", homeStartingXINumbers = "";
-        String homeStartingXIPositions = "", homeSubstitutesPlayers = "", homeSubstitutesNumbers = "";
-        String homeSubstitutesPositions = "", homeCoachName = "", homeCoachPhoto = "";
+        // Detail columns: StringCell or ListCell, depending on the detail format
+        DataCell homeStartingXIPlayers, homeStartingXINumbers, homeStartingXIPositions;
+        DataCell homeSubstitutesPlayers, homeSubstitutesNumbers, homeSubstitutesPositions;
+        String homeFormation = "", homeCoachName = "", homeCoachPhoto = "";
         int homeCoachId = 0;
-        String awayFormation = "", awayStartingXIPlayers = "", awayStartingXINumbers = "";
-        String awayStartingXIPositions = "", awaySubstitutesPlayers = "", awaySubstitutesNumbers = "";
-        String awaySubstitutesPositions = "", awayCoachName = "", awayCoachPhoto = "";
+        DataCell awayStartingXIPlayers, awayStartingXINumbers, awayStartingXIPositions;
+        DataCell awaySubstitutesPlayers, awaySubstitutesNumbers, awaySubstitutesPositions;
+        String awayFormation = "", awayCoachName = "", awayCoachPhoto = "";
         int awayCoachId = 0;
     }
 
@@ -1226,114 +1457,198 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     /**
-     * Parse events data from the API response.
+     * Values of one event or lineup column of a fixture, collected either as comma-separated
+     * text or as the cells of a list. Instances are reset and reused from fixture to fixture.
      */
-    private EventsData parseEvents(JsonNode events) {
-        EventsData data = new EventsData();
-        if (events == null || !events.isArray()) return data;
+    private static final class DetailList {
+        private final StringBuilder text = new StringBuilder();
+        private final List<DataCell> cells = new ArrayList<>();
+        private boolean asList;
+
+        void reset(boolean asList) {
+            this.asList = asList;
+            text.setLength(0);
+            cells.clear();
+        }
 
-        StringBuilder homeGoals = new StringBuilder(), homeAssists = new StringBuilder(), homeTimes = new StringBuilder();
-        StringBuilder awayGoals = new StringBuilder(), awayAssists = new StringBuilder(), awayTimes = new StringBuilder();
-        StringBuilder homeYellow = new StringBuilder(), awayYellow = new StringBuilder();
-        StringBuilder homeRed = new StringBuilder(), awayRed = new StringBuilder();
-        StringBuilder homeSubs = new StringBuilder(), awaySubs = new StringBuilder();
+        boolean isList() {
+            return asList;
+        }
 
-        // Track team IDs to determine home vs away
-        Integer homeTeamId = null, awayTeamId = null;
+        /**
+         * Start the next value of the text, to be appended to the returned buffer.
+         */
+        StringBuilder nextText() {
+            if (text.length() > 0) text.append(", ");
+            return text;
+        }
 
-        for (JsonNode event : events) {
-            String type = event.has("type") ? event.get("type").asText() : "";
-            String detail = event.has("detail") ? event.get("detail").asText() : "";
-            JsonNode team = event.get("team");
-            int teamId = team != null && team.has("id") ? team.get("id").asInt() : 0;
+        void add(String value) {
+            if (asList) {
+                cells.add(value != null ? new StringCell(value) : DataType.getMissingCell());
+            } else {
+                nextText().append(value);
+            }
+        }
 
-            // Determine home/away based on order (first team is typically home)
-            if (homeTeamId == null) homeTeamId = teamId;
-            else if (awayTeamId == null && teamId != homeTeamId) awayTeamId = teamId;
+        /**
+         * Add a value that may be absent: a missing cell in a list, the placeholder in text.
+         */
+        void add(String value, String placeholder) {
+            if (value == null && !asList) {
+                nextText().append(placeholder);
+            } else {
+                add(value);
+            }
+        }
 
-            boolean isHome = teamId == homeTeamId;
+        void add(int value) {
+            if (asList) {
+                cells.add(new IntCell(value));
+            } else {
+                nextText().append(value);
+            }
+        }
 
-            if ("Goal".equals(type)) {
-                JsonNode player = event.get("player");
-                JsonNode assist = event.get("assist");
-                JsonNode time = event.get("time");
-                String playerName = player != null && player.has("name") ? player.get("name").asText() : "Unknown";
-                String assistName = assist != null && assist.has("name") ? assist.get("name").asText() : "";
-                int minute = time != null && time.has("elapsed") ? time.get("elapsed").asInt() : 0;
+        DataCell toCell() {
+            return asList ? CollectionCellFactory.createListCell(cells) : new StringCell(text.toString());
+        }
+    }
 
-                if (isHome) {
-                    if (homeGoals.length() > 0) homeGoals.append(", ");
-                    homeGoals.append(playerName).append(" (").append(minute).append("')");
-                    if (homeAssists.length() > 0) homeAssists.append(", ");
-                    homeAssists.append(assistName.isEmpty() ? "-" : assistName);
-                    if (homeTimes.length() > 0) homeTimes.append(", ");
-                    homeTimes.append(minute);
-                } else {
-                    if (awayGoals.length() > 0) awayGoals.append(", ");
-                    awayGoals.append(playerName).append(" (").append(minute).append("')");
-                    if (awayAssists.length() > 0) awayAssists.append(", ");
-                    awayAssists.append(assistName.isEmpty() ? "-" : assistName);
-                    if (awayTimes.length() > 0) awayTimes.append(", ");
-                    awayTimes.append(minute);
-                }
-            } else if ("Card".equals(type)) {
-                JsonNode player = event.get("player");
-                String playerName = player != null && player.has("name") ? player.get("name").asText() : "Unknown";
+    /**
+     * The detail lists filled by {@link #parseEvents(JsonNode)} and {@link #parseLineups(JsonNode)}.
+     * Several nodes may parse fixtures at the same time, so each thread has its own.
+     */
+    private static final class DetailBuffers {
+        final DetailList homeGoals = new DetailList(), homeAssists = new DetailList(), homeTimes = new DetailList();
+        final DetailList awayGoals = new DetailList(), awayAssists = new DetailList(), awayTimes = new DetailList();
+        final DetailList homeYellow = new DetailList(), awayYellow = new DetailList();
+        final DetailList homeRed = new DetailList(), awayRed = new DetailList();
+        final DetailList homeSubs = new DetailList(), awaySubs = new DetailList();
+        final DetailList startPlayers = new DetailList(), startNumbers = new DetailList(), startPos = new DetailList();
+        final DetailList subPlayers = new DetailList(), subNumbers = new DetailList(), subPos = new DetailList();
+
+        void resetEvents(boolean asLists) {
+            for (DetailList list : new DetailList[] {homeGoals, homeAssists, homeTimes, awayGoals, awayAssists,
+                    awayTimes, homeYellow, awayYellow, homeRed, awayRed, homeSubs, awaySubs}) {
+                list.reset(asLists);
+            }
+        }
 
-                if ("Yellow Card".equals(detail)) {
-                    if (isHome) {
-                        data.yellowCardsHome++;
-                        if (homeYellow.length() > 0) homeYellow.append(", ");
-                        homeYellow.append(playerName);
+        void resetLineup(boolean asLists) {
+            for (DetailList list : new DetailList[] {startPlayers, startNumbers, startPos,
+                    subPlayers, subNumbers, subPos}) {
+                list.reset(asLists);
+            }
+        }
+    }
+
+    /**
+     * Parse events data from the API response.
+     */
+    EventsData parseEvents(JsonNode events) {
+        EventsData data = new EventsData();
+        DetailBuffers buffers = DETAIL_BUFFERS.get();
+        buffers.resetEvents(isListDetailFormat());
+        DetailList homeGoals = buffers.homeGoals, homeAssists = buffers.homeAssists, homeTimes = buffers.homeTimes;
+        DetailList awayGoals = buffers.awayGoals, awayAssists = buffers.awayAssists, awayTimes = buffers.awayTimes;
+        DetailList homeYellow = buffers.homeYellow, awayYellow = buffers.awayYellow;
+        DetailList homeRed = buffers.homeRed, awayRed = buffers.awayRed;
+        DetailList homeSubs = buffers.homeSubs, awaySubs = buffers.awaySubs;
+
+        // Track team IDs to determine home vs away
+        Integer homeTeamId = null, awayTeamId = null;
+
+        if (events != null && events.isArray()) {
+            for (JsonNode event : events) {
+                String type = event.has("type") ? event.get("type").asText() : "";
+                String detail = event.has("detail") ? event.get("detail").asText() : "";
+                JsonNode team = event.get("team");
+                int teamId = team != null && team.has("id") ? team.get("id").asInt() : 0;
+
+                // Determine home/away based on order (first team is typically home)
+                if (homeTeamId == null) homeTeamId = teamId;
+                else if (awayTeamId == null && teamId != homeTeamId) awayTeamId = teamId;
+
+                boolean isHome = teamId == homeTeamId;
+
+                if ("Goal".equals(type)) {
+                    JsonNode player = event.get("player");
+                    JsonNode assist = event.get("assist");
+                    JsonNode time = event.get("time");
+                    String playerName = player != null && player.has("name") ? player.get("name").asText() : null;
+                    String assistName = assist != null && assist.has("name") ? assist.get("name").asText() : "";
+                    int minute = time != null && time.has("elapsed") ? time.get("elapsed").asInt() : 0;
+
+                    DetailList goals = isHome ? homeGoals : awayGoals;
+                    if (goals.isList()) {
+                        // The minute is in the times list
+                        goals.add(playerName);
                     } else {
-                        data.yellowCardsAway++;
-                        if (awayYellow.length() > 0) awayYellow.append(", ");
-                        awayYellow.append(playerName);
+                        goals.nextText().append(playerName != null ? playerName : "Unknown")
+                            .append(" (").append(minute).append("')");
                     }
-                } else if ("Red Card".equals(detail)) {
+                    (isHome ? homeAssists : awayAssists).add(assistName.isEmpty() ? null : assistName, "-");
+                    (isHome ? homeTimes : awayTimes).add(minute);
+                } else if ("Card".equals(type)) {
+                    JsonNode player = event.get("player");
+                    String playerName = player != null && player.has("name") ? player.get("name").asText() : null;
+
+                    if ("Yellow Card".equals(detail)) {
+                        if (isHome) {
+                            data.yellowCardsHome++;
+                            homeYellow.add(playerName, "Unknown");
+                        } else {
+                            data.yellowCardsAway++;
+                            awayYellow.add(playerName, "Unknown");
+                        }
+                    } else if ("Red Card".equals(detail)) {
+                        if (isHome) {
+                            data.redCardsHome++;
+                            homeRed.add(playerName, "Unknown");
+                        } else {
+                            data.redCardsAway++;
+                            awayRed.add(playerName, "Unknown");
+                        }
+                    }
+                } else if ("subst".equals(type)) {
+                    JsonNode player = event.get("player");
+                    JsonNode assist = event.get("assist");  // Player coming in
+                    JsonNode time = event.get("time");
+                    String playerOut = player != null && player.has("name") ? player.get("name").asText() : "?";
+                    String playerIn = assist != null && assist.has("name") ? assist.get("name").asText() : "?";
+                    int minute = time != null && time.has("elapsed") ? time.get("elapsed").asInt() : 0;
+
+                    DetailList subs;
                     if (isHome) {
-                        data.redCardsHome++;
-                        if (homeRed.length() > 0) homeRed.append(", ");
-                        homeRed.append(playerName);
+                        data.substitutionsHomeCount++;
+                        subs = homeSubs;
                     } else {
-                        data.redCardsAway++;
-                        if (awayRed.length() > 0) awayRed.append(", ");
-                        awayRed.append(playerName);
+                        data.substitutionsAwayCount++;
+                        subs = awaySubs;
+                    }
+                    if (subs.isList()) {
+                        subs.add(playerOut + "→" + playerIn + " (" + minute + "')");
+                    } else {
+                        subs.nextText().append(playerOut).append('→').append(playerIn)
+                            .append(" (").append(minute).append("')");
                     }
-                }
-            } else if ("subst".equals(type)) {
-                JsonNode player = event.get("player");
-                JsonNode assist = event.get("assist");  // Player coming in
-                JsonNode time = event.get("time");
-                String playerOut = player != null && player.has("name") ? player.get("name").asText() : "?";
-                String playerIn = assist != null && assist.has("name") ? assist.get("name").asText() : "?";
-                int minute = time != null && time.has("elapsed") ? time.get("elapsed").asInt() : 0;
-
-                String subDetail = playerOut + "→" + playerIn + " (" + minute + "')";
-                if (isHome) {
-                    data.substitutionsHomeCount++;
-                    if (homeSubs.length() > 0) homeSubs.append(", ");
-                    homeSubs.append(subDetail);
-                } else {
-                    data.substitutionsAwayCount++;
-                    if (awaySubs.length() > 0) awaySubs.append(", ");
-                    awaySubs.append(subDetail);
                 }
             }
         }
 
-        data.goalsHomeScorers = homeGoals.toString();
-        data.goalsHomeAssists = homeAssists.toString();
-        data.goalsHomeTimes = homeTimes.toString();
-        data.goalsAwayScorers = awayGoals.toString();
-        data.goalsAwayAssists = awayAssists.toString();
-        data.goalsAwayTimes = awayTimes.toString();
-        data.yellowCardsHomePlayers = homeYellow.toString();
-        data.yellowCardsAwayPlayers = awayYellow.toString();
-        data.redCardsHomePlayers = homeRed.toString();
-        data.redCardsAwayPlayers = awayRed.toString();
-        data.substitutionsHomeDetails = homeSubs.toString();
-        data.substitutionsAwayDetails = awaySubs.toString();
+        data.goalsHomeScorers = homeGoals.toCell();
+        data.goalsHomeAssists = homeAssists.toCell();
+        data.goalsHomeTimes = homeTimes.toCell();
+        data.goalsAwayScorers = awayGoals.toCell();
+        data.goalsAwayAssists = awayAssists.toCell();
+        data.goalsAwayTimes = awayTimes.toCell();
+        data.yellowCardsHomePlayers = homeYellow.toCell();
+        data.yellowCardsAwayPlayers = awayYellow.toCell();
+        data.redCardsHomePlayers = homeRed.toCell();
+        data.redCardsAwayPlayers = awayRed.toCell();
+        data.substitutionsHomeDetails = homeSubs.toCell();
+        data.substitutionsAwayDetails = awaySubs.toCell();
 
         return data;
     }
@@ -1425,48 +1740,43 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
      */
     private LineupsData parseLineups(JsonNode lineups) {
         LineupsData data = new LineupsData();
-        if (lineups == null || !lineups.isArray()) return data;
-
-        for (int i = 0; i < lineups.size(); i++) {
-            JsonNode teamLineup = lineups.get(i);
+        DetailBuffers buffers = DETAIL_BUFFERS.get();
+        boolean asLists = isListDetailFormat();
+        DetailList startPlayers = buffers.startPlayers, startNumbers = buffers.startNumbers, startPos = buffers.startPos;
+        DetailList subPlayers = buffers.subPlayers, subNumbers = buffers.subNumbers, subPos = buffers.subPos;
+
+        // Both teams get their (possibly empty) lists, even if the lineups are missing
+        int teamCount = lineups != null && lineups.isArray() ? lineups.size() : 0;
+        for (int i = 0; i < Math.max(2, teamCount); i++) {
+            JsonNode teamLineup = i < teamCount ? lineups.get(i) : null;
             boolean isHome = i == 0;  // First team is home
 
-            String formation = teamLineup.has("formation") ? teamLineup.get("formation").asText() : "";
+            String formation = teamLineup != null && teamLineup.has("formation")
+                ? teamLineup.get("formation").asText() : "";
 
-            StringBuilder startPlayers = new StringBuilder(), startNumbers = new StringBuilder(), startPos = new StringBuilder();
-            StringBuilder subPlayers = new StringBuilder(), subNumbers = new StringBuilder(), subPos = new StringBuilder();
+            buffers.resetLineup(asLists);
 
-            JsonNode startXI = teamLineup.get("startXI");
+            JsonNode startXI = teamLineup != null ? teamLineup.get("startXI") : null;
             if (startXI != null && startXI.isArray()) {
                 for (JsonNode playerNode : startXI) {
                     JsonNode player = playerNode.get("player");
                     if (player != null) {
-                        if (startPlayers.length() > 0) startPlayers.append(", ");
-                        startPlayers.append(player.has("name") ? player.get("name").asText() : "");
-                        if (startNumbers.length() > 0) startNumbers.append(", ");
-                        startNumbers.append(player.has("number") ? player.get("number").asInt() : 0);
-                        if (startPos.length() > 0) startPos.append(", ");
-                        startPos.append(player.has("pos") ? player.get("pos").asText() : "");
+                        addLineupPlayer(player, startPlayers, startNumbers, startPos);
                     }
                 }
             }
 
-            JsonNode substitutes = teamLineup.get("substitutes");
+            JsonNode substitutes = teamLineup != null ? teamLineup.get("substitutes") : null;
             if (substitutes != null && substitutes.isArray()) {
                 for (JsonNode playerNode : substitutes) {
                     JsonNode player = playerNode.get("player");
                     if (player != null) {
-                        if (subPlayers.length() > 0) subPlayers.append(", ");
-                        subPlayers.append(player.has("name") ? player.get("name").asText() : "");
-                        if (subNumbers.length() > 0) subNumbers.append(", ");
-                        subNumbers.append(player.has("number") ? player.get("number").asInt() : 0);
-                        if (subPos.length() > 0) subPos.append(", ");
-                        subPos.append(player.has("pos") ? player.get("pos").asText() : "");
+                        addLineupPlayer(player, subPlayers, subNumbers, subPos);
                     }
                 }
             }
 
-            JsonNode coach = teamLineup.get("coach");
+            JsonNode coach = teamLineup != null ? teamLineup.get("coach") : null;
             int coachId = 0;
             String coachName = "", coachPhoto = "";
             if (coach != null) {
@@ -1477,23 +1787,23 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
 
             if (isHome) {
                 data.homeFormation = formation;
-                data.homeStartingXIPlayers = startPlayers.toString();
-                data.homeStartingXINumbers = startNumbers.toString();
-                data.homeStartingXIPositions = startPos.toString();
-                data.homeSubstitutesPlayers = subPlayers.toString();
-                data.homeSubstitutesNumbers = subNumbers.toString();
-                data.homeSubstitutesPositions = subPos.toString();
+                data.homeStartingXIPlayers = startPlayers.toCell();
+                data.homeStartingXINumbers = startNumbers.toCell();
+                data.homeStartingXIPositions = startPos.toCell();
+                data.homeSubstitutesPlayers = subPlayers.toCell();
+                data.homeSubstitutesNumbers = subNumbers.toCell();
+                data.homeSubstitutesPositions = subPos.toCell();
                 data.homeCoachId = coachId;
                 data.homeCoachName = coachName;
                 data.homeCoachPhoto = coachPhoto;
             } else {
                 data.awayFormation = formation;
-                data.awayStartingXIPlayers = startPlayers.toString();
-                data.awayStartingXINumbers = startNumbers.toString();
-                data.awayStartingXIPositions = startPos.toString();
-                data.awaySubstitutesPlayers = subPlayers.toString();
-                data.awaySubstitutesNumbers = subNumbers.toString();
-                data.awaySubstitutesPositions = subPos.toString();
+                data.awayStartingXIPlayers = startPlayers.toCell();
+                data.awayStartingXINumbers = startNumbers.toCell();
+                data.awayStartingXIPositions = startPos.toCell();
+                data.awaySubstitutesPlayers = subPlayers.toCell();
+                data.awaySubstitutesNumbers = subNumbers.toCell();
+                data.awaySubstitutesPositions = subPos.toCell();
                 data.awayCoachId = coachId;
                 data.awayCoachName = coachName;
                 data.awayCoachPhoto = coachPhoto;
@@ -1503,6 +1813,16 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         return data;
     }
 
+    private static void addLineupPlayer(JsonNode player, DetailList names, DetailList numbers, DetailList positions) {
+        names.add(player.has("name") ? player.get("name").asText() : null, "");
+        if (player.has("number") && !player.get("number").isNull()) {
+            numbers.add(player.get("number").asInt());
+        } else {
+            numbers.add(null, "0");
+        }
+        positions.add(player.has("pos") ? player.get("pos").asText() : null, "");
+    }
+
     /**
      * Parse player statistics data from the API response.
      */
@@ -1692,6 +2012,29 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         return data;
     }
 
+    private boolean isNormalizedLayout() {
+        return LAYOUT_NORMALIZED.equals(m_outputLayout.getStringValue());
+    }
+
+    /**
+     * Whether the columns of an included kind of optional data are part of the fixture row;
+     * in the normalized layout they go to the detail tables instead.
+     */
+    private boolean isInFixtureRow(SettingsModelBoolean include) {
+        return include.getBooleanValue() && !isNormalizedLayout();
+    }
+
+    private boolean isListDetailFormat() {
+        return DETAIL_LISTS.equals(m_detailFormat.getStringValue());
+    }
+
+    /**
+     * Type of an event or lineup detail column whose values are of the given type.
+     */
+    private DataType detailType(DataType elementType) {
+        return isListDetailFormat() ? ListCell.getCollectionType(elementType) : StringCell.TYPE;
+    }
+
     @Override
     protected DataTableSpec getOutputSpec() {
         java.util.List<DataColumnSpec> columns = new java.util.ArrayList<>();
@@ -1746,29 +2089,29 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         columns.add(new DataColumnSpecCreator("Penalty_Away", IntCell.TYPE).createSpec());
 
         // Events columns (18 - if enabled)
-        if (m_includeEvents.getBooleanValue()) {
-            columns.add(new DataColumnSpecCreator("Goals_Home_Scorers", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Goals_Home_Assists", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Goals_Home_Times", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Goals_Away_Scorers", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Goals_Away_Assists", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Goals_Away_Times", StringCell.TYPE).createSpec());
+        if (isInFixtureRow(m_includeEvents)) {
+            columns.add(new DataColumnSpecCreator("Goals_Home_Scorers", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Goals_Home_Assists", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Goals_Home_Times", detailType(IntCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Goals_Away_Scorers", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Goals_Away_Assists", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Goals_Away_Times", detailType(IntCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Yellow_Cards_Home", IntCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Yellow_Cards_Home_Players", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Yellow_Cards_Home_Players", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Yellow_Cards_Away", IntCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Yellow_Cards_Away_Players", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Yellow_Cards_Away_Players", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Red_Cards_Home", IntCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Red_Cards_Home_Players", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Red_Cards_Home_Players", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Red_Cards_Away", IntCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Red_Cards_Away_Players", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Red_Cards_Away_Players", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Substitutions_Home_Count", IntCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Substitutions_Home_Details", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Substitutions_Home_Details", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Substitutions_Away_Count", IntCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Substitutions_Away_Details", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Substitutions_Away_Details", detailType(StringCell.TYPE)).createSpec());
         }
 
         // Statistics columns (32 - if enabled)
-        if (m_includeStatistics.getBooleanValue()) {
+        if (isInFixtureRow(m_includeStatistics)) {
             // Home team stats (16)
             columns.add(new DataColumnSpecCreator("Stat_Home_Shots_On_Goal", IntCell.TYPE).createSpec());
             columns.add(new DataColumnSpecCreator("Stat_Home_Shots_Off_Goal", IntCell.TYPE).createSpec());
@@ -1806,33 +2149,33 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         }
 
         // Lineups columns (20 - if enabled)
-        if (m_includeLineups.getBooleanValue()) {
+        if (isInFixtureRow(m_includeLineups)) {
             // Home team lineup (10)
             columns.add(new DataColumnSpecCreator("Lineup_Home_Formation", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Home_Starting_XI_Players", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Home_Starting_XI_Numbers", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Home_Starting_XI_Positions", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Home_Substitutes_Players", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Home_Substitutes_Numbers", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Home_Substitutes_Positions", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Home_Starting_XI_Players", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Home_Starting_XI_Numbers", detailType(IntCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Home_Starting_XI_Positions", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Home_Substitutes_Players", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Home_Substitutes_Numbers", detailType(IntCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Home_Substitutes_Positions", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Lineup_Home_Coach_ID", IntCell.TYPE).createSpec());
             columns.add(new DataColumnSpecCreator("Lineup_Home_Coach_Name", StringCell.TYPE).createSpec());
             columns.add(new DataColumnSpecCreator("Lineup_Home_Coach_Photo", StringCell.TYPE).createSpec());
             // Away team lineup (10)
             columns.add(new DataColumnSpecCreator("Lineup_Away_Formation", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Away_Starting_XI_Players", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Away_Starting_XI_Numbers", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Away_Starting_XI_Positions", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Away_Substitutes_Players", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Away_Substitutes_Numbers", StringCell.TYPE).createSpec());
-            columns.add(new DataColumnSpecCreator("Lineup_Away_Substitutes_Positions", StringCell.TYPE).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Away_Starting_XI_Players", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Away_Starting_XI_Numbers", detailType(IntCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Away_Starting_XI_Positions", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Away_Substitutes_Players", detailType(StringCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Away_Substitutes_Numbers", detailType(IntCell.TYPE)).createSpec());
+            columns.add(new DataColumnSpecCreator("Lineup_Away_Substitutes_Positions", detailType(StringCell.TYPE)).createSpec());
             columns.add(new DataColumnSpecCreator("Lineup_Away_Coach_ID", IntCell.TYPE).createSpec());
             columns.add(new DataColumnSpecCreator("Lineup_Away_Coach_Name", StringCell.TYPE).createSpec());
             columns.add(new DataColumnSpecCreator("Lineup_Away_Coach_Photo", StringCell.TYPE).createSpec());
         }
 
         // Player Stats columns (28 - if enabled)
-        if (m_includePlayerStats.getBooleanValue()) {
+        if (isInFixtureRow(m_includePlayerStats)) {
             // Top performers (12 columns)
             columns.add(new DataColumnSpecCreator("Top_Rated_Player_Home", StringCell.TYPE).createSpec());
             columns.add(new DataColumnSpecCreator("Top_Rated_Player_Home_Rating", StringCell.TYPE).createSpec());
@@ -1868,6 +2211,62 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         return new DataTableSpec(columns.toArray(new DataColumnSpec[0]));
     }
 
+    @Override
+    protected DataTableSpec[] getOutputSpecs() {
+        // Fixtures, then the detail tables of the added ports; these stay empty in the wide layout
+        DataTableSpec[] detailSpecs = FixtureDetailTables.createSpecs();
+        DataTableSpec[] specs = new DataTableSpec[getNrOutPorts()];
+        specs[0] = getOutputSpec();
+        for (int table = 0; table < FixtureDetailTables.COUNT; table++) {
+            if (m_detailPorts[table] >= 0) {
+                specs[m_detailPorts[table]] = detailSpecs[table];
+            }
+        }
+        return specs;
+    }
+
+    @Override
+    protected void setAdditionalOutputs(RowOutput[] outputs) {
+        if (!isNormalizedLayout()) {
+            m_detailTables = null;
+            return;
+        }
+        RowOutput[] detailOutputs = new RowOutput[FixtureDetailTables.COUNT];
+        for (int table = 0; table < FixtureDetailTables.COUNT; table++) {
+            if (m_detailPorts[table] >= 0) {
+                detailOutputs[table] = outputs[m_detailPorts[table] - 1];
+            }
+        }
+        m_detailTables = new FixtureDetailTables(detailOutputs);
+    }
+
+    /**
+     * In the normalized layout, check that each included detail table has its output port.
+     */
+    private void validateDetailPorts() throws InvalidSettingsException {
+        if (!isNormalizedLayout()) {
+            return;
+        }
+        SettingsModelBoolean[] includes = new SettingsModelBoolean[FixtureDetailTables.COUNT];
+        includes[FixtureDetailTables.EVENTS] = m_includeEvents;
+        includes[FixtureDetailTables.LINEUPS] = m_includeLineups;
+        includes[FixtureDetailTables.TEAM_STATISTICS] = m_includeStatistics;
+        includes[FixtureDetailTables.PLAYER_STATISTICS] = m_includePlayerStats;
+        for (int table = 0; table < FixtureDetailTables.COUNT; table++) {
+            if (includes[table].getBooleanValue() && m_detailPorts[table] < 0) {
+                String group = FixtureDetailTables.PORT_GROUPS[table];
+                throw new InvalidSettingsException("The Normalized layout outputs the " + group
+                    + " table to its own port: add the " + group + " output port to the node, or switch to the Wide layout.");
+            }
+        }
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        m_detailTables = null;
+    }
+
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         super.saveSettingsTo(settings);
@@ -1880,6 +2279,10 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         m_includeLineups.saveSettingsTo(settings);
         m_includeStatistics.saveSettingsTo(settings);
         m_includePlayerStats.saveSettingsTo(settings);
+        m_parallelFixtures.saveSettingsTo(settings);
+        m_batchFixtureIds.saveSettingsTo(settings);
+        m_detailFormat.saveSettingsTo(settings);
+        m_outputLayout.saveSettingsTo(settings);
 
         // DateRangePanel settings
         m_dateMode.saveSettingsTo(settings);
@@ -1905,6 +2308,30 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         if (settings.containsKey(CFGKEY_INCLUDE_PLAYER_STATS)) {
             m_includePlayerStats.validateSettings(settings);
         }
+        if (settings.containsKey(CFGKEY_PARALLEL_FIXTURES)) {
+            m_parallelFixtures.validateSettings(settings);
+            int parallelFixtures = settings.getInt(CFGKEY_PARALLEL_FIXTURES);
+            if (parallelFixtures < 1) {
+                throw new InvalidSettingsException("Parallel fixtures must be at least 1");
+            }
+        }
+        if (settings.containsKey(CFGKEY_BATCH_FIXTURE_IDS)) {
+            m_batchFixtureIds.validateSettings(settings);
+        }
+        if (settings.containsKey(CFGKEY_DETAIL_FORMAT)) {
+            m_detailFormat.validateSettings(settings);
+            String detailFormat = settings.getString(CFGKEY_DETAIL_FORMAT);
+            if (!DETAIL_TEXT.equals(detailFormat) && !DETAIL_LISTS.equals(detailFormat)) {
+                throw new InvalidSettingsException("Unknown detail format: " + detailFormat);
+            }
+        }
+        if (settings.containsKey(CFGKEY_OUTPUT_LAYOUT)) {
+            m_outputLayout.validateSettings(settings);
+            String outputLayout = settings.getString(CFGKEY_OUTPUT_LAYOUT);
+            if (!LAYOUT_WIDE.equals(outputLayout) && !LAYOUT_NORMALIZED.equals(outputLayout)) {
+                throw new InvalidSettingsException("Unknown output layout: " + outputLayout);
+            }
+        }
 
         // DateRangePanel settings - backward compatibility
         if (settings.containsKey(CFGKEY_DATE_MODE)) {
@@ -1942,6 +2369,30 @@ public class FixturesNodeModel extends AbstractFootballQueryNodeModel {
         if (settings.containsKey(CFGKEY_INCLUDE_PLAYER_STATS)) {
             m_includePlayerStats.loadSettingsFrom(settings);
         }
+        // Backward compatibility: older workflows fetch with the default parallelism
+        if (settings.containsKey(CFGKEY_PARALLEL_FIXTURES)) {
+            m_parallelFixtures.loadSettingsFrom(settings);
+        } else {
+            m_parallelFixtures.setIntValue(DEFAULT_PARALLEL_FIXTURES);
+        }
+        // Backward compatibility: batching returns the same rows, so older workflows use it too
+        if (settings.containsKey(CFGKEY_BATCH_FIXTURE_IDS)) {
+            m_batchFixtureIds.loadSettingsFrom(settings);
+        } else {
+            m_batchFixtureIds.setBooleanValue(true);
+        }
+        // Backward compatibility: older workflows keep the comma-separated text columns
+        if (settings.containsKey(CFGKEY_DETAIL_FORMAT)) {
+            m_detailFormat.loadSettingsFrom(settings);
+        } else {
+            m_detailFormat.setStringValue(DETAIL_TEXT);
+        }
+        // Backward compatibility: older workflows keep the single wide table
+        if (settings.containsKey(CFGKEY_OUTPUT_LAYOUT)) {
+            m_outputLayout.loadSettingsFrom(settings);
+        } else {
+            m_outputLayout.setStringValue(LAYOUT_WIDE);
+        }
 
         // DateRangePanel settings - backward compatibility
         if (settings.containsKey(CFGKEY_DATE_MODE)) {
@@ -169,20 +169,9 @@ public class FixturesSelectorNodeDialog extends AbstractFootballQueryNodeDialog
         team2Combo.removeAllItems();
         team2Combo.addItem(new TeamItem(-1, "-- Select Team 2 --"));
 
-        if (allTeams != null) {
-            if (selectedLeague != null && selectedLeague.id > 0) {
-                // Filter teams by selected league
-                for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                    if (team.getLeagueIds().contains(selectedLeague.id)) {
-                        team2Combo.addItem(new TeamItem(team.getId(), team.getName()));
-                    }
-                }
-            } else {
-                // No league selected - show all teams
-                for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                    team2Combo.addItem(new TeamItem(team.getId(), team.getName()));
-                }
-            }
+        int leagueId = selectedLeague != null ? selectedLeague.id : -1;
+        for (com.apisports.knime.port.ReferenceData.Team team : getTeamsForLeague(leagueId)) {
+            team2Combo.addItem(new TeamItem(team.getId(), team.getName()));
         }
     }
 
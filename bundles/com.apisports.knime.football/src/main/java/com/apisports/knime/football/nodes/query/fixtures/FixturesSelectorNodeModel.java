@@ -31,14 +31,13 @@ import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.DataType;
-import org.knime.core.node.BufferedDataContainer;
-import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelInteger;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.streamable.RowOutput;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -303,8 +302,8 @@ public class FixturesSelectorNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         // Build query parameters based on query type
@@ -322,15 +321,14 @@ public class FixturesSelectorNodeModel extends AbstractFootballQueryNodeModel {
         exec.setMessage("Querying fixtures from API...");
         JsonNode response = callApi(client, endpoint, params, mapper);
 
-        // Parse response and create output table with basic fixture info only
+        // Parse response and write output rows with basic fixture info only
         exec.setMessage("Parsing results...");
-        BufferedDataTable result = parseFixturesResponse(response, exec);
+        int fixtureCount = parseFixturesResponse(response, output);
 
         // Push flow variables with configuration for downstream nodes
         pushFlowVariables();
 
-        getLogger().info("Retrieved " + result.size() + " fixtures");
-        return result;
+        getLogger().info("Retrieved " + fixtureCount + " fixtures");
     }
 
     /**
@@ -446,29 +444,27 @@ public class FixturesSelectorNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     /**
-     * Parse fixtures API response and create output table with BASIC info only.
+     * Parse fixtures API response and write output rows with BASIC info only.
      * No expensive additional API calls for statistics, lineups, etc.
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parseFixturesResponse(JsonNode response, ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private int parseFixturesResponse(JsonNode response, RowOutput output) throws InterruptedException {
+        int rowNum = 0;
 
         if (response != null && response.isArray()) {
-            int rowNum = 0;
-
             for (JsonNode fixtureItem : response) {
                 try {
                     DataRow row = parseBasicFixtureRow(fixtureItem, rowNum);
-                    container.addRowToTable(row);
+                    output.push(row);
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse fixture row " + rowNum + ": " + e.getMessage());
                 }
             }
         }
 
-        container.close();
-        return container.getTable();
+        return rowNum;
     }
 
     /**
@@ -23,13 +23,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.data.*;
 import org.knime.core.data.def.*;
 import org.knime.core.node.*;
+import org.knime.core.node.streamable.RowOutput;
 import java.util.*;
 
 public class InjuriesNodeModel extends AbstractFootballQueryNodeModel {
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         Map<String, String> params = new HashMap<>();
         params.put("league", String.valueOf(m_leagueId.getIntValue()));
         params.put("season", String.valueOf(m_season.getIntValue()));
@@ -41,12 +42,10 @@ public class InjuriesNodeModel extends AbstractFootballQueryNodeModel {
         exec.setMessage("Querying injuries from API...");
         JsonNode response = callApi(client, "/injuries", params, mapper);
 
-        return parseInjuriesResponse(response, exec);
+        parseInjuriesResponse(response, output);
     }
 
-    private BufferedDataTable parseInjuriesResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private void parseInjuriesResponse(JsonNode response, RowOutput output) throws InterruptedException {
         int rowNum = 0;
 
         if (response != null && response.isArray()) {
@@ -78,16 +77,13 @@ public class InjuriesNodeModel extends AbstractFootballQueryNodeModel {
                         new StringCell(fixtureDate)
                     };
 
-                    container.addRowToTable(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse injury: " + e.getMessage());
                 }
             }
         }
-
-        container.close();
-        return container.getTable();
     }
 
     @Override
@@ -17,6 +17,11 @@
 package com.apisports.knime.football.nodes.query.odds;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.ResponseMapper;
+import com.apisports.knime.core.client.ResponsePager;
+import com.apisports.knime.core.exception.RateLimitExceededException;
+import com.apisports.knime.football.nodes.query.FanOutCheckpoint;
+import com.apisports.knime.football.nodes.query.IdColumnReader;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ReferenceDataPortObject;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,8 +32,19 @@ import org.knime.core.node.*;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -40,13 +56,21 @@ import java.util.*;
  * Input Ports:
  *   0: ApiSportsConnectionPortObject (API connection)
  *   1: ReferenceDataPortObject (reference data)
- *   2: BufferedDataTable (fixtures from Fixtures node)
+ *   2: BufferedDataTable (fixtures from Fixtures node), read row by row when streamed
  *
  * Output Ports:
  *   0: BufferedDataTable (odds results)
  */
 public class OddsNodeModel extends NodeModel {
 
+    private static final String CHECKPOINT_QUERY = "odds/v1";
+    private static final String CHECKPOINT_FILE = "odds-checkpoint.bin";
+
+    /** Fixtures completed by an interrupted run, resumed by the next one. */
+    private FanOutCheckpoint m_checkpoint;
+    /** Set while a run is incomplete, so that the next reset keeps the checkpoint. */
+    private boolean m_keepCheckpoint;
+
     public OddsNodeModel() {
         super(
             new PortType[]{
@@ -62,15 +86,47 @@ public class OddsNodeModel extends NodeModel {
 
     @Override
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(getOutputSpec()));
+        queryOdds(inObjects[0], new DataTableRowInput((BufferedDataTable) inObjects[2]), output, exec);
+        return new PortObject[]{output.getDataTable()};
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // The fixtures table can be read row by row
+        return new InputPortRole[]{
+            InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+            InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+            InputPortRole.NONDISTRIBUTED_STREAMABLE
+        };
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+                                                       final PortObjectSpec[] inSpecs)
+            throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                                 final ExecutionContext exec) throws Exception {
+                queryOdds(((PortObjectInput) inputs[0]).getPortObject(), (RowInput) inputs[2],
+                          (RowOutput) outputs[0], exec);
+            }
+        };
+    }
+
+    /**
+     * Query the odds of each distinct fixture ID as it is read from the input.
+     */
+    private void queryOdds(PortObject connection, RowInput fixturesInput, RowOutput output,
+                           ExecutionContext exec) throws Exception {
         // Get API client from connection port
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
+        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) connection;
         ApiSportsHttpClient client = connectionPort.getClient();
 
-        // Get fixtures table from input port
-        BufferedDataTable fixturesTable = (BufferedDataTable) inObjects[2];
-
         // Find Fixture_ID column
-        DataTableSpec fixturesSpec = fixturesTable.getDataTableSpec();
+        DataTableSpec fixturesSpec = fixturesInput.getDataTableSpec();
         int fixtureIdIdx = fixturesSpec.findColumnIndex("Fixture_ID");
 
         if (fixtureIdIdx < 0) {
@@ -78,81 +134,98 @@ public class OddsNodeModel extends NodeModel {
                 "Input table must contain a 'Fixture_ID' column. Please connect a Fixtures node output.");
         }
 
-        // Collect unique fixture IDs from input table
-        Set<Integer> fixtureIds = new LinkedHashSet<>();
-        RowIterator rowIterator = fixturesTable.iterator();
-        while (rowIterator.hasNext()) {
-            DataRow row = rowIterator.next();
-            DataCell cell = row.getCell(fixtureIdIdx);
-            if (!cell.isMissing() && cell instanceof IntCell) {
-                fixtureIds.add(((IntCell) cell).getIntValue());
-            }
-        }
-
-        if (fixtureIds.isEmpty()) {
-            throw new InvalidSettingsException(
-                "No fixture IDs found in input table. Please ensure the Fixtures node executed successfully.");
-        }
+        // Unique fixture IDs, read as the queries go
+        IdColumnReader fixtureIds = new IdColumnReader(fixturesInput, fixtureIdIdx, true);
 
-        getLogger().info("Processing odds for " + fixtureIds.size() + " fixtures");
-        System.out.println("=============================================================");
-        System.out.println("ODDS NODE: Processing odds for " + fixtureIds.size() + " fixtures");
-        System.out.println("Fixture IDs from input: " + fixtureIds);
-        System.out.println("=============================================================");
+        // Fixtures completed by a previous run are replayed from the checkpoint
+        m_checkpoint = FanOutCheckpoint.resume(m_checkpoint, FanOutCheckpoint.fingerprint(CHECKPOINT_QUERY, client));
+        m_keepCheckpoint = true;
 
         // Query odds for each fixture and aggregate results
-        ObjectMapper mapper = new ObjectMapper();
-        DataTableSpec outputSpec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(outputSpec);
+        ObjectMapper mapper = ResponseMapper.getMapper();
+        ResponsePager pager = new ResponsePager(client, mapper);
         int rowNum = 0;
-        int fixtureCount = 0;
+        int fixturesResumed = 0;
+        int fixturesFailed = 0;
+        RateLimitExceededException rateLimited = null;
 
-        for (Integer fixtureId : fixtureIds) {
+        Integer fixtureId;
+        while ((fixtureId = fixtureIds.next()) != null) {
             exec.checkCanceled();
-            exec.setProgress((double) fixtureCount / fixtureIds.size(),
-                "Querying odds for fixture " + fixtureId);
+            fixtureIds.reportProgress(exec, "Querying odds for fixture " + fixtureId);
 
+            if (m_checkpoint.isCompleted(fixtureId)) {
+                for (DataCell[] cells : m_checkpoint.getRows(fixtureId)) {
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    rowNum++;
+                }
+                fixturesResumed++;
+                continue;
+            }
+
+            // Rows are collected as each odds item is parsed, and only output once all pages are in
+            OddsRowWriter writer = new OddsRowWriter(rowNum, fixtureId);
+            boolean completed = false;
             try {
                 Map<String, String> params = new HashMap<>();
                 params.put("fixture", String.valueOf(fixtureId));
 
-                System.out.println("\n--- Querying odds for fixture ID: " + fixtureId + " ---");
-                System.out.println("API endpoint: /odds with params: " + params);
-
-                JsonNode response = callApi(client, "/odds", params, mapper);
+                getLogger().debug("Querying /odds with params: " + params);
 
-                // Log response size for debugging
-                if (response != null && response.isArray()) {
-                    System.out.println("API returned " + response.size() + " odds items");
-
-                    // Log first item's fixture ID to see what we're getting
-                    if (response.size() > 0) {
-                        JsonNode firstItem = response.get(0);
-                        JsonNode firstFixture = firstItem.get("fixture");
-                        int firstFixtureId = firstFixture != null && firstFixture.has("id") ?
-                            firstFixture.get("id").asInt() : -1;
-                        System.out.println("First odds item has fixture ID: " + firstFixtureId);
-                        System.out.println("REQUESTED: " + fixtureId + " | RECEIVED: " + firstFixtureId +
-                                         " | MATCH: " + (fixtureId == firstFixtureId));
-                    }
-                } else {
-                    System.out.println("API returned null or non-array response");
+                ResponsePager.Result result = pager.fetchAll("/odds", params, writer::addOddsItem);
+                getLogger().debug("API returned " + result.elements() + " odds items in "
+                    + result.pagesFetched() + " page(s)");
+                if (result.isTruncated()) {
+                    getLogger().warn("Only the first " + result.pagesFetched() + " of " + result.totalPages()
+                        + " odds pages were retrieved for fixture " + fixtureId);
                 }
-
-                // Pass the requested fixture ID to parser for validation
-                int rowsBefore = rowNum;
-                int addedRows = parseOddsResponse(response, container, rowNum, fixtureId, exec);
-                System.out.println("Added " + (addedRows - rowsBefore) + " odds rows for fixture " + fixtureId);
-                rowNum = addedRows;
+                writer.logSummary();
+                getLogger().debug("Collected " + (writer.rowNum - rowNum) + " odds rows for fixture " + fixtureId);
+                completed = true;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (RateLimitExceededException e) {
+                // Stop here, executing again resumes with the remaining fixtures
+                rateLimited = e;
+                break;
             } catch (Exception e) {
-                System.out.println("ERROR: Failed to get odds for fixture " + fixtureId + ": " + e.getMessage());
+                getLogger().warn("Failed to get odds for fixture " + fixtureId + ": " + e.getMessage());
+                fixturesFailed++;
             }
+            if (completed) {
+                for (DataRow row : writer.rows) {
+                    output.push(row);
+                }
+                m_checkpoint.complete(fixtureId, writer.rows);
+                rowNum = writer.rowNum;
+            }
+        }
+        fixturesInput.close();
+
+        if (rateLimited != null) {
+            // Output what is done and keep the checkpoint, which is saved with the node
+            setWarningMessage("API rate limit reached after " + m_checkpoint.getCompletedCount()
+                + " fixture(s): " + rateLimited.getMessage() + ". The completed fixtures are kept;"
+                + " reset and execute again once the limit resets to query the remaining ones.");
+            output.close();
+            return;
+        }
 
-            fixtureCount++;
+        if (fixtureIds.getIdCount() == 0) {
+            throw new InvalidSettingsException(
+                "No fixture IDs found in input table. Please ensure the Fixtures node executed successfully.");
         }
 
-        container.close();
-        return new PortObject[]{container.getTable()};
+        getLogger().info("Processed odds for " + fixtureIds.getIdCount() + " fixtures ("
+            + fixturesResumed + " resumed from checkpoint)");
+        // The run is complete, nothing left to resume
+        m_checkpoint.discard();
+        m_checkpoint = null;
+        m_keepCheckpoint = false;
+        if (fixturesFailed > 0) {
+            setWarningMessage(fixturesFailed + " fixture(s) failed and have no odds in the output.");
+        }
+        output.close();
     }
 
     @Override
@@ -182,97 +255,80 @@ public class OddsNodeModel extends NodeModel {
     }
 
     /**
-     * Make API call to Football API.
+     * Collects the rows of one fixture's odds items as they are parsed.
+     * Only odds for the requested fixture ID are included.
      */
-    private JsonNode callApi(ApiSportsHttpClient client, String endpoint,
-                            Map<String, String> params, ObjectMapper mapper) throws Exception {
-        String jsonResponse = client.get(endpoint, params);
-        JsonNode root = mapper.readTree(jsonResponse);
-
-        // Check for errors
-        if (root.has("errors") && !root.get("errors").isEmpty()) {
-            throw new Exception("API returned errors: " + root.get("errors").toString());
-        }
+    class OddsRowWriter {
+        private final int requestedFixtureId;
+        /** Rows of the fixture, output and recorded in the checkpoint once all its pages are in. */
+        final List<DataRow> rows = new ArrayList<>();
+        int rowNum;
+        int processedItems = 0;
+        int skippedItems = 0;
 
-        // Return response array
-        return root.has("response") ? root.get("response") : null;
-    }
+        OddsRowWriter(int startRowNum, int requestedFixtureId) {
+            this.rowNum = startRowNum;
+            this.requestedFixtureId = requestedFixtureId;
+        }
 
-    /**
-     * Parse odds API response and add rows to container.
-     * Only includes odds for the requested fixture ID.
-     * Returns the updated row number.
-     */
-    private int parseOddsResponse(JsonNode response, BufferedDataContainer container, int startRowNum,
-                                  int requestedFixtureId, ExecutionContext exec) {
-        int rowNum = startRowNum;
-        int skippedItems = 0;
-        int processedItems = 0;
+        void addOddsItem(JsonNode oddsItem) {
+            try {
+                // Each odds item may have multiple bookmakers and bets
+                JsonNode fixture = oddsItem.get("fixture");
+                JsonNode league = oddsItem.get("league");
+                JsonNode bookmakers = oddsItem.get("bookmakers");
+
+                int fixtureId = fixture != null && fixture.has("id") ? fixture.get("id").asInt() : 0;
+
+                // VALIDATE: Only process odds for the requested fixture
+                if (fixtureId != requestedFixtureId) {
+                    getLogger().debug("Skipping odds of fixture " + fixtureId +
+                                     " (expected " + requestedFixtureId + ")");
+                    skippedItems++;
+                    return;
+                }
 
-        if (response != null && response.isArray()) {
-            System.out.println("  Parsing " + response.size() + " odds items, expecting fixture ID: " + requestedFixtureId);
+                processedItems++;
 
-            for (JsonNode oddsItem : response) {
-                try {
-                    // Each odds item may have multiple bookmakers and bets
-                    JsonNode fixture = oddsItem.get("fixture");
-                    JsonNode league = oddsItem.get("league");
-                    JsonNode bookmakers = oddsItem.get("bookmakers");
+                String leagueName = league != null && league.has("name") ? league.get("name").asText() : "";
 
-                    int fixtureId = fixture != null && fixture.has("id") ? fixture.get("id").asInt() : 0;
+                if (bookmakers != null && bookmakers.isArray()) {
+                    for (JsonNode bookmaker : bookmakers) {
+                        String bookmakerId = bookmaker.has("id") ? String.valueOf(bookmaker.get("id").asInt()) : "";
+                        String bookmakerName = bookmaker.has("name") ? bookmaker.get("name").asText() : "";
 
-                    // VALIDATE: Only process odds for the requested fixture
-                    if (fixtureId != requestedFixtureId) {
-                        System.out.println("  MISMATCH: Skipping fixture " + fixtureId +
-                                         " (expected " + requestedFixtureId + ")");
-                        skippedItems++;
-                        continue;
-                    }
+                        JsonNode bets = bookmaker.get("bets");
+                        if (bets != null && bets.isArray()) {
+                            for (JsonNode bet : bets) {
+                                String betName = bet.has("name") ? bet.get("name").asText() : "";
 
-                    System.out.println("  MATCH: Processing odds for fixture " + fixtureId);
-                    processedItems++;
-
-                    String leagueName = league != null && league.has("name") ? league.get("name").asText() : "";
-
-                    if (bookmakers != null && bookmakers.isArray()) {
-                        for (JsonNode bookmaker : bookmakers) {
-                            String bookmakerId = bookmaker.has("id") ? String.valueOf(bookmaker.get("id").asInt()) : "";
-                            String bookmakerName = bookmaker.has("name") ? bookmaker.get("name").asText() : "";
-
-                            JsonNode bets = bookmaker.get("bets");
-                            if (bets != null && bets.isArray()) {
-                                for (JsonNode bet : bets) {
-                                    String betName = bet.has("name") ? bet.get("name").asText() : "";
-
-                                    JsonNode values = bet.get("values");
-                                    if (values != null && values.isArray()) {
-                                        for (JsonNode value : values) {
-                                            DataRow row = parseOddsRow(fixtureId, leagueName, bookmakerId,
-                                                                       bookmakerName, betName, value, rowNum);
-                                            container.addRowToTable(row);
-                                            rowNum++;
-                                        }
+                                JsonNode values = bet.get("values");
+                                if (values != null && values.isArray()) {
+                                    for (JsonNode value : values) {
+                                        DataRow row = parseOddsRow(fixtureId, leagueName, bookmakerId,
+                                                                   bookmakerName, betName, value, rowNum);
+                                        rows.add(row);
+                                        rowNum++;
                                     }
                                 }
                             }
                         }
                     }
-                } catch (Exception e) {
-                    getLogger().warn("Failed to parse odds row: " + e.getMessage());
                 }
+            } catch (RuntimeException e) {
+                getLogger().warn("Failed to parse odds row: " + e.getMessage());
             }
+        }
 
-            System.out.println("  Summary: " + processedItems + " items MATCHED, " +
-                             skippedItems + " items SKIPPED");
+        void logSummary() {
+            getLogger().debug("Odds items of fixture " + requestedFixtureId + ": " + processedItems + " matched, "
+                + skippedItems + " skipped");
 
             if (skippedItems > 0) {
-                System.out.println("  WARNING: Skipped " + skippedItems + " odds items with mismatched fixture IDs");
+                getLogger().warn("Skipped " + skippedItems + " odds items with mismatched fixture IDs for fixture "
+                    + requestedFixtureId);
             }
-        } else {
-            System.out.println("  Response is null or not an array");
         }
-
-        return rowNum;
     }
 
     /**
@@ -325,16 +381,36 @@ public class OddsNodeModel extends NodeModel {
 
     @Override
     protected void reset() {
-        // Nothing to reset
+        // Only the checkpoint of an incomplete run is resumed, by executing again
+        if (!m_keepCheckpoint && m_checkpoint != null) {
+            m_checkpoint.discard();
+            m_checkpoint = null;
+        }
+        m_keepCheckpoint = false;
     }
 
     @Override
-    protected void loadInternals(File nodeInternDir, ExecutionMonitor exec) {
-        // No internals to load
+    protected void onDispose() {
+        if (m_checkpoint != null) {
+            m_checkpoint.discard();
+            m_checkpoint = null;
+        }
     }
 
     @Override
-    protected void saveInternals(File nodeInternDir, ExecutionMonitor exec) {
-        // No internals to save
+    protected void loadInternals(File nodeInternDir, ExecutionMonitor exec) throws IOException {
+        File checkpointFile = new File(nodeInternDir, CHECKPOINT_FILE);
+        if (checkpointFile.exists()) {
+            m_checkpoint = FanOutCheckpoint.load(checkpointFile.toPath());
+            m_keepCheckpoint = m_checkpoint != null;
+        }
+    }
+
+    @Override
+    protected void saveInternals(File nodeInternDir, ExecutionMonitor exec) throws IOException {
+        // Only left after a run stopped by the rate limit
+        if (m_checkpoint != null) {
+            m_checkpoint.saveTo(new File(nodeInternDir, CHECKPOINT_FILE).toPath());
+        }
     }
 }
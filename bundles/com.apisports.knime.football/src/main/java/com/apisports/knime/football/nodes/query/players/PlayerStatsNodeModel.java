@@ -17,7 +17,10 @@
 package com.apisports.knime.football.nodes.query.players;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.exception.RateLimitExceededException;
 import com.apisports.knime.football.nodes.query.AbstractFootballQueryNodeModel;
+import com.apisports.knime.football.nodes.query.FanOutCheckpoint;
+import com.apisports.knime.football.nodes.query.IdColumnReader;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ReferenceDataPortObject;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -32,16 +35,19 @@ import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.DataType;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -64,6 +70,14 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
     protected final SettingsModelString m_fixtureId =
         new SettingsModelString(CFGKEY_FIXTURE_ID, "");
 
+    private static final String CHECKPOINT_QUERY = "fixtures/players/v1";
+    private static final String CHECKPOINT_FILE = "player-stats-checkpoint.bin";
+
+    /** Fixtures completed by an interrupted run, resumed by the next one. */
+    private FanOutCheckpoint m_checkpoint;
+    /** Set while a run is incomplete, so that the next reset keeps the checkpoint. */
+    private boolean m_keepCheckpoint;
+
     /**
      * Constructor with optional third input port for Player IDs or Fixture IDs.
      */
@@ -80,46 +94,13 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
         );
     }
 
-    @Override
-    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
-        // Get API client from connection port
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
-        ApiSportsHttpClient client = connectionPort.getClient();
-
-        // Get reference data from port
-        ReferenceDataPortObject refDataPort = (ReferenceDataPortObject) inObjects[1];
-        m_dbPath = refDataPort.getDbPath();
-
-        // Load reference data from database
-        loadReferenceData();
-
-        // Check if optional input port is connected
-        BufferedDataTable inputTable = null;
-        if (inObjects.length > 2 && inObjects[2] != null) {
-            inputTable = (BufferedDataTable) inObjects[2];
-            getLogger().info("Input port connected - using " + inputTable.size() + " IDs");
-        }
-
-        // If input table provided, extract IDs and query
-        if (inputTable != null) {
-            BufferedDataTable result = executeWithInputTable(inputTable, client, new ObjectMapper(), exec);
-            return new PortObject[]{result};
-        } else {
-            // No input - validate settings and use dialog configuration
-            validateExecutionSettings();
-            BufferedDataTable result = executeQuery(client, new ObjectMapper(), exec);
-            return new PortObject[]{result};
-        }
-    }
-
     /**
      * Execute query using input table (either Player_ID or Fixture_ID column).
      */
-    private BufferedDataTable executeWithInputTable(BufferedDataTable inputTable,
-                                                      ApiSportsHttpClient client,
-                                                      ObjectMapper mapper,
-                                                      ExecutionContext exec) throws Exception {
-        DataTableSpec spec = inputTable.getDataTableSpec();
+    @Override
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper, RowInput input,
+                                RowOutput output, ExecutionContext exec) throws Exception {
+        DataTableSpec spec = input.getDataTableSpec();
 
         // Check which type of ID column is present
         int fixtureIdColIndex = spec.findColumnIndex("Fixture_ID");
@@ -127,9 +108,9 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
 
         if (fixtureIdColIndex >= 0) {
             // Fixture IDs provided - get player stats for all players in those fixtures
-            List<Integer> fixtureIds = extractIntColumn(inputTable, fixtureIdColIndex);
-            getLogger().info("Querying player stats for " + fixtureIds.size() + " fixtures");
-            return queryByFixtureIds(fixtureIds, client, mapper, exec);
+            IdColumnReader fixtureIds = new IdColumnReader(input, fixtureIdColIndex, false);
+            queryByFixtureIds(fixtureIds, client, mapper, output, exec);
+            getLogger().info("Queried player stats for " + fixtureIds.getIdCount() + " fixtures");
 
         } else if (playerIdColIndex >= 0) {
             // Player IDs provided - get stats for specific players
@@ -146,37 +127,38 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     /**
-     * Extract integer values from a specific column in the input table.
+     * Query player stats for specific fixture IDs, as they are read from the input.
+     * Fixtures completed by a previous, interrupted run are replayed from the checkpoint.
      */
-    private List<Integer> extractIntColumn(BufferedDataTable table, int columnIndex) {
-        List<Integer> values = new ArrayList<>();
-        for (DataRow row : table) {
-            DataCell cell = row.getCell(columnIndex);
-            if (!cell.isMissing() && cell instanceof IntCell) {
-                values.add(((IntCell) cell).getIntValue());
-            }
-        }
-        return values;
-    }
-
-    /**
-     * Query player stats for specific fixture IDs.
-     */
-    private BufferedDataTable queryByFixtureIds(List<Integer> fixtureIds,
-                                                  ApiSportsHttpClient client,
-                                                  ObjectMapper mapper,
-                                                  ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private void queryByFixtureIds(IdColumnReader fixtureIds,
+                                   ApiSportsHttpClient client,
+                                   ObjectMapper mapper,
+                                   RowOutput output,
+                                   ExecutionContext exec) throws Exception {
+        m_checkpoint = FanOutCheckpoint.resume(m_checkpoint, FanOutCheckpoint.fingerprint(CHECKPOINT_QUERY, client,
+            m_leagueId.getIntValue(), m_season.getIntValue(), m_teamId.getIntValue(), m_fixtureId.getStringValue()));
+        m_keepCheckpoint = true;
 
         int rowNum = 0;
-        int fixtureCount = 0;
+        int fixturesResumed = 0;
+        int fixturesFailed = 0;
+        RateLimitExceededException rateLimited = null;
 
-        for (Integer fixtureId : fixtureIds) {
+        Integer fixtureId;
+        while ((fixtureId = fixtureIds.next()) != null) {
             exec.checkCanceled();
-            exec.setProgress((double) fixtureCount / fixtureIds.size(),
-                "Processing fixture " + (fixtureCount + 1) + " of " + fixtureIds.size());
+            fixtureIds.reportProgress(exec, "Processing fixture " + fixtureIds.getIdCount());
 
+            if (m_checkpoint.isCompleted(fixtureId)) {
+                for (DataCell[] cells : m_checkpoint.getRows(fixtureId)) {
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    rowNum++;
+                }
+                fixturesResumed++;
+                continue;
+            }
+
+            List<DataRow> fixtureRows = new ArrayList<>();
             Map<String, String> params = new HashMap<>();
             params.put("fixture", String.valueOf(fixtureId));
 
@@ -189,10 +171,9 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
                         if (players != null && players.isArray()) {
                             for (JsonNode playerData : players) {
                                 try {
-                                    DataRow row = parsePlayerStatsRow(fixtureId, teamData, playerData, rowNum);
-                                    container.addRowToTable(row);
-                                    rowNum++;
-                                } catch (Exception e) {
+                                    fixtureRows.add(parsePlayerStatsRow(fixtureId, teamData, playerData,
+                                                                        rowNum + fixtureRows.size()));
+                                } catch (RuntimeException e) {
                                     getLogger().warn("Failed to parse player stats for fixture " +
                                         fixtureId + ": " + e.getMessage());
                                 }
@@ -200,16 +181,42 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
                         }
                     }
                 }
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (RateLimitExceededException e) {
+                // Stop here, executing again resumes with the remaining fixtures
+                rateLimited = e;
+                break;
             } catch (Exception e) {
                 getLogger().warn("Failed to get player stats for fixture " + fixtureId + ": " + e.getMessage());
+                fixturesFailed++;
+                continue;
+            }
+            // Only output the fixture's rows once all of them are in
+            for (DataRow row : fixtureRows) {
+                output.push(row);
             }
+            rowNum += fixtureRows.size();
+            m_checkpoint.complete(fixtureId, fixtureRows);
+        }
 
-            fixtureCount++;
+        if (rateLimited != null) {
+            // Output what is done and keep the checkpoint, which is saved with the node
+            setWarningMessage("API rate limit reached after " + m_checkpoint.getCompletedCount()
+                + " fixture(s): " + rateLimited.getMessage() + ". The completed fixtures are kept;"
+                + " reset and execute again once the limit resets to query the remaining ones.");
+            return;
         }
 
-        container.close();
-        getLogger().info("Retrieved " + rowNum + " player performance records");
-        return container.getTable();
+        getLogger().info("Retrieved " + rowNum + " player performance records ("
+            + fixturesResumed + " fixtures resumed from checkpoint)");
+        // The run is complete, nothing left to resume
+        m_checkpoint.discard();
+        m_checkpoint = null;
+        m_keepCheckpoint = false;
+        if (fixturesFailed > 0) {
+            setWarningMessage(fixturesFailed + " fixture(s) failed and have no player stats in the output.");
+        }
     }
 
     @Override
@@ -220,8 +227,8 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         Map<String, String> params = new HashMap<>();
@@ -231,19 +238,17 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
         JsonNode response = callApi(client, "/fixtures/players", params, mapper);
 
         exec.setMessage("Parsing results...");
-        BufferedDataTable result = parsePlayerStatsResponse(response, exec);
+        int recordCount = parsePlayerStatsResponse(response, output);
 
-        getLogger().info("Retrieved " + result.size() + " player performance records");
-        return result;
+        getLogger().info("Retrieved " + recordCount + " player performance records");
     }
 
     /**
      * Parse player stats API response for a single fixture.
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parsePlayerStatsResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
-
+    private int parsePlayerStatsResponse(JsonNode response, RowOutput output) throws InterruptedException {
         int rowNum = 0;
 
         if (response != null && response.isArray()) {
@@ -256,9 +261,9 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
                             // Parse fixture ID from input setting
                             int fixtureId = Integer.parseInt(m_fixtureId.getStringValue());
                             DataRow row = parsePlayerStatsRow(fixtureId, teamData, playerData, rowNum);
-                            container.addRowToTable(row);
+                            output.push(row);
                             rowNum++;
-                        } catch (Exception e) {
+                        } catch (RuntimeException e) {
                             getLogger().warn("Failed to parse player stats row: " + e.getMessage());
                         }
                     }
@@ -266,8 +271,7 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
             }
         }
 
-        container.close();
-        return container.getTable();
+        return rowNum;
     }
 
     /**
@@ -369,6 +373,42 @@ public class PlayerStatsNodeModel extends AbstractFootballQueryNodeModel {
         return DataType.getMissingCell();
     }
 
+    @Override
+    protected void reset() {
+        super.reset();
+        // Only the checkpoint of an incomplete run is resumed, by executing again
+        if (!m_keepCheckpoint && m_checkpoint != null) {
+            m_checkpoint.discard();
+            m_checkpoint = null;
+        }
+        m_keepCheckpoint = false;
+    }
+
+    @Override
+    protected void onDispose() {
+        if (m_checkpoint != null) {
+            m_checkpoint.discard();
+            m_checkpoint = null;
+        }
+    }
+
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec) throws IOException {
+        File checkpointFile = new File(nodeInternDir, CHECKPOINT_FILE);
+        if (checkpointFile.exists()) {
+            m_checkpoint = FanOutCheckpoint.load(checkpointFile.toPath());
+            m_keepCheckpoint = m_checkpoint != null;
+        }
+    }
+
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) throws IOException {
+        // Only left after a run stopped by the rate limit
+        if (m_checkpoint != null) {
+            m_checkpoint.saveTo(new File(nodeInternDir, CHECKPOINT_FILE).toPath());
+        }
+    }
+
     @Override
     protected DataTableSpec getOutputSpec() {
         java.util.List<DataColumnSpec> columns = new java.util.ArrayList<>();
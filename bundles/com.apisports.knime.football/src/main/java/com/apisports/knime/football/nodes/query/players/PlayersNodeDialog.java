@@ -152,13 +152,9 @@ public class PlayersNodeDialog extends AbstractFootballQueryNodeDialog {
         }
 
         // Update season combo (from parent logic)
-        if (allSeasons != null) {
-            seasonCombo.removeAllItems();
-            for (com.apisports.knime.port.ReferenceData.Season season : allSeasons) {
-                if (season.getLeagueId() == selectedLeague.id) {
-                    seasonCombo.addItem(season.getYear());
-                }
-            }
+        seasonCombo.removeAllItems();
+        for (com.apisports.knime.port.ReferenceData.Season season : getSeasonsForLeague(selectedLeague.id)) {
+            seasonCombo.addItem(season.getYear());
         }
 
         // Populate team list (replaces parent's teamCombo logic)
@@ -176,12 +172,8 @@ public class PlayersNodeDialog extends AbstractFootballQueryNodeDialog {
 
         teamListModel.clear();
 
-        if (allTeams != null) {
-            for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                if (team.getLeagueIds().contains(selectedLeague.id)) {
-                    teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
-                }
-            }
+        for (com.apisports.knime.port.ReferenceData.Team team : getTeamsForLeague(selectedLeague.id)) {
+            teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
         }
     }
 
@@ -18,6 +18,7 @@ package com.apisports.knime.football.nodes.query.players;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
 import com.apisports.knime.football.nodes.query.AbstractFootballQueryNodeModel;
+import com.apisports.knime.football.nodes.query.IdColumnReader;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ReferenceDataPortObject;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -31,20 +32,18 @@ import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
-import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -128,61 +127,35 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
-        // Get API client from connection port
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
-        ApiSportsHttpClient client = connectionPort.getClient();
-
-        // Get reference data from port
-        ReferenceDataPortObject refDataPort = (ReferenceDataPortObject) inObjects[1];
-        m_dbPath = refDataPort.getDbPath();
-
-        // Load reference data from database
-        loadReferenceData();
-
-        // Check if optional player IDs port is connected
-        BufferedDataTable playerIdsTable = null;
-        if (inObjects.length > 2 && inObjects[2] != null) {
-            playerIdsTable = (BufferedDataTable) inObjects[2];
-            getLogger().info("Player IDs input port connected - using " + playerIdsTable.size() + " player IDs");
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper, RowInput input,
+                                RowOutput output, ExecutionContext exec) throws Exception {
+        // Find Player_ID column
+        int playerIdColIndex = input.getDataTableSpec().findColumnIndex("Player_ID");
+        if (playerIdColIndex < 0) {
+            throw new InvalidSettingsException(
+                "Input table must contain a 'Player_ID' column");
         }
 
-        // If player IDs provided via input port, query each player individually
-        if (playerIdsTable != null) {
-            // Extract Player_ID column from input table
-            List<Integer> playerIds = extractPlayerIds(playerIdsTable);
-            if (playerIds.isEmpty()) {
-                throw new InvalidSettingsException(
-                    "Input table is connected but contains no Player_ID values");
-            }
-
-            getLogger().info("Querying details for " + playerIds.size() + " players using individual queries");
-
-            // Query players individually to avoid API issues with comma-separated IDs
-            BufferedDataTable result = queryPlayersByIds(playerIds, client, new ObjectMapper(), exec);
-            return new PortObject[]{result};
-        } else {
-            // No player IDs input - validate settings and use dialog configuration
-            validateExecutionSettings();
-            BufferedDataTable result = executeQuery(client, new ObjectMapper(), exec);
-            return new PortObject[]{result};
+        // Query players individually to avoid API issues with comma-separated IDs
+        IdColumnReader playerIds = new IdColumnReader(input, playerIdColIndex, false);
+        queryPlayersByIds(playerIds, client, mapper, output, exec);
+        if (playerIds.getIdCount() == 0) {
+            throw new InvalidSettingsException(
+                "Input table is connected but contains no Player_ID values");
         }
     }
 
     /**
      * Query multiple players by ID (one API call per player) and combine results.
      * This ensures reliable results even when the API doesn't properly handle comma-separated IDs.
+     * IDs are read from the input as the queries go, so streamed rows are queried as they arrive.
      */
-    private BufferedDataTable queryPlayersByIds(List<Integer> playerIds,
-                                                  ApiSportsHttpClient client,
-                                                  ObjectMapper mapper,
-                                                  ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
-
+    private void queryPlayersByIds(IdColumnReader playerIds,
+                                   ApiSportsHttpClient client,
+                                   ObjectMapper mapper,
+                                   RowOutput output,
+                                   ExecutionContext exec) throws Exception {
         int rowNum = 0;
-        int playerCount = 0;
-        int totalPlayers = playerIds.size();
         int playersSkipped = 0;
 
         // Temporarily override settings for ID-based queries
@@ -191,10 +164,10 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
         m_queryType.setStringValue(QUERY_BY_ID);
 
         try {
-            for (Integer playerId : playerIds) {
+            Integer playerId;
+            while ((playerId = playerIds.next()) != null) {
                 exec.checkCanceled();
-                exec.setProgress((double) playerCount / totalPlayers,
-                    "Processing player " + (playerCount + 1) + " of " + totalPlayers);
+                playerIds.reportProgress(exec, "Processing player " + playerIds.getIdCount());
 
                 // Set this single player ID
                 m_playerId.setStringValue(String.valueOf(playerId));
@@ -211,19 +184,19 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
                         for (JsonNode playerItem : response) {
                             try {
                                 DataRow row = parsePlayerRow(playerItem, rowNum);
-                                container.addRowToTable(row);
+                                output.push(row);
                                 rowNum++;
-                            } catch (Exception e) {
+                            } catch (RuntimeException e) {
                                 getLogger().warn("Failed to parse player " + playerId + ": " + e.getMessage());
                             }
                         }
                     }
+                } catch (InterruptedException e) {
+                    throw e;
                 } catch (Exception e) {
                     getLogger().warn("Failed to get details for player " + playerId + ": " + e.getMessage());
                     playersSkipped++;
                 }
-
-                playerCount++;
             }
         } finally {
             // Restore original settings
@@ -231,11 +204,9 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
             m_playerId.setStringValue(originalPlayerId);
         }
 
-        container.close();
-
         // Log summary with error information
         StringBuilder summary = new StringBuilder();
-        summary.append("Retrieved detailed data for ").append(rowNum).append(" of ").append(totalPlayers).append(" players");
+        summary.append("Retrieved detailed data for ").append(rowNum).append(" of ").append(playerIds.getIdCount()).append(" players");
         if (playersSkipped > 0) {
             summary.append(" (").append(playersSkipped).append(" skipped due to errors)");
         }
@@ -245,32 +216,6 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
         if (playersSkipped > 0) {
             setWarningMessage(playersSkipped + " player(s) could not be retrieved. Check console for details.");
         }
-
-        return container.getTable();
-    }
-
-    /**
-     * Extract Player_ID column from input table.
-     */
-    private List<Integer> extractPlayerIds(BufferedDataTable table) throws InvalidSettingsException {
-        DataTableSpec spec = table.getDataTableSpec();
-
-        // Find Player_ID column
-        int playerIdColIndex = spec.findColumnIndex("Player_ID");
-        if (playerIdColIndex < 0) {
-            throw new InvalidSettingsException(
-                "Input table must contain a 'Player_ID' column");
-        }
-
-        List<Integer> playerIds = new ArrayList<>();
-        for (DataRow row : table) {
-            DataCell cell = row.getCell(playerIdColIndex);
-            if (!cell.isMissing() && cell instanceof IntCell) {
-                playerIds.add(((IntCell) cell).getIntValue());
-            }
-        }
-
-        return playerIds;
     }
 
     @Override
@@ -295,8 +240,8 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         // Build query parameters based on query type
@@ -306,14 +251,9 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
         String queryType = m_queryType.getStringValue();
         String endpoint = getEndpoint(queryType);
         exec.setMessage("Querying players from API...");
-        JsonNode response = callApi(client, endpoint, params, mapper);
-
-        // Parse response and create output table
-        exec.setMessage("Parsing results...");
-        BufferedDataTable result = parsePlayersResponse(response, exec);
+        int playerCount = streamPlayersResponse(client, endpoint, params, mapper, output, exec);
 
-        getLogger().info("Retrieved " + result.size() + " player records");
-        return result;
+        getLogger().info("Retrieved " + playerCount + " player records");
     }
 
     /**
@@ -372,34 +312,34 @@ public class PlayersNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     /**
-     * Parse players API response and create output table.
+     * Query players across all pages and write them to the output.
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parsePlayersResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
-
-        if (response != null && response.isArray()) {
-            int rowNum = 0;
-
-            for (JsonNode playerItem : response) {
-                try {
-                    DataRow row = parsePlayerRow(playerItem, rowNum);
-                    container.addRowToTable(row);
-                    rowNum++;
-                } catch (Exception e) {
-                    getLogger().warn("Failed to parse player row: " + e.getMessage());
-                }
+    private int streamPlayersResponse(ApiSportsHttpClient client, String endpoint,
+                                      Map<String, String> params, ObjectMapper mapper,
+                                      RowOutput output, ExecutionContext exec) throws Exception {
+        int[] rowNum = {0};
+
+        streamApi(client, endpoint, params, mapper, playerItem -> {
+            exec.checkCanceled();
+            try {
+                DataRow row = parsePlayerRow(playerItem, rowNum[0]);
+                output.push(row);
+                rowNum[0]++;
+            } catch (RuntimeException e) {
+                getLogger().warn("Failed to parse player row: " + e.getMessage());
             }
-        }
+            exec.setMessage("Parsed " + rowNum[0] + " players");
+        });
 
-        container.close();
-        return container.getTable();
+        return rowNum[0];
     }
 
     /**
      * Parse a single player JSON object into a DataRow.
      */
-    private DataRow parsePlayerRow(JsonNode playerItem, int rowNum) {
+    DataRow parsePlayerRow(JsonNode playerItem, int rowNum) {
         JsonNode player = playerItem.get("player");
         JsonNode statistics = playerItem.get("statistics");
 
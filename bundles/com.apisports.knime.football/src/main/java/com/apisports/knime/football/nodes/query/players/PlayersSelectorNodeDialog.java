@@ -151,13 +151,9 @@ public class PlayersSelectorNodeDialog extends AbstractFootballQueryNodeDialog {
         }
 
         // Update season combo (from parent logic)
-        if (allSeasons != null) {
-            seasonCombo.removeAllItems();
-            for (com.apisports.knime.port.ReferenceData.Season season : allSeasons) {
-                if (season.getLeagueId() == selectedLeague.id) {
-                    seasonCombo.addItem(season.getYear());
-                }
-            }
+        seasonCombo.removeAllItems();
+        for (com.apisports.knime.port.ReferenceData.Season season : getSeasonsForLeague(selectedLeague.id)) {
+            seasonCombo.addItem(season.getYear());
         }
 
         // Populate team list (replaces parent's teamCombo logic)
@@ -172,20 +168,9 @@ public class PlayersSelectorNodeDialog extends AbstractFootballQueryNodeDialog {
 
         teamListModel.clear();
 
-        if (allTeams != null) {
-            if (selectedLeague != null && selectedLeague.id > 0) {
-                // Filter teams by selected league
-                for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                    if (team.getLeagueIds().contains(selectedLeague.id)) {
-                        teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
-                    }
-                }
-            } else {
-                // No league selected - show all teams
-                for (com.apisports.knime.port.ReferenceData.Team team : allTeams) {
-                    teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
-                }
-            }
+        int leagueId = selectedLeague != null ? selectedLeague.id : -1;
+        for (com.apisports.knime.port.ReferenceData.Team team : getTeamsForLeague(leagueId)) {
+            teamListModel.addElement(new TeamItem(team.getId(), team.getName()));
         }
     }
 
@@ -30,13 +30,12 @@ import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.DataType;
-import org.knime.core.node.BufferedDataContainer;
-import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.streamable.RowOutput;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -86,23 +85,18 @@ public class PlayersSelectorNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         // Build query parameters based on query type
         Map<String, String> params = buildQueryParams();
 
-        // Make API call
+        // Fetch all pages and write rows with basic info only as they arrive
         exec.setMessage("Querying players from API...");
-        JsonNode response = callApi(client, "/players", params, mapper);
+        int playerCount = streamPlayersResponse(client, params, mapper, output, exec);
 
-        // Parse response and create output table with basic info only
-        exec.setMessage("Parsing results...");
-        BufferedDataTable result = parsePlayersResponse(response, exec);
-
-        getLogger().info("Retrieved " + result.size() + " players");
-        return result;
+        getLogger().info("Retrieved " + playerCount + " players");
     }
 
     /**
@@ -137,28 +131,27 @@ public class PlayersSelectorNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     /**
-     * Parse players API response and create output table with BASIC info only.
+     * Query players across all pages and write output rows with BASIC info only.
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parsePlayersResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
-
-        if (response != null && response.isArray()) {
-            int rowNum = 0;
-
-            for (JsonNode playerItem : response) {
-                try {
-                    DataRow row = parseBasicPlayerRow(playerItem, rowNum);
-                    container.addRowToTable(row);
-                    rowNum++;
-                } catch (Exception e) {
-                    getLogger().warn("Failed to parse player row " + rowNum + ": " + e.getMessage());
-                }
+    private int streamPlayersResponse(ApiSportsHttpClient client, Map<String, String> params,
+                                      ObjectMapper mapper, RowOutput output, ExecutionContext exec) throws Exception {
+        int[] rowNum = {0};
+
+        streamApi(client, "/players", params, mapper, playerItem -> {
+            exec.checkCanceled();
+            try {
+                DataRow row = parseBasicPlayerRow(playerItem, rowNum[0]);
+                output.push(row);
+                rowNum[0]++;
+            } catch (RuntimeException e) {
+                getLogger().warn("Failed to parse player row " + rowNum[0] + ": " + e.getMessage());
             }
-        }
+            exec.setMessage("Parsed " + rowNum[0] + " players");
+        });
 
-        container.close();
-        return container.getTable();
+        return rowNum[0];
     }
 
     /**
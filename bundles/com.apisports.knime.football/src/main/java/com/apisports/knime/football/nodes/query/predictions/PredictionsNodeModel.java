@@ -17,6 +17,8 @@
 package com.apisports.knime.football.nodes.query.predictions;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.ResponseMapper;
+import com.apisports.knime.football.nodes.query.IdColumnReader;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ReferenceDataPortObject;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,6 +29,16 @@ import org.knime.core.node.*;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import java.io.File;
 import java.util.*;
 
@@ -39,7 +51,7 @@ import java.util.*;
  * Input Ports:
  *   0: ApiSportsConnectionPortObject (API connection)
  *   1: ReferenceDataPortObject (reference data)
- *   2: BufferedDataTable (fixtures from Fixtures node)
+ *   2: BufferedDataTable (fixtures from Fixtures node), read row by row when streamed
  *
  * Output Ports:
  *   0: BufferedDataTable (prediction results)
@@ -61,15 +73,47 @@ public class PredictionsNodeModel extends NodeModel {
 
     @Override
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(getOutputSpec()));
+        queryPredictions(inObjects[0], new DataTableRowInput((BufferedDataTable) inObjects[2]), output, exec);
+        return new PortObject[]{output.getDataTable()};
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // The fixtures table can be read row by row
+        return new InputPortRole[]{
+            InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+            InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+            InputPortRole.NONDISTRIBUTED_STREAMABLE
+        };
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+                                                       final PortObjectSpec[] inSpecs)
+            throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                                 final ExecutionContext exec) throws Exception {
+                queryPredictions(((PortObjectInput) inputs[0]).getPortObject(), (RowInput) inputs[2],
+                                 (RowOutput) outputs[0], exec);
+            }
+        };
+    }
+
+    /**
+     * Query the predictions of each distinct fixture ID as it is read from the input.
+     */
+    private void queryPredictions(PortObject connection, RowInput fixturesInput, RowOutput output,
+                                  ExecutionContext exec) throws Exception {
         // Get API client from connection port
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
+        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) connection;
         ApiSportsHttpClient client = connectionPort.getClient();
 
-        // Get fixtures table from input port
-        BufferedDataTable fixturesTable = (BufferedDataTable) inObjects[2];
-
         // Find Fixture_ID column
-        DataTableSpec fixturesSpec = fixturesTable.getDataTableSpec();
+        DataTableSpec fixturesSpec = fixturesInput.getDataTableSpec();
         int fixtureIdIdx = fixturesSpec.findColumnIndex("Fixture_ID");
 
         if (fixtureIdIdx < 0) {
@@ -77,51 +121,39 @@ public class PredictionsNodeModel extends NodeModel {
                 "Input table must contain a 'Fixture_ID' column. Please connect a Fixtures node output.");
         }
 
-        // Collect unique fixture IDs from input table
-        Set<Integer> fixtureIds = new LinkedHashSet<>();
-        RowIterator rowIterator = fixturesTable.iterator();
-        while (rowIterator.hasNext()) {
-            DataRow row = rowIterator.next();
-            DataCell cell = row.getCell(fixtureIdIdx);
-            if (!cell.isMissing() && cell instanceof IntCell) {
-                fixtureIds.add(((IntCell) cell).getIntValue());
-            }
-        }
-
-        if (fixtureIds.isEmpty()) {
-            throw new InvalidSettingsException(
-                "No fixture IDs found in input table. Please ensure the Fixtures node executed successfully.");
-        }
-
-        getLogger().info("Processing predictions for " + fixtureIds.size() + " fixtures");
+        // Unique fixture IDs, read as the queries go
+        IdColumnReader fixtureIds = new IdColumnReader(fixturesInput, fixtureIdIdx, true);
 
         // Query predictions for each fixture and aggregate results
-        ObjectMapper mapper = new ObjectMapper();
-        DataTableSpec outputSpec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(outputSpec);
+        ObjectMapper mapper = ResponseMapper.getMapper();
         int rowNum = 0;
-        int fixtureCount = 0;
 
-        for (Integer fixtureId : fixtureIds) {
+        Integer fixtureId;
+        while ((fixtureId = fixtureIds.next()) != null) {
             exec.checkCanceled();
-            exec.setProgress((double) fixtureCount / fixtureIds.size(),
-                "Querying predictions for fixture " + fixtureId);
+            fixtureIds.reportProgress(exec, "Querying predictions for fixture " + fixtureId);
 
+            JsonNode response;
             try {
                 Map<String, String> params = new HashMap<>();
                 params.put("fixture", String.valueOf(fixtureId));
 
-                JsonNode response = callApi(client, "/predictions", params, mapper);
-                rowNum = parseResponse(response, container, rowNum, exec);
+                response = callApi(client, "/predictions", params, mapper);
             } catch (Exception e) {
                 getLogger().warn("Failed to get predictions for fixture " + fixtureId + ": " + e.getMessage());
+                continue;
             }
+            rowNum = parseResponse(response, output, rowNum);
+        }
+        fixturesInput.close();
 
-            fixtureCount++;
+        if (fixtureIds.getIdCount() == 0) {
+            throw new InvalidSettingsException(
+                "No fixture IDs found in input table. Please ensure the Fixtures node executed successfully.");
         }
 
-        container.close();
-        return new PortObject[]{container.getTable()};
+        getLogger().info("Processed predictions for " + fixtureIds.getIdCount() + " fixtures");
+        output.close();
     }
 
     @Override
@@ -168,11 +200,11 @@ public class PredictionsNodeModel extends NodeModel {
     }
 
     /**
-     * Parse prediction response and add rows to container.
+     * Parse prediction response and write rows to the output.
      * Returns the updated row number.
      */
-    private int parseResponse(JsonNode response, BufferedDataContainer container, int startRowNum,
-                             ExecutionContext exec) {
+    private int parseResponse(JsonNode response, RowOutput output, int startRowNum)
+            throws InterruptedException {
         int rowNum = startRowNum;
 
         if (response != null && response.isArray()) {
@@ -208,9 +240,9 @@ public class PredictionsNodeModel extends NodeModel {
                         new StringCell(winPercent),
                         new StringCell(advice)
                     };
-                    container.addRowToTable(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse prediction: " + e.getMessage());
                 }
             }
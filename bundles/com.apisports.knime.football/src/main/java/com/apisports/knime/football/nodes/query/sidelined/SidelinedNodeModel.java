@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.data.*;
 import org.knime.core.data.def.*;
 import org.knime.core.node.*;
+import org.knime.core.node.streamable.RowOutput;
 import java.util.*;
 
 public class SidelinedNodeModel extends AbstractFootballQueryNodeModel {
@@ -34,19 +35,17 @@ public class SidelinedNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         Map<String, String> params = new HashMap<>();
         params.put("player", String.valueOf(m_teamId.getIntValue()));
 
         exec.setMessage("Querying sidelined from API...");
         JsonNode response = callApi(client, "/sidelined", params, mapper);
-        return parseResponse(response, exec);
+        parseResponse(response, output);
     }
 
-    private BufferedDataTable parseResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private void parseResponse(JsonNode response, RowOutput output) throws InterruptedException {
         int rowNum = 0;
 
         if (response != null && response.isArray()) {
@@ -61,15 +60,13 @@ public class SidelinedNodeModel extends AbstractFootballQueryNodeModel {
                         new StringCell(start),
                         new StringCell(end)
                     };
-                    container.addRowToTable(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse sidelined record: " + e.getMessage());
                 }
             }
         }
-        container.close();
-        return container.getTable();
     }
 
     @Override
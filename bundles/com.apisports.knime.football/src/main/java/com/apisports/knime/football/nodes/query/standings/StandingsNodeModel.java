@@ -29,9 +29,8 @@ import org.knime.core.data.RowKey;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
-import org.knime.core.node.BufferedDataContainer;
-import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowOutput;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -43,8 +42,8 @@ import java.util.Map;
 public class StandingsNodeModel extends AbstractFootballQueryNodeModel {
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         // Build query parameters
@@ -58,20 +57,20 @@ public class StandingsNodeModel extends AbstractFootballQueryNodeModel {
                         ", season " + m_season.getIntValue());
         JsonNode response = callApi(client, "/standings", params, mapper);
 
-        // Parse response and create output table
+        // Parse response and write the output rows
         exec.setMessage("Parsing results...");
-        BufferedDataTable result = parseStandingsResponse(response, exec);
+        int teamCount = parseStandingsResponse(response, output);
 
-        getLogger().info("Retrieved standings with " + result.size() + " teams");
-        return result;
+        getLogger().info("Retrieved standings with " + teamCount + " teams");
     }
 
     /**
-     * Parse standings API response and create output table.
+     * Parse standings API response and write the output rows.
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parseStandingsResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private int parseStandingsResponse(JsonNode response, RowOutput output) throws InterruptedException {
+        int rowNum = 0;
 
         if (response != null && response.isArray() && response.size() > 0) {
             JsonNode leagueData = response.get(0);
@@ -83,14 +82,12 @@ public class StandingsNodeModel extends AbstractFootballQueryNodeModel {
                 JsonNode standings = standingsArray.get(0);
 
                 if (standings.isArray()) {
-                    int rowNum = 0;
-
                     for (JsonNode teamData : standings) {
                         try {
                             DataRow row = parseTeamStandingRow(teamData, rowNum);
-                            container.addRowToTable(row);
+                            output.push(row);
                             rowNum++;
-                        } catch (Exception e) {
+                        } catch (RuntimeException e) {
                             getLogger().warn("Failed to parse standing row: " + e.getMessage());
                         }
                     }
@@ -98,8 +95,7 @@ public class StandingsNodeModel extends AbstractFootballQueryNodeModel {
             }
         }
 
-        container.close();
-        return container.getTable();
+        return rowNum;
     }
 
     /**
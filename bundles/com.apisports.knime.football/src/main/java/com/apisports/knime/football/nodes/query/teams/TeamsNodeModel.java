@@ -32,14 +32,13 @@ import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.DataType;
-import org.knime.core.node.BufferedDataContainer;
-import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.streamable.RowOutput;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -59,8 +58,8 @@ public class TeamsNodeModel extends AbstractFootballQueryNodeModel {
         new SettingsModelString(CFGKEY_TEAM_NAME, "");
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         exec.setMessage("Building query parameters...");
 
         // Build query parameters
@@ -80,53 +79,49 @@ public class TeamsNodeModel extends AbstractFootballQueryNodeModel {
         JsonNode response = callApi(client, "/teams", params, mapper);
 
         // If statistics requested, fetch them separately
-        BufferedDataTable result;
+        int teamCount;
         if (m_includeStatistics.getBooleanValue()) {
-            result = parseTeamsWithStatistics(response, client, mapper, exec);
+            teamCount = parseTeamsWithStatistics(response, client, mapper, output);
         } else {
-            result = parseTeamsResponse(response, exec);
+            teamCount = parseTeamsResponse(response, output);
         }
 
-        getLogger().info("Retrieved " + result.size() + " team records");
-        return result;
+        getLogger().info("Retrieved " + teamCount + " team records");
     }
 
     /**
      * Parse teams API response (basic info only).
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parseTeamsResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private int parseTeamsResponse(JsonNode response, RowOutput output) throws InterruptedException {
+        int rowNum = 0;
 
         if (response != null && response.isArray()) {
-            int rowNum = 0;
-
             for (JsonNode teamItem : response) {
                 try {
                     DataRow row = parseTeamRow(teamItem, null, rowNum);
-                    container.addRowToTable(row);
+                    output.push(row);
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse team row: " + e.getMessage());
                 }
             }
         }
 
-        container.close();
-        return container.getTable();
+        return rowNum;
     }
 
     /**
      * Parse teams with statistics.
+     *
+     * @return Number of rows written
      */
-    private BufferedDataTable parseTeamsWithStatistics(JsonNode teamsResponse, ApiSportsHttpClient client,
-                                                        ObjectMapper mapper, ExecutionContext exec) throws Exception {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private int parseTeamsWithStatistics(JsonNode teamsResponse, ApiSportsHttpClient client,
+                                         ObjectMapper mapper, RowOutput output) throws Exception {
+        int rowNum = 0;
 
         if (teamsResponse != null && teamsResponse.isArray()) {
-            int rowNum = 0;
-
             for (JsonNode teamItem : teamsResponse) {
                 try {
                     JsonNode team = teamItem.get("team");
@@ -147,16 +142,17 @@ public class TeamsNodeModel extends AbstractFootballQueryNodeModel {
                     }
 
                     DataRow row = parseTeamRow(teamItem, stats, rowNum);
-                    container.addRowToTable(row);
+                    output.push(row);
                     rowNum++;
+                } catch (InterruptedException e) {
+                    throw e;
                 } catch (Exception e) {
                     getLogger().warn("Failed to parse team with statistics: " + e.getMessage());
                 }
             }
         }
 
-        container.close();
-        return container.getTable();
+        return rowNum;
     }
 
     /**
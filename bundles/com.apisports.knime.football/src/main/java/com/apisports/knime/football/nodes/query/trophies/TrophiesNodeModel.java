@@ -17,6 +17,8 @@
 package com.apisports.knime.football.nodes.query.trophies;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.ResponseMapper;
+import com.apisports.knime.football.nodes.query.IdColumnReader;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ReferenceDataPortObject;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,6 +29,16 @@ import org.knime.core.node.*;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 import java.util.*;
 
@@ -39,7 +51,7 @@ import java.util.*;
  * Input Ports:
  *   0: ApiSportsConnectionPortObject (API connection)
  *   1: ReferenceDataPortObject (reference data)
- *   2: BufferedDataTable (players or coaches from Players/Coaches node)
+ *   2: BufferedDataTable (players or coaches from Players/Coaches node), read row by row when streamed
  *
  * Output Ports:
  *   0: BufferedDataTable (trophies results)
@@ -61,13 +73,47 @@ public class TrophiesNodeModel extends NodeModel {
 
     @Override
     protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+        BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(exec.createDataContainer(getOutputSpec()));
+        queryTrophies(inObjects[0], new DataTableRowInput((BufferedDataTable) inObjects[2]), output, exec);
+        return new PortObject[]{output.getDataTable()};
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // The players/coaches table can be read row by row
+        return new InputPortRole[]{
+            InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+            InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+            InputPortRole.NONDISTRIBUTED_STREAMABLE
+        };
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+                                                       final PortObjectSpec[] inSpecs)
+            throws InvalidSettingsException {
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                                 final ExecutionContext exec) throws Exception {
+                queryTrophies(((PortObjectInput) inputs[0]).getPortObject(), (RowInput) inputs[2],
+                              (RowOutput) outputs[0], exec);
+            }
+        };
+    }
+
+    /**
+     * Query the trophies of each distinct player or coach as it is read from the input.
+     */
+    private void queryTrophies(PortObject connection, RowInput input, RowOutput output,
+                               ExecutionContext exec) throws Exception {
         // Get API client from connection port
-        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
+        ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) connection;
         ApiSportsHttpClient client = connectionPort.getClient();
 
-        // Get players/coaches table from input port
-        BufferedDataTable inputTable = (BufferedDataTable) inObjects[2];
-        DataTableSpec inputSpec = inputTable.getDataTableSpec();
+        // Get players/coaches spec from input port
+        DataTableSpec inputSpec = input.getDataTableSpec();
 
         // Determine if input is from Players or Coaches node
         int playerIdIdx = inputSpec.findColumnIndex("Player_ID");
@@ -81,118 +127,93 @@ public class TrophiesNodeModel extends NodeModel {
             paramType = "player";
             idColumnIdx = playerIdIdx;
             getLogger().info("Detected Players node input - will query player trophies");
-            System.out.println("TROPHIES NODE: Detected Players node input");
         } else if (coachIdIdx >= 0) {
             paramType = "coach";
             idColumnIdx = coachIdIdx;
             getLogger().info("Detected Coaches node input - will query coach trophies");
-            System.out.println("TROPHIES NODE: Detected Coaches node input");
         } else {
             throw new InvalidSettingsException(
                 "Input table must contain either 'Player_ID' or 'Coach_ID' column. " +
                 "Please connect a Players or Coaches node output.");
         }
 
-        // Collect IDs and names from input table
-        Map<Integer, String> idToNameMap = new LinkedHashMap<>();
-        RowIterator rowIterator = inputTable.iterator();
-        while (rowIterator.hasNext()) {
-            DataRow row = rowIterator.next();
-            DataCell idCell = row.getCell(idColumnIdx);
-
-            if (!idCell.isMissing() && idCell instanceof IntCell) {
-                int id = ((IntCell) idCell).getIntValue();
-                String name = "";
-                if (nameIdx >= 0) {
-                    DataCell nameCell = row.getCell(nameIdx);
-                    if (!nameCell.isMissing() && nameCell instanceof StringCell) {
-                        name = ((StringCell) nameCell).getStringValue();
-                    }
-                }
-                idToNameMap.put(id, name);
-            }
-        }
-
-        if (idToNameMap.isEmpty()) {
-            throw new InvalidSettingsException(
-                "No IDs found in input table. Please ensure the " +
-                (paramType.equals("player") ? "Players" : "Coaches") +
-                " node executed successfully.");
-        }
-
-        getLogger().info("Processing trophies for " + idToNameMap.size() + " " + paramType + "s");
-        System.out.println("=============================================================");
-        System.out.println("TROPHIES NODE: Processing trophies for " + idToNameMap.size() + " " + paramType + "s");
-        System.out.println(paramType.toUpperCase() + " IDs from input: " + idToNameMap.keySet());
-        System.out.println("=============================================================");
+        // Unique IDs, read as the queries go
+        IdColumnReader ids = new IdColumnReader(input, idColumnIdx, true);
 
         // Query trophies for each player/coach and aggregate results
-        ObjectMapper mapper = new ObjectMapper();
-        DataTableSpec outputSpec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(outputSpec);
+        ObjectMapper mapper = ResponseMapper.getMapper();
         int rowNum = 0;
-        int personCount = 0;
 
-        for (Map.Entry<Integer, String> entry : idToNameMap.entrySet()) {
+        Integer id;
+        while ((id = ids.next()) != null) {
+            String name = "";
+            if (nameIdx >= 0) {
+                DataCell nameCell = ids.getCurrentRow().getCell(nameIdx);
+                if (!nameCell.isMissing() && nameCell instanceof StringCell) {
+                    name = ((StringCell) nameCell).getStringValue();
+                }
+            }
+
             exec.checkCanceled();
-            exec.setProgress((double) personCount / idToNameMap.size(),
-                "Querying trophies for " + paramType + " " + entry.getKey());
+            ids.reportProgress(exec, "Querying trophies for " + paramType + " " + id);
 
+            JsonNode response;
             try {
                 Map<String, String> params = new HashMap<>();
-                params.put(paramType, String.valueOf(entry.getKey()));
-
-                System.out.println("Querying /trophies with " + paramType + "=" + entry.getKey() +
-                                 " (" + entry.getValue() + ")");
-
-                JsonNode response = callApi(client, "/trophies", params, mapper);
-
-                // Parse trophies for this player/coach
-                if (response != null && response.isArray()) {
-                    System.out.println("  Found " + response.size() + " trophies for " + entry.getValue());
-
-                    for (JsonNode item : response) {
-                        try {
-                            String personName = entry.getValue();
-                            String league = item.has("league") ? item.get("league").asText() : "";
-                            String country = item.has("country") ? item.get("country").asText() : "";
-                            String season = item.has("season") ? item.get("season").asText() : "";
-                            String place = item.has("place") ? item.get("place").asText() : "";
-
-                            DataCell[] cells = new DataCell[]{
-                                new IntCell(entry.getKey()),
-                                new StringCell(personName),
-                                new StringCell(league),
-                                new StringCell(country),
-                                new StringCell(season),
-                                new StringCell(place)
-                            };
-                            container.addRowToTable(new DefaultRow(new RowKey("Row" + rowNum), cells));
-                            rowNum++;
-                        } catch (Exception e) {
-                            getLogger().warn("Failed to parse trophy: " + e.getMessage());
-                            System.out.println("  ERROR parsing trophy: " + e.getMessage());
-                        }
-                    }
-                } else {
-                    System.out.println("  No trophies found for " + entry.getValue());
-                }
+                params.put(paramType, String.valueOf(id));
+
+                getLogger().debug("Querying /trophies with " + paramType + "=" + id + " (" + name + ")");
+
+                response = callApi(client, "/trophies", params, mapper);
             } catch (Exception e) {
                 getLogger().warn("Failed to query trophies for " + paramType + " " +
-                               entry.getKey() + ": " + e.getMessage());
-                System.out.println("  ERROR: " + e.getMessage());
+                               id + ": " + e.getMessage());
+                continue;
             }
 
-            personCount++;
+            // Parse trophies for this player/coach
+            if (response != null && response.isArray()) {
+                getLogger().debug("Found " + response.size() + " trophies for " + name);
+
+                for (JsonNode item : response) {
+                    DataCell[] cells;
+                    try {
+                        String league = item.has("league") ? item.get("league").asText() : "";
+                        String country = item.has("country") ? item.get("country").asText() : "";
+                        String season = item.has("season") ? item.get("season").asText() : "";
+                        String place = item.has("place") ? item.get("place").asText() : "";
+
+                        cells = new DataCell[]{
+                            new IntCell(id),
+                            new StringCell(name),
+                            new StringCell(league),
+                            new StringCell(country),
+                            new StringCell(season),
+                            new StringCell(place)
+                        };
+                    } catch (Exception e) {
+                        getLogger().warn("Failed to parse trophy: " + e.getMessage());
+                        continue;
+                    }
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    rowNum++;
+                }
+            } else {
+                getLogger().debug("No trophies found for " + name);
+            }
+        }
+        input.close();
+
+        if (ids.getIdCount() == 0) {
+            throw new InvalidSettingsException(
+                "No IDs found in input table. Please ensure the " +
+                (paramType.equals("player") ? "Players" : "Coaches") +
+                " node executed successfully.");
         }
 
-        container.close();
-        getLogger().info("Retrieved " + rowNum + " total trophies");
-        System.out.println("=============================================================");
-        System.out.println("TROPHIES NODE: Retrieved " + rowNum + " total trophies");
-        System.out.println("=============================================================");
+        getLogger().info("Retrieved " + rowNum + " total trophies for " + ids.getIdCount() + " " + paramType + "s");
 
-        return new PortObject[]{container.getTable()};
+        output.close();
     }
 
     /**
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.data.*;
 import org.knime.core.data.def.*;
 import org.knime.core.node.*;
+import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import java.util.*;
 
@@ -47,8 +48,8 @@ public class VenuesNodeModel extends AbstractFootballQueryNodeModel {
     }
 
     @Override
-    protected BufferedDataTable executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
-                                              ExecutionContext exec) throws Exception {
+    protected void executeQuery(ApiSportsHttpClient client, ObjectMapper mapper,
+                                RowOutput output, ExecutionContext exec) throws Exception {
         Map<String, String> params = new HashMap<>();
         
         if (!m_venueName.getStringValue().isEmpty()) {
@@ -68,12 +69,10 @@ public class VenuesNodeModel extends AbstractFootballQueryNodeModel {
         exec.setMessage("Querying venues from API...");
         JsonNode response = callApi(client, "/venues", params, mapper);
 
-        return parseVenuesResponse(response, exec);
+        parseVenuesResponse(response, output);
     }
 
-    private BufferedDataTable parseVenuesResponse(JsonNode response, ExecutionContext exec) {
-        DataTableSpec spec = getOutputSpec();
-        BufferedDataContainer container = exec.createDataContainer(spec);
+    private void parseVenuesResponse(JsonNode response, RowOutput output) throws InterruptedException {
         int rowNum = 0;
 
         if (response != null && response.isArray()) {
@@ -100,16 +99,13 @@ public class VenuesNodeModel extends AbstractFootballQueryNodeModel {
                         new StringCell(image)
                     };
 
-                    container.addRowToTable(new DefaultRow(new RowKey("Row" + rowNum), cells));
+                    output.push(new DefaultRow(new RowKey("Row" + rowNum), cells));
                     rowNum++;
-                } catch (Exception e) {
+                } catch (RuntimeException e) {
                     getLogger().warn("Failed to parse venue: " + e.getMessage());
                 }
             }
         }
-
-        container.close();
-        return container.getTable();
     }
 
     @Override
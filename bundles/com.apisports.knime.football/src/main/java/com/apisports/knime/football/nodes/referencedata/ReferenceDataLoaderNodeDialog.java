@@ -152,6 +152,10 @@ public class ReferenceDataLoaderNodeDialog extends DefaultNodeSettingsPane {
             new SettingsModelInteger(ReferenceDataLoaderNodeModel.CFGKEY_CACHE_TTL, 86400),
             "Cache TTL (seconds):", 3600));
 
+        addDialogComponent(new DialogComponentBoolean(
+            new SettingsModelBoolean(ReferenceDataLoaderNodeModel.CFGKEY_INCREMENTAL_REFRESH, true),
+            "Incremental Refresh (only reload teams of active or expired leagues)"));
+
         closeCurrentGroup();
     }
 }
@@ -17,6 +17,10 @@
 package com.apisports.knime.football.nodes.referencedata;
 
 import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.ResponseMapper;
+import com.apisports.knime.core.client.ResponseStreamReader;
+import com.apisports.knime.core.exception.ApiSportsException;
+import com.apisports.knime.football.nodes.query.OrderedFetchWindow;
 import com.apisports.knime.port.ApiSportsConnectionPortObject;
 import com.apisports.knime.port.ReferenceDAO;
 import com.apisports.knime.port.ReferenceData;
@@ -26,6 +30,7 @@ import com.apisports.knime.port.ReferenceData.Season;
 import com.apisports.knime.port.ReferenceData.Team;
 import com.apisports.knime.port.ReferenceData.Venue;
 import com.apisports.knime.port.ReferenceDataPortObject;
+import com.apisports.knime.port.ReferenceDataSnapshot;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.knime.core.node.ExecutionContext;
@@ -46,10 +51,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * NodeModel for Reference Data Loader.
@@ -60,7 +68,7 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
     /**
      * Helper class to hold leagues and seasons extracted from a single API response.
      */
-    private static class LeaguesAndSeasons {
+    static class LeaguesAndSeasons {
         final List<League> leagues;
         final List<Season> seasons;
         final Set<String> countries;
@@ -72,6 +80,19 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         }
     }
 
+    /**
+     * Teams loaded from /teams, with the team IDs returned for each league that loaded successfully.
+     */
+    private static class TeamsLoad {
+        final List<Team> teams;
+        final Map<Integer, Set<Integer>> teamIdsByLeague;
+
+        TeamsLoad(List<Team> teams, Map<Integer, Set<Integer>> teamIdsByLeague) {
+            this.teams = teams;
+            this.teamIdsByLeague = teamIdsByLeague;
+        }
+    }
+
     static final String CFGKEY_LOAD_TEAMS = "loadTeams";
     static final String CFGKEY_LOAD_VENUES = "loadVenues";
     static final String CFGKEY_CACHE_TTL = "cacheTtl";
@@ -82,6 +103,13 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
     static final String CFGKEY_END_DATE = "endDate";
     static final String CFGKEY_SELECTED_SEASONS = "selectedSeasons";
     static final String CFGKEY_NODE_INSTANCE_ID = "nodeInstanceId";
+    static final String CFGKEY_INCREMENTAL_REFRESH = "incrementalRefresh";
+
+    /** Passes over the leagues when loading teams; leagues that fail are retried in the next pass. */
+    private static final int TEAM_LOAD_ATTEMPTS = 3;
+
+    /** In incremental refreshes, teams of leagues without an active season are reloaded after this long. */
+    private static final long INACTIVE_LEAGUE_TEAMS_TTL_MILLIS = TimeUnit.DAYS.toMillis(30);
 
     // Legacy shared path - used to detect nodes that need migration to unique paths
     private static final String LEGACY_SHARED_DB_PATH;
@@ -113,6 +141,8 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         new SettingsModelStringArray(CFGKEY_SELECTED_SEASONS, new String[0]);
     private final SettingsModelString m_savedInstanceId =
         new SettingsModelString(CFGKEY_NODE_INSTANCE_ID, "");
+    private final SettingsModelBoolean m_incrementalRefresh =
+        new SettingsModelBoolean(CFGKEY_INCREMENTAL_REFRESH, true);
 
     /**
      * Get the database directory path.
@@ -151,7 +181,7 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         // Get API client
         ApiSportsConnectionPortObject connectionPort = (ApiSportsConnectionPortObject) inObjects[0];
         ApiSportsHttpClient client = connectionPort.getClient();
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = ResponseMapper.getMapper();
 
         // Determine the database path - ensure each node instance has its own database
         String dbPath = m_dbPath.getStringValue();
@@ -184,18 +214,23 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
             boolean hasData = dao.hasData();
             boolean configChanged = dao.hasConfigurationChanged(currentConfigHash);
 
+            // Incremental refreshes update the existing data in place instead of reloading it
+            boolean incremental = m_incrementalRefresh.getBooleanValue() && hasData
+                && !m_clearAndReload.getBooleanValue();
+            // Data to clear when the load is written
+            boolean clearAll = false;
+            boolean clearLeagues = false;
+
             // If "Clear and Reload" is checked, always reload
             if (m_clearAndReload.getBooleanValue()) {
-                exec.setMessage("Clearing existing data (Clear and Reload selected)...");
-                dao.clearAll();
-                getLogger().info("Database cleared - will reload all data");
-                dataStale = true; // Force reload
+                getLogger().info("Clear and Reload selected - will reload all data");
+                clearAll = true;
             }
             // If configuration changed, reload even if data is fresh
             else if (hasData && configChanged) {
                 exec.setMessage("Configuration changed - reloading...");
                 getLogger().info("Configuration has changed - reloading reference data");
-                dao.clearLeaguesAndRelatedData();
+                clearLeagues = !incremental;
             }
             // If data exists and is still fresh, skip loading
             else if (hasData && !dataStale) {
@@ -224,13 +259,16 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
                 }
                 // Clear leagues/seasons/teams to ensure database matches current filters
                 // (Countries remain since they're always loaded)
-                dao.clearLeaguesAndRelatedData();
+                clearLeagues = !incremental;
             }
 
             // Get country filter
             Set<String> countryFilter = new HashSet<>(Arrays.asList(m_countryFilter.getStringArrayValue()));
             boolean hasCountryFilter = !countryFilter.isEmpty();
 
+            // Fetch everything before writing, so the write transaction is not held open
+            // across the API calls
+
             // Load leagues and seasons in a single optimized call
             // The /leagues endpoint returns seasons embedded in the response, so we extract both
             exec.setMessage("Loading leagues and seasons...");
@@ -241,32 +279,29 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
                            data.seasons.size() + " seasons" +
                            (hasCountryFilter ? " for countries: " + String.join(", ", countryFilter) : " (all countries)"));
 
-            // Store countries extracted from league data
+            // Countries extracted from league data
             List<Country> countries = new ArrayList<>();
             for (String countryName : data.countries) {
                 countries.add(new Country(countryName, null, null));
             }
-            dao.upsertCountries(countries);
-            getLogger().info("Extracted " + countries.size() + " countries from league data");
-
-            // Store leagues
-            dao.upsertLeagues(data.leagues);
 
             // Filter seasons by date range or selected seasons
             exec.setMessage("Filtering seasons...");
             exec.setProgress(0.4);
             List<Season> filteredSeasons = filterSeasonsByDateOrSelection(data.seasons);
-            dao.upsertSeasons(filteredSeasons);
-            getLogger().info("Stored " + filteredSeasons.size() + " seasons (filtered from " +
-                            data.seasons.size() + " total)");
 
             // Load teams if enabled
+            int season = 0;
+            List<League> teamLeagues = null;
+            TeamsLoad teams = null;
             if (m_loadTeams.getBooleanValue()) {
                 exec.setMessage("Loading teams...");
                 exec.setProgress(0.6);
-                List<Team> teams = loadTeams(client, mapper, data.leagues);
-                dao.upsertTeams(teams);
-                getLogger().info("Loaded " + teams.size() + " teams");
+                season = resolveTeamsSeason();
+                teamLeagues = incremental
+                    ? selectLeaguesForTeamRefresh(dao, data.leagues, data.seasons, season)
+                    : data.leagues;
+                teams = loadTeams(client, mapper, teamLeagues, season, exec);
             }
 
             // Load venues if enabled (not yet implemented)
@@ -276,12 +311,62 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
                 getLogger().warn("Venue loading not yet implemented");
             }
 
-            exec.setMessage("Finalizing...");
-            exec.setProgress(0.95);
+            // The writes are one transaction: downstream readers keep seeing the previous data
+            // until the load commits, and a failed load leaves the database unchanged
+            exec.setMessage("Storing reference data...");
+            exec.setProgress(0.9);
+            try (ReferenceDAO.BulkLoad bulkLoad = dao.beginBulkLoad()) {
+                if (clearAll) {
+                    dao.clearAll();
+                    getLogger().info("Database cleared - reloading all data");
+                } else if (clearLeagues) {
+                    dao.clearLeaguesAndRelatedData();
+                }
+
+                dao.upsertCountries(countries);
+                getLogger().info("Extracted " + countries.size() + " countries from league data");
+
+                // Store leagues
+                dao.upsertLeagues(data.leagues);
+                if (incremental) {
+                    Set<Integer> leagueIds = new HashSet<>();
+                    for (League league : data.leagues) {
+                        leagueIds.add(league.getId());
+                    }
+                    int removed = dao.deleteLeaguesNotIn(leagueIds);
+                    if (removed > 0) {
+                        getLogger().info("Removed " + removed + " leagues no longer matching the filters");
+                    }
+                }
+
+                dao.upsertSeasons(filteredSeasons);
+                if (incremental) {
+                    dao.retainSeasons(filteredSeasons);
+                }
+                getLogger().info("Stored " + filteredSeasons.size() + " seasons (filtered from " +
+                                data.seasons.size() + " total)");
 
-            // Update timestamp and configuration hash to mark data as fresh
-            dao.setLastUpdateTimestamp(System.currentTimeMillis());
-            dao.setConfigurationHash(currentConfigHash);
+                if (teams != null) {
+                    dao.upsertTeams(teams.teams);
+                    if (incremental) {
+                        dao.retainLeagueTeams(teams.teamIdsByLeague);
+                    }
+                    dao.setTeamsUpdatedTimestamps(teams.teamIdsByLeague.keySet(), System.currentTimeMillis());
+                    dao.setTeamsSeason(season);
+                    getLogger().info("Loaded " + teams.teams.size() + " teams for " + teamLeagues.size() + " of "
+                                   + data.leagues.size() + " leagues");
+                } else if (incremental) {
+                    dao.clearTeams();
+                }
+
+                exec.setMessage("Finalizing...");
+                exec.setProgress(0.95);
+
+                // Update timestamp and configuration hash to mark data as fresh
+                dao.setLastUpdateTimestamp(System.currentTimeMillis());
+                dao.setConfigurationHash(currentConfigHash);
+                bulkLoad.commit();
+            }
             getLogger().info("Updated cache timestamp - data will remain fresh for " + cacheTtl + " seconds");
 
             // Create port object with DB path
@@ -415,7 +500,7 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
      * Parse /leagues API response and extract leagues, seasons, and countries.
      * Seasons are embedded in each league object, so we extract them together.
      */
-    private LeaguesAndSeasons parseLeaguesResponse(String response, ObjectMapper mapper) throws Exception {
+    static LeaguesAndSeasons parseLeaguesResponse(String response, ObjectMapper mapper) throws Exception {
         List<League> leagues = new ArrayList<>();
         List<Season> seasons = new ArrayList<>();
         Set<String> countries = new HashSet<>();
@@ -469,12 +554,72 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
      * Load teams from /teams endpoint for each league.
      * Loads teams for all filtered leagues using the most recent season.
      * Note: Unfortunately the API requires one call per league for teams.
+     *
+     * The calls are issued through the client's async path, so they run concurrently up to the
+     * connection's request cap and are paced by its rate limiter. Responses are merged in league
+     * order on the calling thread. Leagues whose call fails are retried in a further pass.
      */
-    private List<Team> loadTeams(ApiSportsHttpClient client, ObjectMapper mapper,
-                                  List<League> leagues) throws Exception {
-        List<Team> teams = new ArrayList<>();
-        Map<Integer, Team> teamMap = new HashMap<>(); // Deduplicate teams by ID
+    private TeamsLoad loadTeams(ApiSportsHttpClient client, ObjectMapper mapper,
+                                 List<League> leagues, int seasonToUse, ExecutionContext exec) throws Exception {
+        Map<Integer, Team> teamMap = new LinkedHashMap<>(); // Deduplicate teams by ID
+        Map<Integer, Set<Integer>> teamIdsByLeague = new HashMap<>();
+
+        getLogger().info("Loading teams for " + leagues.size() + " leagues using season " + seasonToUse);
+
+        String season = String.valueOf(seasonToUse);
+        List<League> pending = leagues;
+        int leaguesDone = 0;
+        for (int attempt = 1; attempt <= TEAM_LOAD_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                getLogger().info("Retrying teams for " + pending.size() + " leagues (attempt " + attempt + ")");
+            }
 
+            List<League> failed = new ArrayList<>();
+            List<League> batch = pending;
+            try (OrderedFetchWindow<String> window = new OrderedFetchWindow<>(
+                    batch.size(), client.getMaxConcurrentRequests(),
+                    i -> client.getAsync("/teams", Map.of(
+                        "league", String.valueOf(batch.get(i).getId()),
+                        "season", season)))) {
+                for (League league : batch) {
+                    try {
+                        String response = window.next(exec);
+                        Set<Integer> leagueTeamIds = new HashSet<>();
+                        ResponseStreamReader.read(response, mapper, item -> {
+                            int teamId = mergeTeam(teamMap, item, league);
+                            if (teamId > 0) {
+                                leagueTeamIds.add(teamId);
+                            }
+                        });
+                        teamIdsByLeague.put(league.getId(), leagueTeamIds);
+                        leaguesDone++;
+                    } catch (ExecutionException e) {
+                        failed.add(league);
+                        getLogger().warn("Failed to load teams for league " + league.getName() + ": "
+                            + e.getCause().getMessage());
+                    } catch (ApiSportsException e) {
+                        failed.add(league);
+                        getLogger().warn("Failed to load teams for league " + league.getName() + ": " + e.getMessage());
+                    }
+
+                    exec.setProgress(0.6 + 0.2 * leaguesDone / leagues.size(),
+                        "Loaded teams for " + leaguesDone + "/" + leagues.size() + " leagues");
+                }
+            }
+            pending = failed;
+        }
+
+        if (!pending.isEmpty()) {
+            setWarningMessage("Teams could not be loaded for " + pending.size() + " league(s). Check the log for details.");
+        }
+
+        return new TeamsLoad(new ArrayList<>(teamMap.values()), teamIdsByLeague);
+    }
+
+    /**
+     * Determine which season to load teams for.
+     */
+    private int resolveTeamsSeason() {
         // Determine which season to use for team queries
         // IMPORTANT: Don't use future seasons (like 2026 in January 2026) as they have no data
         // Default to previous year which is guaranteed to have complete data
@@ -496,64 +641,77 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
                 getLogger().warn("Invalid season format, using default: " + seasonToUse);
             }
         }
+        return seasonToUse;
+    }
 
-        getLogger().info("Loading teams for " + leagues.size() + " leagues using season " + seasonToUse);
-
-        // Load teams for ALL filtered leagues
-        for (int i = 0; i < leagues.size(); i++) {
-            League league = leagues.get(i);
-
-            Map<String, String> params = new HashMap<>();
-            params.put("league", String.valueOf(league.getId()));
-            params.put("season", String.valueOf(seasonToUse));
-
-            try {
-                String response = client.get("/teams", params);
-                JsonNode root = mapper.readTree(response);
-                JsonNode responseArray = root.get("response");
-
-                if (responseArray != null && responseArray.isArray()) {
-                    for (JsonNode item : responseArray) {
-                        JsonNode teamNode = item.get("team");
-
-                        if (teamNode != null) {
-                            int id = teamNode.has("id") ? teamNode.get("id").asInt() : 0;
-                            String name = teamNode.has("name") ? teamNode.get("name").asText() : "";
-                            String code = teamNode.has("code") ? teamNode.get("code").asText() : null;
-                            String country = teamNode.has("country") ? teamNode.get("country").asText() : "";
-                            String logo = teamNode.has("logo") ? teamNode.get("logo").asText() : null;
-
-                            if (id > 0 && !name.isEmpty()) {
-                                // Add or update team with league ID
-                                if (teamMap.containsKey(id)) {
-                                    Team existingTeam = teamMap.get(id);
-                                    List<Integer> leagueIds = new ArrayList<>(existingTeam.getLeagueIds());
-                                    if (!leagueIds.contains(league.getId())) {
-                                        leagueIds.add(league.getId());
-                                        teamMap.put(id, new Team(id, name, code, country, logo, leagueIds));
-                                    }
-                                } else {
-                                    List<Integer> leagueIds = new ArrayList<>();
-                                    leagueIds.add(league.getId());
-                                    teamMap.put(id, new Team(id, name, code, country, logo, leagueIds));
-                                }
-                            }
-                        }
-                    }
-                }
+    /**
+     * Select the leagues whose teams need reloading in an incremental refresh: leagues whose
+     * current season is in progress, leagues not loaded within {@link #INACTIVE_LEAGUE_TEAMS_TTL_MILLIS},
+     * and leagues never loaded. If the teams season changed, all leagues are reloaded.
+     */
+    private List<League> selectLeaguesForTeamRefresh(ReferenceDAO dao, List<League> leagues,
+                                                     List<Season> seasons, int seasonToUse) throws Exception {
+        if (dao.getTeamsSeason() != seasonToUse) {
+            getLogger().info("Teams season changed to " + seasonToUse + " - reloading teams for all leagues");
+            return leagues;
+        }
 
-            } catch (Exception e) {
-                getLogger().warn("Failed to load teams for league " + league.getName() + ": " + e.getMessage());
+        String today = java.time.LocalDate.now().toString();
+        Set<Integer> activeLeagueIds = new HashSet<>();
+        for (Season season : seasons) {
+            // ISO dates compare correctly as strings
+            if (season.isCurrent() && season.getStartDate() != null && season.getEndDate() != null
+                    && season.getStartDate().compareTo(today) <= 0 && season.getEndDate().compareTo(today) >= 0) {
+                activeLeagueIds.add(season.getLeagueId());
             }
+        }
 
-            // Log progress
-            if (i % 5 == 0 || i == leagues.size() - 1) {
-                getLogger().info("Loaded teams for " + (i + 1) + "/" + leagues.size() + " leagues");
+        Map<Integer, Long> lastLoaded = dao.getTeamsUpdatedTimestamps();
+        long expiredBefore = System.currentTimeMillis() - INACTIVE_LEAGUE_TEAMS_TTL_MILLIS;
+        List<League> selected = new ArrayList<>();
+        for (League league : leagues) {
+            Long loaded = lastLoaded.get(league.getId());
+            if (loaded == null || loaded < expiredBefore || activeLeagueIds.contains(league.getId())) {
+                selected.add(league);
             }
         }
+        return selected;
+    }
 
-        teams.addAll(teamMap.values());
-        return teams;
+    /**
+     * Add the team of a /teams response item to the map, or add the league to an already known team.
+     *
+     * @return The team ID, or 0 if the item holds no valid team
+     */
+    static int mergeTeam(Map<Integer, Team> teamMap, JsonNode item, League league) {
+        JsonNode teamNode = item.get("team");
+        if (teamNode == null) {
+            return 0;
+        }
+
+        int id = teamNode.has("id") ? teamNode.get("id").asInt() : 0;
+        String name = teamNode.has("name") ? teamNode.get("name").asText() : "";
+        String code = teamNode.has("code") ? teamNode.get("code").asText() : null;
+        String country = teamNode.has("country") ? teamNode.get("country").asText() : "";
+        String logo = teamNode.has("logo") ? teamNode.get("logo").asText() : null;
+
+        if (id > 0 && !name.isEmpty()) {
+            // Add or update team with league ID
+            if (teamMap.containsKey(id)) {
+                Team existingTeam = teamMap.get(id);
+                List<Integer> leagueIds = new ArrayList<>(existingTeam.getLeagueIds());
+                if (!leagueIds.contains(league.getId())) {
+                    leagueIds.add(league.getId());
+                    teamMap.put(id, new Team(id, name, code, country, logo, leagueIds));
+                }
+            } else {
+                List<Integer> leagueIds = new ArrayList<>();
+                leagueIds.add(league.getId());
+                teamMap.put(id, new Team(id, name, code, country, logo, leagueIds));
+            }
+            return id;
+        }
+        return 0;
     }
 
     /**
@@ -586,6 +744,7 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         m_endDate.saveSettingsTo(settings);
         m_selectedSeasons.saveSettingsTo(settings);
         m_savedInstanceId.saveSettingsTo(settings);
+        m_incrementalRefresh.saveSettingsTo(settings);
     }
 
     @Override
@@ -606,6 +765,9 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         if (settings.containsKey(CFGKEY_SELECTED_SEASONS)) {
             m_selectedSeasons.validateSettings(settings);
         }
+        if (settings.containsKey(CFGKEY_INCREMENTAL_REFRESH)) {
+            m_incrementalRefresh.validateSettings(settings);
+        }
     }
 
     @Override
@@ -637,6 +799,10 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         } catch (InvalidSettingsException e) {
             // Use default (empty - will generate new ID on first execution)
         }
+        // Older workflows don't have this setting and refresh incrementally by default
+        if (settings.containsKey(CFGKEY_INCREMENTAL_REFRESH)) {
+            m_incrementalRefresh.loadSettingsFrom(settings);
+        }
     }
 
     @Override
@@ -644,6 +810,15 @@ public class ReferenceDataLoaderNodeModel extends NodeModel {
         // Nothing to reset
     }
 
+    @Override
+    protected void onDispose() {
+        // Query nodes and dialogs share the snapshot of this node's database
+        String dbPath = m_dbPath.getStringValue();
+        if (dbPath != null && !dbPath.isEmpty()) {
+            ReferenceDataSnapshot.invalidate(dbPath);
+        }
+    }
+
     @Override
     protected void loadInternals(final java.io.File nodeInternDir,
                                  final org.knime.core.node.ExecutionMonitor exec)
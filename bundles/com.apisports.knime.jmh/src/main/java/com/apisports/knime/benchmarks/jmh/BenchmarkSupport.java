@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shared helpers of the JMH microbenchmarks.
+ *
+ * The benchmarks are compiled by the JMH annotation processor into a plain jar, outside the
+ * OSGi build, and run on a flat class path: {@code mvn -Pjmh verify} runs target/benchmarks.jar
+ * together with the KNIME class path given in the module's pom; forked benchmark JVMs inherit
+ * that class path. Benchmarks of node internals live in the node's package.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Load a recorded response envelope of the benchmarks fragment, e.g. {@code "fixture-full"}.
+     */
+    public static String recording(String name) {
+        String resource = "/recordings/" + name + ".json";
+        try (InputStream in = BenchmarkSupport.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Recording not found: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
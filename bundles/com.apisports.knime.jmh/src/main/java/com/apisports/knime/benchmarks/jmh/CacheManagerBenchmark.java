@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks.jmh;
+
+import com.apisports.knime.core.cache.CacheManager;
+import com.apisports.knime.core.cache.DeflateCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory cache reads and writes under contention, with the codec the connector uses.
+ * The disk tier is left out so results do not depend on the file system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheManagerBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    /** Recorded response cached under every key. */
+    @Param({"fixtures", "fixture-full"})
+    public String recording;
+
+    private CacheManager cache;
+    private String[] keys;
+    private String value;
+
+    @Setup
+    public void setUp() {
+        cache = new CacheManager(CacheManager.DEFAULT_L1_MAX_BYTES, Duration.ofHours(1),
+            DeflateCodec.withApiSportsDictionary(), null);
+        value = BenchmarkSupport.recording(recording);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "football:/fixtures:id=" + (100000 + i) + ";";
+            cache.put(keys[i], value);
+        }
+    }
+
+    private String randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String get() {
+        return cache.get(randomKey());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void put() {
+        cache.put(randomKey(), value);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public String mixedGet() {
+        return cache.get(randomKey());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void mixedPut() {
+        cache.put(randomKey(), value);
+    }
+}
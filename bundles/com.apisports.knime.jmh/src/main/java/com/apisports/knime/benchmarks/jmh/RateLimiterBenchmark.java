@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks.jmh;
+
+import com.apisports.knime.core.ratelimit.RateLimiterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Token acquisition by concurrent threads, on one shared API key and on a key per thread.
+ * Run with {@code -t <n>} to change the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    /**
+     * Per-minute budget: 100 keeps the bucket empty and measures rejections, the large
+     * budget measures granted tokens.
+     */
+    @Param({"100", "1000000000"})
+    public int requestsPerMinute;
+
+    private RateLimiterManager rateLimiter;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiterManager(requestsPerMinute, Integer.MAX_VALUE);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private static final AtomicInteger NEXT = new AtomicInteger();
+
+        final String apiKey = "benchmark-key-" + NEXT.getAndIncrement();
+    }
+
+    @Benchmark
+    public boolean sharedKey() {
+        return rateLimiter.tryAcquire("benchmark-key");
+    }
+
+    @Benchmark
+    public boolean keyPerThread(ThreadKey threadKey) {
+        return rateLimiter.tryAcquire(threadKey.apiKey);
+    }
+}
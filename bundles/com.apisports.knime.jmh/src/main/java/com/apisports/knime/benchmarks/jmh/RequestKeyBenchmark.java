@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks.jmh;
+
+import com.apisports.knime.core.cache.CacheManager;
+import com.apisports.knime.core.cache.DeflateCodec;
+import com.apisports.knime.core.client.ApiSportsHttpClient;
+import com.apisports.knime.core.client.RequestKey;
+import com.apisports.knime.core.model.Sport;
+import com.apisports.knime.core.ratelimit.RateLimiterManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the request key (canonical query, cache key and digest) and the request
+ * URI, done for every client call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestKeyBenchmark {
+
+    /** Number of query parameters, as sent by the simplest up to the most specific queries. */
+    @Param({"0", "2", "6"})
+    public int parameterCount;
+
+    private ApiSportsHttpClient client;
+    private String endpoint;
+    private Map<String, String> queryParams;
+    private RequestKey requestKey;
+
+    @Setup
+    public void setUp() {
+        client = new ApiSportsHttpClient("benchmark-key", Sport.FOOTBALL, new RateLimiterManager(),
+            new CacheManager(CacheManager.DEFAULT_L1_MAX_BYTES, Duration.ofHours(1),
+                DeflateCodec.withApiSportsDictionary(), null),
+            4, null);
+        endpoint = "/fixtures";
+
+        String[][] params = {
+            {"league", "39"}, {"season", "2024"}, {"team", "33"},
+            {"from", "2024-08-01"}, {"to", "2025-05-31"}, {"timezone", "Europe/London"}
+        };
+        queryParams = new HashMap<>();
+        for (int i = 0; i < parameterCount; i++) {
+            queryParams.put(params[i][0], params[i][1]);
+        }
+        requestKey = RequestKey.of(Sport.FOOTBALL.getId(), endpoint, queryParams);
+    }
+
+    @Benchmark
+    public RequestKey buildRequestKey() {
+        return RequestKey.of(Sport.FOOTBALL.getId(), endpoint, queryParams);
+    }
+
+    /**
+     * The request URI as the client builds it from its base URL and the request key.
+     */
+    @Benchmark
+    public URI buildUri() {
+        return URI.create(client.getBaseUrl() + requestKey.getPathAndQuery());
+    }
+}
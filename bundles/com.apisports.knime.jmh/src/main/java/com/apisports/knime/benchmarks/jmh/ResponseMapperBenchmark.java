@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.benchmarks.jmh;
+
+import com.apisports.knime.core.client.ResponseMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of recorded response envelopes into a JSON tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMapperBenchmark {
+
+    @Param({"fixtures", "fixture-full", "players", "odds", "leagues"})
+    public String recording;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        json = BenchmarkSupport.recording(recording);
+    }
+
+    @Benchmark
+    public JsonNode mapToTree() throws IOException {
+        return ResponseMapper.map(json, JsonNode.class);
+    }
+
+    @Benchmark
+    public JsonNode readTree() throws IOException {
+        return ResponseMapper.readTree(json);
+    }
+
+    /**
+     * A new mapper for every parse, with cold caches and symbol table.
+     */
+    @Benchmark
+    public JsonNode readTreeWithNewMapper() throws IOException {
+        return new ObjectMapper().readTree(json);
+    }
+}
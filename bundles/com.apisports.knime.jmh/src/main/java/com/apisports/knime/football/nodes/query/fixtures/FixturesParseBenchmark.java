@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.football.nodes.query.fixtures;
+
+import com.apisports.knime.benchmarks.jmh.BenchmarkSupport;
+import com.apisports.knime.core.client.ResponseMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.knime.core.data.DataRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a fully detailed fixture (events, statistics, lineups and player
+ * statistics of a real match) into a Fixtures node output row. Lives in the node's package
+ * to call its package-visible parsing methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixturesParseBenchmark {
+
+    /** Whether the include options for events, statistics, lineups and player statistics are on. */
+    @Param({"false", "true"})
+    public boolean includeDetails;
+
+    /** Format of the event and lineup detail columns, see the node's detail format option. */
+    @Param({"Text", "Lists"})
+    public String detailFormat;
+
+    private FixturesNodeModel model;
+    private JsonNode fixtureItem;
+    private JsonNode events;
+    private JsonNode statistics;
+    private JsonNode lineups;
+    private JsonNode players;
+
+    @Setup
+    public void setUp() throws Exception {
+        model = new DetailedFixturesNodeModel(includeDetails, detailFormat);
+        fixtureItem = ResponseMapper.map(BenchmarkSupport.recording("fixture-full"), JsonNode.class)
+            .get("response").get(0);
+        if (includeDetails) {
+            events = fixtureItem.get("events");
+            statistics = fixtureItem.get("statistics");
+            lineups = fixtureItem.get("lineups");
+            players = fixtureItem.get("players");
+        }
+    }
+
+    @Benchmark
+    public DataRow parseFixtureRow() {
+        return model.parseFixtureRow(fixtureItem, events, statistics, lineups, players, 0);
+    }
+
+    @Benchmark
+    public Object parseEvents() {
+        return model.parseEvents(fixtureItem.get("events"));
+    }
+
+    /**
+     * Fixtures node model with the include and detail format options set as in the dialog.
+     */
+    private static final class DetailedFixturesNodeModel extends FixturesNodeModel {
+        DetailedFixturesNodeModel(boolean includeDetails, String detailFormat) {
+            super(FixturesNodeFactory.createPortsConfigurationBuilder().build());
+            m_includeEvents.setBooleanValue(includeDetails);
+            m_includeStatistics.setBooleanValue(includeDetails);
+            m_includeLineups.setBooleanValue(includeDetails);
+            m_includePlayerStats.setBooleanValue(includeDetails);
+            m_detailFormat.setStringValue(detailFormat);
+        }
+    }
+}
@@ -24,19 +24,86 @@ import com.apisports.knime.port.ReferenceData.Team;
 import java.io.File;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 
 /**
  * Data Access Object for Reference Data SQLite database.
  * Handles all CRUD operations for countries, leagues, seasons, and teams.
  * Uses prepared statements to prevent SQL injection.
+ *
+ * Upserts only write rows whose values changed, so refreshing a database with mostly
+ * unchanged data rewrites little. Per-league team freshness is kept in the metadata
+ * table to support incremental refreshes.
+ *
+ * The database runs in WAL mode, so readers keep seeing the last committed data while a
+ * loader writes. Each write method commits on its own, unless a {@link BulkLoad} is open,
+ * in which case all writes become visible together when the bulk load commits.
  */
 public class ReferenceDAO implements AutoCloseable {
 
+    private static final String TEAMS_UPDATED_KEY_PREFIX = "teams_updated:";
+    private static final String TEAMS_SEASON_KEY = "teams_season";
+
+    /** Rows per executeBatch() call, to bound the memory held by pending batches. */
+    private static final int BATCH_SIZE = 500;
+    /** Page cache size in KiB (negative values are KiB for SQLite). */
+    private static final int CACHE_SIZE_KIB = 16 * 1024;
+    private static final long MMAP_SIZE_BYTES = 64L * 1024 * 1024;
+    private static final int BUSY_TIMEOUT_MILLIS = 5000;
+
     private final String dbPath;
     private Connection connection;
+    private BulkLoad bulkLoad;
+
+    /**
+     * A single transaction spanning many write calls. Writes made while it is open are
+     * committed together by {@link #commit()}; closing it without committing rolls them back.
+     */
+    public final class BulkLoad implements AutoCloseable {
+
+        private boolean committed;
+
+        private BulkLoad() {
+        }
+
+        /**
+         * Commit all writes made since the bulk load began.
+         */
+        public void commit() throws SQLException {
+            if (committed) {
+                throw new IllegalStateException("Bulk load already committed");
+            }
+            connection.commit();
+            committed = true;
+        }
+
+        /**
+         * End the bulk load, rolling back its writes unless it was committed.
+         */
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (!committed) {
+                    connection.rollback();
+                }
+            } finally {
+                bulkLoad = null;
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
 
     public ReferenceDAO(String dbPath) throws SQLException {
         this.dbPath = dbPath;
@@ -47,15 +114,82 @@ public class ReferenceDAO implements AutoCloseable {
             parentDir.mkdirs();
         }
 
-        // Explicitly load SQLite JDBC driver (required in OSGi environments)
+        loadDriver();
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath);
+        configureConnection();
+        initializeDatabase();
+    }
+
+    /**
+     * Explicitly load SQLite JDBC driver (required in OSGi environments).
+     */
+    private static void loadDriver() throws SQLException {
         try {
             Class.forName("org.sqlite.JDBC");
         } catch (ClassNotFoundException e) {
             throw new SQLException("SQLite JDBC driver not found. Ensure sqlite-jdbc JAR is in bundle classpath.", e);
         }
+    }
 
-        this.connection = DriverManager.getConnection("jdbc:sqlite:" + dbPath);
-        initializeDatabase();
+    /**
+     * Tune the connection for write throughput. WAL keeps readers off the writer's lock,
+     * and synchronous=NORMAL is durable across application crashes in WAL mode.
+     */
+    private void configureConnection() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MILLIS);
+            stmt.execute("PRAGMA journal_mode = WAL");
+            stmt.execute("PRAGMA synchronous = NORMAL");
+            stmt.execute("PRAGMA cache_size = -" + CACHE_SIZE_KIB);
+            stmt.execute("PRAGMA mmap_size = " + MMAP_SIZE_BYTES);
+            stmt.execute("PRAGMA temp_store = MEMORY");
+        }
+    }
+
+    /**
+     * Begin a bulk load. Until it is committed, writes are not visible to other connections.
+     * @return The bulk load, to be committed and closed by the caller
+     */
+    public BulkLoad beginBulkLoad() throws SQLException {
+        if (bulkLoad != null) {
+            throw new IllegalStateException("A bulk load is already in progress");
+        }
+        connection.setAutoCommit(false);
+        bulkLoad = new BulkLoad();
+        return bulkLoad;
+    }
+
+    /**
+     * Run the work in its own transaction, or as part of the open bulk load.
+     */
+    private void inTransaction(SqlWork work) throws SQLException {
+        if (bulkLoad != null) {
+            work.run();
+            return;
+        }
+        connection.setAutoCommit(false);
+        try {
+            work.run();
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Add the current parameters to the batch, executing it once it holds {@link #BATCH_SIZE} rows.
+     * @return Number of rows now pending in the batch
+     */
+    private static int addToBatch(PreparedStatement stmt, int pending) throws SQLException {
+        stmt.addBatch();
+        if (++pending >= BATCH_SIZE) {
+            stmt.executeBatch();
+            return 0;
+        }
+        return pending;
     }
 
     /**
@@ -134,14 +268,16 @@ public class ReferenceDAO implements AutoCloseable {
      * Clear all data from all tables.
      */
     public void clearAll() throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute("DELETE FROM team_leagues");
-            stmt.execute("DELETE FROM teams");
-            stmt.execute("DELETE FROM seasons");
-            stmt.execute("DELETE FROM leagues");
-            stmt.execute("DELETE FROM countries");
-            stmt.execute("DELETE FROM metadata");
-        }
+        inTransaction(() -> {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DELETE FROM team_leagues");
+                stmt.execute("DELETE FROM teams");
+                stmt.execute("DELETE FROM seasons");
+                stmt.execute("DELETE FROM leagues");
+                stmt.execute("DELETE FROM countries");
+                stmt.execute("DELETE FROM metadata");
+            }
+        });
     }
 
     /**
@@ -149,12 +285,30 @@ public class ReferenceDAO implements AutoCloseable {
      * Use this when reloading with different filters.
      */
     public void clearLeaguesAndRelatedData() throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute("DELETE FROM team_leagues");
-            stmt.execute("DELETE FROM teams");
-            stmt.execute("DELETE FROM seasons");
-            stmt.execute("DELETE FROM leagues");
-        }
+        inTransaction(() -> {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DELETE FROM team_leagues");
+                stmt.execute("DELETE FROM teams");
+                stmt.execute("DELETE FROM seasons");
+                stmt.execute("DELETE FROM leagues");
+                stmt.execute("DELETE FROM metadata WHERE key LIKE '" + TEAMS_UPDATED_KEY_PREFIX + "%'" +
+                             " OR key = '" + TEAMS_SEASON_KEY + "'");
+            }
+        });
+    }
+
+    /**
+     * Clear teams and their league associations, keeping leagues and seasons.
+     */
+    public void clearTeams() throws SQLException {
+        inTransaction(() -> {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DELETE FROM team_leagues");
+                stmt.execute("DELETE FROM teams");
+                stmt.execute("DELETE FROM metadata WHERE key LIKE '" + TEAMS_UPDATED_KEY_PREFIX + "%'" +
+                             " OR key = '" + TEAMS_SEASON_KEY + "'");
+            }
+        });
     }
 
     // ========== Metadata Operations ==========
@@ -164,6 +318,29 @@ public class ReferenceDAO implements AutoCloseable {
      * @return Timestamp in milliseconds, or 0 if never updated
      */
     public long getLastUpdateTimestamp() throws SQLException {
+        return queryLastUpdateTimestamp(connection);
+    }
+
+    /**
+     * Get the timestamp when reference data was last updated, without opening a DAO. The
+     * database is opened read-only, so neither the schema nor the connection settings are
+     * touched, which makes this cheap enough to check for changes before every read.
+     * @param dbPath Path to the SQLite database file
+     * @return Timestamp in milliseconds, or 0 if the database does not exist or was never updated
+     */
+    public static long readLastUpdateTimestamp(String dbPath) throws SQLException {
+        if (!new File(dbPath).isFile()) {
+            return 0;
+        }
+        loadDriver();
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", "1");  // SQLITE_OPEN_READONLY
+        try (Connection readOnly = DriverManager.getConnection("jdbc:sqlite:" + dbPath, properties)) {
+            return queryLastUpdateTimestamp(readOnly);
+        }
+    }
+
+    private static long queryLastUpdateTimestamp(Connection connection) throws SQLException {
         String sql = "SELECT value FROM metadata WHERE key = 'last_update_timestamp'";
         try (Statement stmt = connection.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
@@ -258,22 +435,94 @@ public class ReferenceDAO implements AutoCloseable {
         return !storedHash.equals(currentConfigHash);
     }
 
+    /**
+     * Get the time the teams of each league were last loaded.
+     * @return Timestamps in milliseconds by league ID; leagues never loaded are absent
+     */
+    public Map<Integer, Long> getTeamsUpdatedTimestamps() throws SQLException {
+        Map<Integer, Long> timestamps = new HashMap<>();
+        String sql = "SELECT key, value FROM metadata WHERE key LIKE '" + TEAMS_UPDATED_KEY_PREFIX + "%'";
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                try {
+                    int leagueId = Integer.parseInt(rs.getString("key").substring(TEAMS_UPDATED_KEY_PREFIX.length()));
+                    timestamps.put(leagueId, Long.parseLong(rs.getString("value")));
+                } catch (NumberFormatException e) {
+                    // Ignore malformed entries - the league is treated as never loaded
+                }
+            }
+        }
+        return timestamps;
+    }
+
+    /**
+     * Record the time the teams of the given leagues were loaded.
+     * @param leagueIds League IDs
+     * @param timestamp Timestamp in milliseconds
+     */
+    public void setTeamsUpdatedTimestamps(Collection<Integer> leagueIds, long timestamp) throws SQLException {
+        String sql = "INSERT OR REPLACE INTO metadata (key, value) VALUES (?, ?)";
+        inTransaction(() -> {
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (int leagueId : leagueIds) {
+                    pstmt.setString(1, TEAMS_UPDATED_KEY_PREFIX + leagueId);
+                    pstmt.setString(2, String.valueOf(timestamp));
+                    pending = addToBatch(pstmt, pending);
+                }
+                pstmt.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Get the season teams were loaded for.
+     * @return Season year, or 0 if teams were never loaded
+     */
+    public int getTeamsSeason() throws SQLException {
+        String sql = "SELECT value FROM metadata WHERE key = '" + TEAMS_SEASON_KEY + "'";
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                return Integer.parseInt(rs.getString("value"));
+            }
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Set the season teams were loaded for.
+     * @param season Season year
+     */
+    public void setTeamsSeason(int season) throws SQLException {
+        String sql = "INSERT OR REPLACE INTO metadata (key, value) VALUES ('" + TEAMS_SEASON_KEY + "', ?)";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, String.valueOf(season));
+            pstmt.executeUpdate();
+        }
+    }
+
     // ========== Country Operations ==========
 
     public void upsertCountries(List<Country> countries) throws SQLException {
-        String sql = "INSERT OR REPLACE INTO countries (name, code, flag) VALUES (?, ?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            connection.setAutoCommit(false);
-            for (Country country : countries) {
-                pstmt.setString(1, country.getName());
-                pstmt.setString(2, country.getCode());
-                pstmt.setString(3, country.getFlag());
-                pstmt.addBatch();
+        String sql = "INSERT INTO countries (name, code, flag) VALUES (?, ?, ?) " +
+                     "ON CONFLICT(name) DO UPDATE SET code = excluded.code, flag = excluded.flag " +
+                     "WHERE code IS NOT excluded.code OR flag IS NOT excluded.flag";
+        inTransaction(() -> {
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (Country country : countries) {
+                    pstmt.setString(1, country.getName());
+                    pstmt.setString(2, country.getCode());
+                    pstmt.setString(3, country.getFlag());
+                    pending = addToBatch(pstmt, pending);
+                }
+                pstmt.executeBatch();
             }
-            pstmt.executeBatch();
-            connection.commit();
-            connection.setAutoCommit(true);
-        }
+        });
     }
 
     public List<Country> getAllCountries() throws SQLException {
@@ -296,21 +545,25 @@ public class ReferenceDAO implements AutoCloseable {
     // ========== League Operations ==========
 
     public void upsertLeagues(List<League> leagues) throws SQLException {
-        String sql = "INSERT OR REPLACE INTO leagues (id, name, type, country_name, logo) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            connection.setAutoCommit(false);
-            for (League league : leagues) {
-                pstmt.setInt(1, league.getId());
-                pstmt.setString(2, league.getName());
-                pstmt.setString(3, league.getType());
-                pstmt.setString(4, league.getCountryName());
-                pstmt.setString(5, league.getLogo());
-                pstmt.addBatch();
+        String sql = "INSERT INTO leagues (id, name, type, country_name, logo) VALUES (?, ?, ?, ?, ?) " +
+                     "ON CONFLICT(id) DO UPDATE SET name = excluded.name, type = excluded.type, " +
+                     "country_name = excluded.country_name, logo = excluded.logo " +
+                     "WHERE name IS NOT excluded.name OR type IS NOT excluded.type " +
+                     "OR country_name IS NOT excluded.country_name OR logo IS NOT excluded.logo";
+        inTransaction(() -> {
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (League league : leagues) {
+                    pstmt.setInt(1, league.getId());
+                    pstmt.setString(2, league.getName());
+                    pstmt.setString(3, league.getType());
+                    pstmt.setString(4, league.getCountryName());
+                    pstmt.setString(5, league.getLogo());
+                    pending = addToBatch(pstmt, pending);
+                }
+                pstmt.executeBatch();
             }
-            pstmt.executeBatch();
-            connection.commit();
-            connection.setAutoCommit(true);
-        }
+        });
     }
 
     public List<League> getAllLeagues() throws SQLException {
@@ -353,25 +606,74 @@ public class ReferenceDAO implements AutoCloseable {
         return leagues;
     }
 
+    /**
+     * Delete leagues that are not in the given set, together with their seasons,
+     * team associations and teams left without a league.
+     * @param keepIds IDs of the leagues to keep
+     * @return Number of leagues deleted
+     */
+    public int deleteLeaguesNotIn(Set<Integer> keepIds) throws SQLException {
+        List<Integer> removed = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM leagues")) {
+            while (rs.next()) {
+                if (!keepIds.contains(rs.getInt("id"))) {
+                    removed.add(rs.getInt("id"));
+                }
+            }
+        }
+        if (removed.isEmpty()) {
+            return 0;
+        }
+
+        inTransaction(() -> {
+            try (PreparedStatement leagueStmt = connection.prepareStatement("DELETE FROM leagues WHERE id = ?");
+                 PreparedStatement seasonStmt = connection.prepareStatement("DELETE FROM seasons WHERE league_id = ?");
+                 PreparedStatement linkStmt = connection.prepareStatement("DELETE FROM team_leagues WHERE league_id = ?");
+                 PreparedStatement metaStmt = connection.prepareStatement("DELETE FROM metadata WHERE key = ?")) {
+                for (int leagueId : removed) {
+                    leagueStmt.setInt(1, leagueId);
+                    leagueStmt.addBatch();
+                    seasonStmt.setInt(1, leagueId);
+                    seasonStmt.addBatch();
+                    linkStmt.setInt(1, leagueId);
+                    linkStmt.addBatch();
+                    metaStmt.setString(1, TEAMS_UPDATED_KEY_PREFIX + leagueId);
+                    metaStmt.addBatch();
+                }
+                leagueStmt.executeBatch();
+                seasonStmt.executeBatch();
+                linkStmt.executeBatch();
+                metaStmt.executeBatch();
+                deleteOrphanTeams();
+            }
+        });
+        return removed.size();
+    }
+
     // ========== Season Operations ==========
 
     public void upsertSeasons(List<Season> seasons) throws SQLException {
-        String sql = "INSERT OR REPLACE INTO seasons (league_id, year, start_date, end_date, is_current) " +
-                     "VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            connection.setAutoCommit(false);
-            for (Season season : seasons) {
-                pstmt.setInt(1, season.getLeagueId());
-                pstmt.setInt(2, season.getYear());
-                pstmt.setString(3, season.getStartDate());
-                pstmt.setString(4, season.getEndDate());
-                pstmt.setInt(5, season.isCurrent() ? 1 : 0);
-                pstmt.addBatch();
+        String sql = "INSERT INTO seasons (league_id, year, start_date, end_date, is_current) " +
+                     "VALUES (?, ?, ?, ?, ?) " +
+                     "ON CONFLICT(league_id, year) DO UPDATE SET start_date = excluded.start_date, " +
+                     "end_date = excluded.end_date, is_current = excluded.is_current " +
+                     "WHERE start_date IS NOT excluded.start_date OR end_date IS NOT excluded.end_date " +
+                     "OR is_current IS NOT excluded.is_current";
+        inTransaction(() -> {
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (Season season : seasons) {
+                    pstmt.setInt(1, season.getLeagueId());
+                    pstmt.setInt(2, season.getYear());
+                    pstmt.setString(3, season.getStartDate());
+                    pstmt.setString(4, season.getEndDate());
+                    pstmt.setInt(5, season.isCurrent() ? 1 : 0);
+                    pending = addToBatch(pstmt, pending);
+                }
+                pstmt.executeBatch();
             }
-            pstmt.executeBatch();
-            connection.commit();
-            connection.setAutoCommit(true);
-        }
+        });
     }
 
     public List<Season> getAllSeasons() throws SQLException {
@@ -415,44 +717,128 @@ public class ReferenceDAO implements AutoCloseable {
         return seasons;
     }
 
+    /**
+     * Delete seasons that are not in the given list.
+     * @param keep Seasons to keep
+     * @return Number of seasons deleted
+     */
+    public int retainSeasons(Collection<Season> keep) throws SQLException {
+        Set<String> keepKeys = new HashSet<>();
+        for (Season season : keep) {
+            keepKeys.add(season.getLeagueId() + ":" + season.getYear());
+        }
+
+        List<int[]> removed = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT league_id, year FROM seasons")) {
+            while (rs.next()) {
+                int leagueId = rs.getInt("league_id");
+                int year = rs.getInt("year");
+                if (!keepKeys.contains(leagueId + ":" + year)) {
+                    removed.add(new int[]{leagueId, year});
+                }
+            }
+        }
+        if (removed.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "DELETE FROM seasons WHERE league_id = ? AND year = ?";
+        inTransaction(() -> {
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (int[] key : removed) {
+                    pstmt.setInt(1, key[0]);
+                    pstmt.setInt(2, key[1]);
+                    pending = addToBatch(pstmt, pending);
+                }
+                pstmt.executeBatch();
+            }
+        });
+        return removed.size();
+    }
+
     // ========== Team Operations ==========
 
     public void upsertTeams(List<Team> teams) throws SQLException {
-        String teamSql = "INSERT OR REPLACE INTO teams (id, name, code, country, logo) VALUES (?, ?, ?, ?, ?)";
+        String teamSql = "INSERT INTO teams (id, name, code, country, logo) VALUES (?, ?, ?, ?, ?) " +
+                         "ON CONFLICT(id) DO UPDATE SET name = excluded.name, code = excluded.code, " +
+                         "country = excluded.country, logo = excluded.logo " +
+                         "WHERE name IS NOT excluded.name OR code IS NOT excluded.code " +
+                         "OR country IS NOT excluded.country OR logo IS NOT excluded.logo";
         String junctionSql = "INSERT OR IGNORE INTO team_leagues (team_id, league_id) VALUES (?, ?)";
 
-        connection.setAutoCommit(false);
+        inTransaction(() -> {
+            try (PreparedStatement teamStmt = connection.prepareStatement(teamSql);
+                 PreparedStatement junctionStmt = connection.prepareStatement(junctionSql)) {
+
+                int pendingTeams = 0;
+                int pendingLinks = 0;
+                for (Team team : teams) {
+                    // Insert team
+                    teamStmt.setInt(1, team.getId());
+                    teamStmt.setString(2, team.getName());
+                    teamStmt.setString(3, team.getCode());
+                    teamStmt.setString(4, team.getCountry());
+                    teamStmt.setString(5, team.getLogo());
+                    pendingTeams = addToBatch(teamStmt, pendingTeams);
+
+                    // Insert team-league associations
+                    for (int leagueId : team.getLeagueIds()) {
+                        junctionStmt.setInt(1, team.getId());
+                        junctionStmt.setInt(2, leagueId);
+                        pendingLinks = addToBatch(junctionStmt, pendingLinks);
+                    }
+                }
 
-        try (PreparedStatement teamStmt = connection.prepareStatement(teamSql);
-             PreparedStatement junctionStmt = connection.prepareStatement(junctionSql)) {
-
-            for (Team team : teams) {
-                // Insert team
-                teamStmt.setInt(1, team.getId());
-                teamStmt.setString(2, team.getName());
-                teamStmt.setString(3, team.getCode());
-                teamStmt.setString(4, team.getCountry());
-                teamStmt.setString(5, team.getLogo());
-                teamStmt.addBatch();
-
-                // Insert team-league associations
-                for (int leagueId : team.getLeagueIds()) {
-                    junctionStmt.setInt(1, team.getId());
-                    junctionStmt.setInt(2, leagueId);
-                    junctionStmt.addBatch();
+                teamStmt.executeBatch();
+                junctionStmt.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * Make the stored teams of each given league exactly the given team IDs, by removing
+     * associations to teams that are no longer listed. Teams left without any league are
+     * deleted. New associations are added by {@link #upsertTeams(List)}.
+     * @param teamIdsByLeague Current team IDs by league ID
+     */
+    public void retainLeagueTeams(Map<Integer, Set<Integer>> teamIdsByLeague) throws SQLException {
+        String selectSql = "SELECT team_id FROM team_leagues WHERE league_id = ?";
+        String deleteSql = "DELETE FROM team_leagues WHERE team_id = ? AND league_id = ?";
+
+        inTransaction(() -> {
+            try (PreparedStatement selectStmt = connection.prepareStatement(selectSql);
+                 PreparedStatement deleteStmt = connection.prepareStatement(deleteSql)) {
+                for (Map.Entry<Integer, Set<Integer>> entry : teamIdsByLeague.entrySet()) {
+                    selectStmt.setInt(1, entry.getKey());
+                    try (ResultSet rs = selectStmt.executeQuery()) {
+                        while (rs.next()) {
+                            int teamId = rs.getInt("team_id");
+                            if (!entry.getValue().contains(teamId)) {
+                                deleteStmt.setInt(1, teamId);
+                                deleteStmt.setInt(2, entry.getKey());
+                                deleteStmt.addBatch();
+                            }
+                        }
+                    }
                 }
+                deleteStmt.executeBatch();
+                deleteOrphanTeams();
             }
+        });
+    }
 
-            teamStmt.executeBatch();
-            junctionStmt.executeBatch();
-            connection.commit();
-        } finally {
-            connection.setAutoCommit(true);
+    private void deleteOrphanTeams() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DELETE FROM teams WHERE id NOT IN (SELECT team_id FROM team_leagues)");
         }
     }
 
     public List<Team> getAllTeams() throws SQLException {
-        Map<Integer, Team> teamMap = new HashMap<>();
+        // Collect league IDs per team first and build each Team once
+        Map<Integer, Team> teamMap = new LinkedHashMap<>();
+        Map<Integer, List<Integer>> leagueIdsByTeam = new HashMap<>();
 
         String sql = "SELECT t.id, t.name, t.code, t.country, t.logo, tl.league_id " +
                      "FROM teams t " +
@@ -471,31 +857,28 @@ public class ReferenceDAO implements AutoCloseable {
                         rs.getString("code"),
                         rs.getString("country"),
                         rs.getString("logo"),
-                        new ArrayList<>()
+                        null
                     ));
                 }
 
                 // Add league ID if present
                 int leagueId = rs.getInt("league_id");
                 if (!rs.wasNull() && leagueId > 0) {
-                    Team existingTeam = teamMap.get(teamId);
-                    List<Integer> leagueIds = new ArrayList<>(existingTeam.getLeagueIds());
+                    List<Integer> leagueIds = leagueIdsByTeam.computeIfAbsent(teamId, id -> new ArrayList<>());
                     if (!leagueIds.contains(leagueId)) {
                         leagueIds.add(leagueId);
-                        teamMap.put(teamId, new Team(
-                            existingTeam.getId(),
-                            existingTeam.getName(),
-                            existingTeam.getCode(),
-                            existingTeam.getCountry(),
-                            existingTeam.getLogo(),
-                            leagueIds
-                        ));
                     }
                 }
             }
         }
 
-        return new ArrayList<>(teamMap.values());
+        List<Team> teams = new ArrayList<>(teamMap.size());
+        for (Team team : teamMap.values()) {
+            List<Integer> leagueIds = leagueIdsByTeam.get(team.getId());
+            teams.add(leagueIds == null ? team : new Team(
+                team.getId(), team.getName(), team.getCode(), team.getCountry(), team.getLogo(), leagueIds));
+        }
+        return teams;
     }
 
     public List<Team> getTeamsByLeague(int leagueId) throws SQLException {
@@ -562,6 +945,9 @@ public class ReferenceDAO implements AutoCloseable {
     @Override
     public void close() throws SQLException {
         if (connection != null && !connection.isClosed()) {
+            if (bulkLoad != null) {
+                bulkLoad.close();
+            }
             connection.close();
         }
     }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 Carone Labs
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.apisports.knime.port;
+
+import com.apisports.knime.port.ReferenceData.League;
+import com.apisports.knime.port.ReferenceData.Season;
+import com.apisports.knime.port.ReferenceData.Team;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable in-memory copy of a reference data database, indexed by ID.
+ *
+ * Snapshots are shared process-wide: {@link #get(String)} returns the cached snapshot of a
+ * database as long as its last update timestamp is unchanged, so query nodes and dialogs
+ * reading the same database load it only once per Reference Data Loader run. The Reference
+ * Data Loader drops the snapshot of its database with {@link #invalidate(String)} when the
+ * node is disposed.
+ */
+public final class ReferenceDataSnapshot {
+
+    private static final Map<String, ReferenceDataSnapshot> CACHE = new ConcurrentHashMap<>();
+
+    private final String dbPath;
+    private final long version;
+    private final List<League> leagues;
+    private final List<Season> seasons;
+    private final List<Team> teams;
+
+    private final IntHashIndex<League> leaguesById;
+    private final IntHashIndex<Team> teamsById;
+    private final IntHashIndex<List<Season>> seasonsByLeague;
+    private final IntHashIndex<List<Team>> teamsByLeague;
+
+    private ReferenceDataSnapshot(String dbPath, long version, List<League> leagues,
+                                  List<Season> seasons, List<Team> teams) {
+        this.dbPath = dbPath;
+        this.version = version;
+        this.leagues = Collections.unmodifiableList(leagues);
+        this.seasons = Collections.unmodifiableList(seasons);
+        this.teams = Collections.unmodifiableList(teams);
+
+        leaguesById = new IntHashIndex<>(leagues.size());
+        for (League league : leagues) {
+            if (league.getId() > 0) {
+                leaguesById.put(league.getId(), league);
+            }
+        }
+
+        teamsById = new IntHashIndex<>(teams.size());
+        for (Team team : teams) {
+            if (team.getId() > 0) {
+                teamsById.put(team.getId(), team);
+            }
+        }
+
+        // Group lists keep the order of the full lists
+        IntHashIndex<List<Season>> seasonGroups = new IntHashIndex<>(leagues.size());
+        for (Season season : seasons) {
+            if (season.getLeagueId() <= 0) {
+                continue;
+            }
+            seasonGroups.computeIfAbsent(season.getLeagueId(), ArrayList::new).add(season);
+        }
+        seasonsByLeague = seasonGroups;
+
+        IntHashIndex<List<Team>> teamGroups = new IntHashIndex<>(leagues.size());
+        for (Team team : teams) {
+            for (int leagueId : team.getLeagueIds()) {
+                if (leagueId <= 0) {
+                    continue;
+                }
+                teamGroups.computeIfAbsent(leagueId, ArrayList::new).add(team);
+            }
+        }
+        teamsByLeague = teamGroups;
+    }
+
+    /**
+     * Get the snapshot of a database, loading it if the database changed since the cached
+     * snapshot was taken. The check reads the update timestamp over a read-only connection;
+     * only a load opens the database fully. Concurrent callers for the same database wait
+     * for a single load.
+     *
+     * @param dbPath Path to the SQLite database file
+     * @return The current snapshot
+     * @throws SQLException if the database cannot be read
+     */
+    public static ReferenceDataSnapshot get(String dbPath) throws SQLException {
+        String key = new File(dbPath).getAbsolutePath();
+        long currentVersion = ReferenceDAO.readLastUpdateTimestamp(dbPath);
+        ReferenceDataSnapshot cached = CACHE.get(key);
+        if (cached != null && cached.version == currentVersion) {
+            return cached;
+        }
+        try {
+            return CACHE.compute(key, (path, previous) -> {
+                if (previous != null && previous.version == currentVersion) {
+                    // Loaded by a concurrent caller
+                    return previous;
+                }
+                try (ReferenceDAO dao = new ReferenceDAO(dbPath)) {
+                    return new ReferenceDataSnapshot(dbPath, dao.getLastUpdateTimestamp(),
+                        dao.getAllLeagues(), dao.getAllSeasons(), dao.getAllTeams());
+                } catch (SQLException e) {
+                    throw new SnapshotLoadException(e);
+                }
+            });
+        } catch (SnapshotLoadException e) {
+            throw (SQLException) e.getCause();
+        }
+    }
+
+    /**
+     * Drop the cached snapshot of a database.
+     */
+    public static void invalidate(String dbPath) {
+        CACHE.remove(new File(dbPath).getAbsolutePath());
+    }
+
+    public String getDbPath() {
+        return dbPath;
+    }
+
+    /**
+     * Get the last update timestamp of the database this snapshot was taken from.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public List<League> getLeagues() {
+        return leagues;
+    }
+
+    public List<Season> getSeasons() {
+        return seasons;
+    }
+
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    /**
+     * @return The league, or null if not present
+     */
+    public League getLeague(int leagueId) {
+        return leaguesById.get(leagueId);
+    }
+
+    /**
+     * @return The team, or null if not present
+     */
+    public Team getTeam(int teamId) {
+        return teamsById.get(teamId);
+    }
+
+    /**
+     * @return Seasons of the league, most recent first
+     */
+    public List<Season> getSeasonsByLeague(int leagueId) {
+        List<Season> result = seasonsByLeague.get(leagueId);
+        return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
+    }
+
+    /**
+     * @return Teams playing in the league
+     */
+    public List<Team> getTeamsByLeague(int leagueId) {
+        List<Team> result = teamsByLeague.get(leagueId);
+        return result != null ? Collections.unmodifiableList(result) : Collections.emptyList();
+    }
+
+    /**
+     * Carries a checked exception out of the cache's compute function.
+     */
+    private static final class SnapshotLoadException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SnapshotLoadException(SQLException cause) {
+            super(cause);
+        }
+    }
+}